@@ -0,0 +1,64 @@
+package com.realestate.gateway.cache;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * A stored upstream response. Headers exclude hop-by-hop and length headers, and always carry an ETag:
+ * the upstream one, or a hash of the body.
+ */
+public record CachedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body, String etag, Duration ttl,
+        long storedAt) {
+
+    private static final List<String> EXCLUDED_HEADERS = List.of(
+            HttpHeaders.CONTENT_LENGTH, HttpHeaders.TRANSFER_ENCODING, HttpHeaders.CONNECTION, "Keep-Alive",
+            HttpHeaders.DATE, HttpHeaders.SET_COOKIE);
+
+    static CachedResponse of(HttpStatusCode status, HttpHeaders upstream, byte[] body, Duration ttl) {
+        HttpHeaders headers = new HttpHeaders();
+        upstream.forEach((name, values) -> {
+            if (EXCLUDED_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+                headers.put(name, List.copyOf(values));
+            }
+        });
+        String etag = upstream.getETag() != null ? upstream.getETag() : hashEtag(body);
+        headers.setETag(etag);
+        // Without upstream directions, make clients revalidate so repeat views get a 304
+        if (headers.getCacheControl() == null) {
+            headers.setCacheControl("no-cache");
+        }
+        return new CachedResponse(status, HttpHeaders.readOnlyHttpHeaders(headers), body, etag, ttl,
+                System.currentTimeMillis());
+    }
+
+    long ageSeconds() {
+        return Math.max(0, (System.currentTimeMillis() - storedAt) / 1000);
+    }
+
+    /** Approximate bytes held, for the cache weigher */
+    int weight() {
+        int weight = body.length;
+        for (var header : headers.entrySet()) {
+            weight += header.getKey().length();
+            for (String value : header.getValue()) {
+                weight += value.length();
+            }
+        }
+        return weight;
+    }
+
+    private static String hashEtag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.realestate.gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.realestate.gateway.util.PathTrie;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Size-bounded store of upstream GET responses, keyed by path and sorted query string.
+ * <p>
+ * Which paths are cached and for how long comes from a {@link PathTrie} compiled from
+ * {@code gateway.response-cache.rules}, rebuilt on environment changes. Each purge bumps a generation
+ * number so that responses fetched before the purge are not stored after it.
+ */
+@Component
+public class ResponseCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponseCache.class);
+
+    private final Environment environment;
+    private final Cache<String, CachedResponse> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Settings settings;
+
+    public ResponseCache(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        ResponseCacheProperties properties = bind();
+        this.settings = compile(properties);
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(properties.getMaxSize().toBytes())
+                .weigher((String key, CachedResponse response) -> key.length() + response.weight())
+                .expireAfter(new TtlExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "gateway.response");
+    }
+
+    /**
+     * How long responses for the path may be cached; empty when the path is not cached
+     */
+    public Optional<Duration> ttlFor(String path) {
+        Settings current = settings;
+        if (!current.enabled()) {
+            return Optional.empty();
+        }
+        return current.rules().match("GET", path).filter(Duration::isPositive);
+    }
+
+    public CachedResponse get(String key) {
+        return cache.getIfPresent(key);
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Store the response unless a purge happened since {@code fetchedAt} was read or it is too large
+     */
+    public void put(String key, CachedResponse response, long fetchedAt) {
+        if (!fits(response.body().length) || generation.get() != fetchedAt) {
+            return;
+        }
+        cache.put(key, response);
+        if (generation.get() != fetchedAt) {
+            cache.invalidate(key);
+        }
+    }
+
+    public boolean fits(long bytes) {
+        return bytes <= maxEntryBytes();
+    }
+
+    public long maxEntryBytes() {
+        return settings.maxEntryBytes();
+    }
+
+    /**
+     * Drop entries whose path is {@code prefix} or below it (by whole segments); everything when blank
+     *
+     * @return number of entries removed
+     */
+    public long purge(String prefix) {
+        generation.incrementAndGet();
+        if (prefix == null || prefix.isBlank()) {
+            long size = cache.estimatedSize();
+            cache.invalidateAll();
+            return size;
+        }
+        String base = prefix.endsWith("/") ? prefix.substring(0, prefix.length() - 1) : prefix;
+        List<String> keys = cache.asMap().keySet().stream()
+                .filter(key -> {
+                    String path = path(key);
+                    return path.equals(base) || path.startsWith(base + "/");
+                })
+                .toList();
+        cache.invalidateAll(keys);
+        return keys.size();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public long weightedSize() {
+        return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L);
+    }
+
+    public Duration coalesceTimeout() {
+        return settings.coalesceTimeout();
+    }
+
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        if (event.getKeys().stream().noneMatch(key -> key.startsWith(ResponseCacheProperties.PREFIX))) {
+            return;
+        }
+        try {
+            settings = compile(bind());
+            purge(null);
+        } catch (RuntimeException e) {
+            log.error("Invalid {} configuration, keeping previous rules: {}", ResponseCacheProperties.PREFIX,
+                    e.getMessage());
+        }
+    }
+
+    /**
+     * Cache key: the raw path plus the raw query parameters in sorted order
+     */
+    static String key(ServerHttpRequest request) {
+        String path = request.getURI().getRawPath();
+        String query = request.getURI().getRawQuery();
+        if (query == null || query.isEmpty()) {
+            return path;
+        }
+        String[] params = query.split("&");
+        Arrays.sort(params);
+        return path + "?" + String.join("&", params);
+    }
+
+    static boolean isCacheable(HttpStatusCode status, HttpHeaders headers) {
+        if (status == null || status.value() != HttpStatus.OK.value()) {
+            return false;
+        }
+        if (headers.containsKey(HttpHeaders.SET_COOKIE) || headers.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+            return false;
+        }
+        String cacheControl = headers.getCacheControl();
+        return cacheControl == null || !(cacheControl.contains("no-store") || cacheControl.contains("private"));
+    }
+
+    /**
+     * Weak comparison as used for {@code If-None-Match}
+     */
+    static boolean matches(List<String> ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch) {
+            if ("*".equals(candidate) || stripWeak(candidate).equals(stripWeak(etag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static String path(String key) {
+        int query = key.indexOf('?');
+        return query < 0 ? key : key.substring(0, query);
+    }
+
+    private ResponseCacheProperties bind() {
+        return Binder.get(environment)
+                .bind(ResponseCacheProperties.PREFIX, Bindable.of(ResponseCacheProperties.class))
+                .orElseGet(ResponseCacheProperties::new);
+    }
+
+    private static Settings compile(ResponseCacheProperties properties) {
+        PathTrie<Duration> rules = new PathTrie<>();
+        for (ResponseCacheProperties.Rule rule : properties.getRules()) {
+            if (rule.getPattern() == null || rule.getPattern().isBlank()) {
+                throw new IllegalArgumentException("Response cache rule without a pattern");
+            }
+            rules.insert(rule.getPattern(), List.of("GET"), rule.getTtl() == null ? Duration.ZERO : rule.getTtl());
+        }
+        log.info("Compiled {} response cache rules (enabled={})", rules.size(), properties.isEnabled());
+        return new Settings(properties.isEnabled(), rules, properties.getMaxEntrySize().toBytes(),
+                properties.getCoalesceTimeout());
+    }
+
+    private record Settings(boolean enabled, PathTrie<Duration> rules, long maxEntryBytes,
+            Duration coalesceTimeout) {
+    }
+
+    /**
+     * Expires each entry after the TTL of the rule it was cached under
+     */
+    private static final class TtlExpiry implements Expiry<String, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedResponse response, long currentTime) {
+            return response.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse response, long currentTime, long currentDuration) {
+            return response.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse response, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
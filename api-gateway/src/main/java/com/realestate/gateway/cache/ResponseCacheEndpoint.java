@@ -0,0 +1,38 @@
+package com.realestate.gateway.cache;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * {@code /actuator/responsecache} on the management port: size of the gateway response cache, and purging,
+ * e.g. {@code DELETE /actuator/responsecache?prefix=/api/properties/search}. Each gateway replica holds
+ * its own cache and has to be purged separately.
+ */
+@Component
+@Endpoint(id = "responsecache")
+public class ResponseCacheEndpoint {
+
+    private final ResponseCache responseCache;
+
+    public ResponseCacheEndpoint(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    @ReadOperation
+    public Map<String, Object> summary() {
+        return Map.of("entries", responseCache.size(), "weightedBytes", responseCache.weightedSize());
+    }
+
+    /**
+     * @param prefix path to purge together with everything below it; omit to purge the whole cache
+     */
+    @DeleteOperation
+    public Map<String, Object> purge(@Nullable String prefix) {
+        return Map.of("purged", responseCache.purge(prefix));
+    }
+}
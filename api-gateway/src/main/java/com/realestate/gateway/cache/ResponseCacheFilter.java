@@ -0,0 +1,193 @@
+package com.realestate.gateway.cache;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serves GETs on paths configured in {@code gateway.response-cache} from {@link ResponseCache}.
+ * <p>
+ * On a miss the first request goes upstream and its response is captured as it is written; identical
+ * requests arriving meanwhile wait for it instead of calling upstream too. Requests whose
+ * {@code If-None-Match} matches the stored ETag get a {@code 304}. The filter runs after JWT authentication but before
+ * route filters, so hits are not counted by the rate limiter while misses are.
+ */
+@Component
+public class ResponseCacheFilter implements GlobalFilter, Ordered {
+
+    static final String CACHE_HEADER = "X-Cache";
+
+    private final ResponseCache responseCache;
+    private final Map<String, CompletableFuture<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public ResponseCacheFilter(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() != HttpMethod.GET || request.getHeaders().containsKey(HttpHeaders.RANGE)) {
+            return chain.filter(exchange);
+        }
+        Optional<Duration> ttl = responseCache.ttlFor(request.getURI().getPath());
+        if (ttl.isEmpty()) {
+            return chain.filter(exchange);
+        }
+
+        String key = ResponseCache.key(request);
+        CachedResponse cached = responseCache.get(key);
+        if (cached != null) {
+            return writeCached(exchange, cached, "HIT");
+        }
+
+        CompletableFuture<CachedResponse> pending = new CompletableFuture<>();
+        CompletableFuture<CachedResponse> leader = inFlight.putIfAbsent(key, pending);
+        if (leader != null) {
+            // Completes empty when the leader's response could not be shared
+            return Mono.fromFuture(leader, true)
+                    .timeout(responseCache.coalesceTimeout())
+                    .map(Optional::of)
+                    .onErrorResume(e -> Mono.empty())
+                    .defaultIfEmpty(Optional.empty())
+                    .flatMap(shared -> shared.isPresent()
+                            ? writeCached(exchange, shared.get(), "COALESCED")
+                            : chain.filter(exchange));
+        }
+
+        CachingResponse response = new CachingResponse(exchange, key, ttl.get(), responseCache.generation(), pending);
+        return chain.filter(exchange.mutate().response(response).build())
+                .doFinally(signal -> {
+                    inFlight.remove(key, pending);
+                    pending.complete(null);
+                });
+    }
+
+    private static Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached, String outcome) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        cached.headers().forEach(headers::putIfAbsent);
+        headers.set(HttpHeaders.AGE, String.valueOf(cached.ageSeconds()));
+        headers.set(CACHE_HEADER, outcome);
+        if (ResponseCache.matches(exchange.getRequest().getHeaders().getIfNoneMatch(), cached.etag())) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            response.getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+            return response.setComplete();
+        }
+        response.setStatusCode(cached.status());
+        response.getHeaders().setContentLength(cached.body().length);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(cached.body())));
+    }
+
+    @Override
+    public int getOrder() {
+        // Must wrap the response before NettyWriteResponseFilter writes the upstream body into it
+        return NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    }
+
+    /**
+     * Streams a cacheable upstream body to the client while keeping a bounded copy, which is stored and
+     * handed to waiting requests once the body is complete
+     */
+    private final class CachingResponse extends ServerHttpResponseDecorator {
+
+        private final String key;
+        private final Duration ttl;
+        private final long generation;
+        private final CompletableFuture<CachedResponse> pending;
+
+        private CachingResponse(ServerWebExchange exchange, String key, Duration ttl, long generation,
+                CompletableFuture<CachedResponse> pending) {
+            super(exchange.getResponse());
+            this.key = key;
+            this.ttl = ttl;
+            this.generation = generation;
+            this.pending = pending;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpStatusCode status = getStatusCode();
+            long contentLength = getHeaders().getContentLength();
+            if (!ResponseCache.isCacheable(status, getHeaders())
+                    || (contentLength >= 0 && !responseCache.fits(contentLength))) {
+                pending.complete(null);
+                return super.writeWith(body);
+            }
+
+            // Chunked bodies have no length up front, so copy while streaming and give up past the limit
+            HttpHeaders upstreamHeaders = new HttpHeaders();
+            upstreamHeaders.putAll(getHeaders());
+            getHeaders().set(CACHE_HEADER, "MISS");
+            if (getHeaders().getCacheControl() == null) {
+                getHeaders().setCacheControl("no-cache");
+            }
+            BodyCapture capture = new BodyCapture(responseCache.maxEntryBytes());
+            return super.writeWith(Flux.from(body)
+                    .doOnNext(capture::append)
+                    .doOnComplete(() -> {
+                        byte[] bytes = capture.bytes();
+                        if (bytes != null) {
+                            CachedResponse cached = CachedResponse.of(status, upstreamHeaders, bytes, ttl);
+                            responseCache.put(key, cached, generation);
+                            pending.complete(cached);
+                        }
+                    }));
+        }
+    }
+
+    /**
+     * Copy of a response body as it streams past, abandoned once it exceeds {@code maxBytes}
+     */
+    private static final class BodyCapture {
+
+        private final long maxBytes;
+        private ByteArrayOutputStream copy = new ByteArrayOutputStream();
+
+        private BodyCapture(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        void append(DataBuffer buffer) {
+            if (copy == null) {
+                return;
+            }
+            int length = buffer.readableByteCount();
+            if (copy.size() + (long) length > maxBytes) {
+                copy = null;
+                return;
+            }
+            byte[] bytes = new byte[length];
+            int position = buffer.readPosition();
+            buffer.read(bytes);
+            buffer.readPosition(position);
+            copy.write(bytes, 0, length);
+        }
+
+        /** The whole body, or null when it was too large to keep */
+        byte[] bytes() {
+            return copy == null ? null : copy.toByteArray();
+        }
+    }
+}
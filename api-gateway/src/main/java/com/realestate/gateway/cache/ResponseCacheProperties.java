@@ -0,0 +1,94 @@
+package com.realestate.gateway.cache;
+
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response cache settings under {@code gateway.response-cache}. Rules are bound again on every
+ * environment refresh; the size limits apply from startup.
+ */
+public class ResponseCacheProperties {
+
+    public static final String PREFIX = "gateway.response-cache";
+
+    private boolean enabled = true;
+
+    /** Total size of cached bodies and headers */
+    private DataSize maxSize = DataSize.ofMegabytes(64);
+
+    /** Larger responses are passed through without being stored */
+    private DataSize maxEntrySize = DataSize.ofMegabytes(1);
+
+    /** How long a request waits for an identical in-flight request before calling upstream itself */
+    private Duration coalesceTimeout = Duration.ofSeconds(5);
+
+    private List<Rule> rules = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public DataSize getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(DataSize maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public DataSize getMaxEntrySize() {
+        return maxEntrySize;
+    }
+
+    public void setMaxEntrySize(DataSize maxEntrySize) {
+        this.maxEntrySize = maxEntrySize;
+    }
+
+    public Duration getCoalesceTimeout() {
+        return coalesceTimeout;
+    }
+
+    public void setCoalesceTimeout(Duration coalesceTimeout) {
+        this.coalesceTimeout = coalesceTimeout;
+    }
+
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    public void setRules(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    public static class Rule {
+
+        /** Segment pattern as in {@code gateway.security} rules */
+        private String pattern;
+
+        /** How long a response stays cached; zero excludes the matching paths */
+        private Duration ttl = Duration.ZERO;
+
+        public String getPattern() {
+            return pattern;
+        }
+
+        public void setPattern(String pattern) {
+            this.pattern = pattern;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+    }
+}
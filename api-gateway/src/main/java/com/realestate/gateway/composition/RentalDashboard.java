@@ -0,0 +1,13 @@
+package com.realestate.gateway.composition;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+/**
+ * Everything the rental page shows, as returned by each service's {@code data}. Sections whose call
+ * failed or timed out are null and named in {@code missing}.
+ */
+public record RentalDashboard(JsonNode rental, JsonNode property, JsonNode tenant, JsonNode owner,
+        JsonNode payments, List<String> missing) {
+}
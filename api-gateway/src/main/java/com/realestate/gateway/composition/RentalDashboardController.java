@@ -0,0 +1,57 @@
+package com.realestate.gateway.composition;
+
+import com.realestate.gateway.util.JwtUtil;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Composed views served by the gateway itself. These paths are not routes, so JwtAuthenticationFilter never
+ * sees them; the token is verified here before any call is made, and again by each underlying call.
+ */
+@RestController
+@RequestMapping("/api/dashboard")
+public class RentalDashboardController {
+
+    private final RentalDashboardService rentalDashboardService;
+    private final JwtUtil jwtUtil;
+
+    public RentalDashboardController(RentalDashboardService rentalDashboardService, JwtUtil jwtUtil) {
+        this.rentalDashboardService = rentalDashboardService;
+        this.jwtUtil = jwtUtil;
+    }
+
+    @GetMapping("/rentals/{id}")
+    public Mono<ResponseEntity<Map<String, Object>>> getRentalDashboard(@PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer ")
+                || !jwtUtil.isTokenValid(authorization.substring(7))) {
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+        }
+        return rentalDashboardService.getRentalDashboard(id, authorization)
+                .map(dashboard -> ResponseEntity.ok(wrap(dashboard.missing().isEmpty()
+                        ? "Success" : "Some sections are unavailable", dashboard)));
+    }
+
+    /**
+     * Same shape as the services' response wrapper
+     */
+    private static Map<String, Object> wrap(String message, Object data) {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", HttpStatus.OK.value());
+        body.put("message", message);
+        body.put("data", data);
+        body.put("timestamp", LocalDateTime.now());
+        return body;
+    }
+}
@@ -0,0 +1,105 @@
+package com.realestate.gateway.composition;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds a {@link RentalDashboard} from the same endpoints the frontend would call.
+ * <p>
+ * The calls go back through the gateway, so each one still passes JWT checks, rate limits, the response
+ * cache and circuit breakers. Payments and the rental are fetched at once. The property and both user
+ * profiles follow in parallel as soon as the rental is known. Each call has its own timeout.
+ */
+@Component
+public class RentalDashboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(RentalDashboardService.class);
+
+    private final WebClient webClient;
+    private final Duration legTimeout;
+
+    public RentalDashboardService(WebClient.Builder webClientBuilder,
+            @Value("${gateway.composition.base-url:http://localhost:${server.port:8080}}") String baseUrl,
+            @Value("${gateway.composition.leg-timeout:2s}") Duration legTimeout) {
+        this.webClient = webClientBuilder.baseUrl(baseUrl).build();
+        this.legTimeout = legTimeout;
+    }
+
+    /**
+     * Fails when the rental itself cannot be loaded, with its status if it was a client error and 502
+     * otherwise. Any other failed call leaves its section missing.
+     */
+    public Mono<RentalDashboard> getRentalDashboard(Long rentalId, String authorization) {
+        Mono<Leg> rental = fetch("rental", "/api/rentals/{id}", rentalId, authorization).cache();
+        Mono<Leg> payments = fetch("payments", "/api/payments/rental/{id}", rentalId, authorization);
+        Mono<Leg> property = rental.flatMap(r -> fetchReferenced(r, "propertyId", "property",
+                "/api/properties/{id}", authorization));
+        Mono<Leg> tenant = rental.flatMap(r -> fetchReferenced(r, "tenantId", "tenant",
+                "/api/users/profile/{id}", authorization));
+        Mono<Leg> owner = rental.flatMap(r -> fetchReferenced(r, "ownerId", "owner",
+                "/api/users/profile/{id}", authorization));
+
+        return Mono.zip(rental, property, tenant, owner, payments).flatMap(legs -> {
+            Leg rentalLeg = legs.getT1();
+            if (rentalLeg.data() == null) {
+                HttpStatusCode status = rentalLeg.status() != null && rentalLeg.status().is4xxClientError()
+                        ? rentalLeg.status() : HttpStatus.BAD_GATEWAY;
+                return Mono.error(new ResponseStatusException(status, "Rental " + rentalId
+                        + " could not be loaded"));
+            }
+            List<String> missing = new ArrayList<>();
+            List.of(rentalLeg, legs.getT2(), legs.getT3(), legs.getT4(), legs.getT5()).forEach(leg -> {
+                if (leg.data() == null) {
+                    missing.add(leg.name());
+                }
+            });
+            return Mono.just(new RentalDashboard(rentalLeg.data(), legs.getT2().data(), legs.getT3().data(),
+                    legs.getT4().data(), legs.getT5().data(), List.copyOf(missing)));
+        });
+    }
+
+    private Mono<Leg> fetchReferenced(Leg rental, String idField, String name, String uri, String authorization) {
+        JsonNode id = rental.data() == null ? null : rental.data().get(idField);
+        if (id == null || id.isNull()) {
+            return Mono.just(new Leg(name, null, null));
+        }
+        return fetch(name, uri, id.asText(), authorization);
+    }
+
+    private Mono<Leg> fetch(String name, String uri, Object id, String authorization) {
+        return webClient.get()
+                .uri(uri, id)
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .timeout(legTimeout)
+                .map(body -> new Leg(name, body.has("data") ? body.get("data") : body, null))
+                .defaultIfEmpty(new Leg(name, null, null))
+                .onErrorResume(e -> {
+                    HttpStatusCode status = e instanceof WebClientResponseException response
+                            ? response.getStatusCode() : null;
+                    log.debug("Dashboard section {} unavailable: {}", name, e.toString());
+                    return Mono.just(new Leg(name, null, status));
+                });
+    }
+
+    /**
+     * Outcome of one call; {@code status} is set when it failed with an HTTP error
+     */
+    private record Leg(String name, JsonNode data, HttpStatusCode status) {
+    }
+}
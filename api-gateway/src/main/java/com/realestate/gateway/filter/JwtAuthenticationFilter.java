@@ -1,10 +1,16 @@
 package com.realestate.gateway.filter;
 
+import com.realestate.common.security.IdentityHeaders;
+import com.realestate.gateway.security.AccessPolicy;
+import com.realestate.gateway.security.RouteSecurityMatcher;
+import com.realestate.gateway.security.RouteSecurityProperties;
 import com.realestate.gateway.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
@@ -13,9 +19,10 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
- * Global filter for JWT authentication
+ * Global filter for JWT authentication. Per-route access comes from {@link RouteSecurityMatcher}.
  */
 @Component
 public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
@@ -23,23 +30,25 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
     @Autowired
     private JwtUtil jwtUtil;
 
-    private static final List<String> PUBLIC_ENDPOINTS = List.of(
-            "/api/users/register",
-            "/api/users/login",
-            "/eureka",
-            "/api/properties/search",
-            "/v3/api-docs",
-            "/swagger-ui",
-            "/swagger-ui.html");
+    @Autowired
+    private RouteSecurityMatcher routeSecurityMatcher;
+
+    // Identity headers are only trusted when set here, so client-supplied values are always dropped
+    private static final List<String> IDENTITY_HEADERS = List.of(
+            IdentityHeaders.USER_ID, IdentityHeaders.USER_EMAIL, IdentityHeaders.USER_ROLE,
+            IdentityHeaders.USER_WALLET);
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
-        ServerHttpRequest request = exchange.getRequest();
-        String path = request.getURI().getPath();
+        ServerHttpRequest request = exchange.getRequest().mutate()
+                .headers(headers -> IDENTITY_HEADERS.forEach(headers::remove))
+                .build();
+        RouteSecurityProperties.Rule rule = routeSecurityMatcher.match(
+                request.getMethod().name(), request.getURI().getPath());
 
         // Skip authentication for public endpoints
-        if (isPublicEndpoint(path)) {
-            return chain.filter(exchange);
+        if (rule.getAccess() == AccessPolicy.PUBLIC) {
+            return chain.filter(exchange.mutate().request(request).build());
         }
 
         // Extract token from Authorization header
@@ -51,26 +60,35 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
         String token = authHeader.substring(7);
 
-        // Validate token
-        if (!jwtUtil.isTokenValid(token)) {
+        // Validate token (verified claims are cached per token)
+        Optional<Claims> claims = jwtUtil.resolveClaims(token);
+        if (claims.isEmpty()) {
             return onError(exchange, "Invalid or expired JWT token", HttpStatus.UNAUTHORIZED);
         }
 
-        // Add user information to request headers
-        try {
-            String username = jwtUtil.getUsernameFromToken(token);
-            ServerHttpRequest modifiedRequest = request.mutate()
-                    .header("X-User-Email", username)
-                    .build();
-
-            return chain.filter(exchange.mutate().request(modifiedRequest).build());
-        } catch (Exception e) {
-            return onError(exchange, "Error processing JWT token", HttpStatus.UNAUTHORIZED);
+        if (rule.getAccess() == AccessPolicy.ROLE && !rule.allowsRole(claims.get().get("role"))) {
+            return onError(exchange, "Insufficient role for this route", HttpStatus.FORBIDDEN);
         }
+
+        // Add user information to request headers
+        ServerHttpRequest modifiedRequest = request.mutate()
+                .headers(headers -> addIdentityHeaders(headers, claims.get()))
+                .build();
+
+        return chain.filter(exchange.mutate().request(modifiedRequest).build());
+    }
+
+    private void addIdentityHeaders(HttpHeaders headers, Claims claims) {
+        setIfPresent(headers, IdentityHeaders.USER_EMAIL, claims.getSubject());
+        setIfPresent(headers, IdentityHeaders.USER_ID, claims.get("userId"));
+        setIfPresent(headers, IdentityHeaders.USER_ROLE, claims.get("role"));
+        setIfPresent(headers, IdentityHeaders.USER_WALLET, claims.get("walletAddress"));
     }
 
-    private boolean isPublicEndpoint(String path) {
-        return PUBLIC_ENDPOINTS.stream().anyMatch(path::startsWith);
+    private void setIfPresent(HttpHeaders headers, String name, Object value) {
+        if (value != null) {
+            headers.set(name, String.valueOf(value));
+        }
     }
 
     private Mono<Void> onError(ServerWebExchange exchange, String message, HttpStatus status) {
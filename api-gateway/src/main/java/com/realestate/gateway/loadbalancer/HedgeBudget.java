@@ -0,0 +1,29 @@
+package com.realestate.gateway.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caps hedges at a fraction of requests: every request earns part of a token, every hedge spends a
+ * whole one. Tokens are counted in thousandths so the update stays a single CAS.
+ */
+final class HedgeBudget {
+
+    private static final long TOKEN = 1000;
+
+    private final AtomicLong milliTokens = new AtomicLong();
+    private final long earnedPerRequest;
+    private final long capacity;
+
+    HedgeBudget(double maxExtraLoad, int burst) {
+        this.earnedPerRequest = Math.round(maxExtraLoad * TOKEN);
+        this.capacity = Math.max(1, burst) * TOKEN;
+    }
+
+    void onRequest() {
+        milliTokens.getAndUpdate(tokens -> Math.min(capacity, tokens + earnedPerRequest));
+    }
+
+    boolean tryAcquire() {
+        return milliTokens.getAndUpdate(tokens -> tokens >= TOKEN ? tokens - TOKEN : tokens) >= TOKEN;
+    }
+}
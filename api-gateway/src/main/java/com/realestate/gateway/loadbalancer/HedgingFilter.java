@@ -0,0 +1,213 @@
+package com.realestate.gateway.loadbalancer;
+
+import com.realestate.gateway.util.PathTrie;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.http.client.HttpClient;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.PRESERVE_HOST_HEADER_ATTRIBUTE;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.setAlreadyRouted;
+
+/**
+ * Runs right after the load balancer has picked an instance. It times every upstream call for
+ * {@link InstanceLatencyTracker}, and it hedges GET and HEAD requests on the paths listed in
+ * {@code gateway.hedging.paths}.
+ * <p>
+ * If the chosen instance has not answered after {@code delay}, the same request goes to a second
+ * instance. The first response to arrive is streamed back and the other call is cancelled. If the first
+ * call fails before a hedge was sent, its error is passed on as the normal routing path would. Calls use
+ * the gateway's own {@link HttpClient}, so its pool and timeout settings apply. A {@link HedgeBudget} per
+ * route keeps hedges under {@code max-extra-load}.
+ */
+@Component
+public class HedgingFilter implements GlobalFilter, Ordered {
+
+    private final InstanceLatencyTracker tracker;
+    private final HedgingProperties properties;
+    private final LoadBalancerClientFactory clientFactory;
+    private final ObjectProvider<List<HttpHeadersFilter>> headersFilters;
+    private final MeterRegistry meterRegistry;
+    private final WebClient webClient;
+    private final Map<String, HedgeBudget> budgets = new ConcurrentHashMap<>();
+    private volatile HedgedPaths hedgedPaths = new HedgedPaths(List.of(), new PathTrie<>());
+
+    public HedgingFilter(InstanceLatencyTracker tracker, HedgingProperties properties,
+            LoadBalancerClientFactory clientFactory, ObjectProvider<List<HttpHeadersFilter>> headersFilters,
+            MeterRegistry meterRegistry, HttpClient httpClient, HttpClientProperties httpClientProperties) {
+        this.tracker = tracker;
+        this.properties = properties;
+        this.clientFactory = clientFactory;
+        this.headersFilters = headersFilters;
+        this.meterRegistry = meterRegistry;
+        HttpClient client = httpClientProperties.getResponseTimeout() == null
+                ? httpClient : httpClient.responseTimeout(httpClientProperties.getResponseTimeout());
+        this.webClient = WebClient.builder().clientConnector(new ReactorClientHttpConnector(client)).build();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        Response<ServiceInstance> selected = exchange.getAttribute(GATEWAY_LOADBALANCER_RESPONSE_ATTR);
+        if (selected == null || !selected.hasServer()) {
+            return chain.filter(exchange);
+        }
+        ServiceInstance primary = selected.getServer();
+        Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+        if (route != null && isHedged(exchange)) {
+            return hedged(exchange, route, primary);
+        }
+
+        InstanceLatencyTracker.Call call = tracker.begin(primary);
+        return chain.filter(exchange)
+                .doOnSuccess(done -> call.end(isServerError(exchange.getResponse().getStatusCode())))
+                .doOnError(e -> call.end(true))
+                .doOnCancel(call::cancel);
+    }
+
+    private boolean isHedged(ServerWebExchange exchange) {
+        HttpMethod method = exchange.getRequest().getMethod();
+        if (!properties.isEnabled() || (method != HttpMethod.GET && method != HttpMethod.HEAD)) {
+            return false;
+        }
+        return compiledPaths().match(method.name(), exchange.getRequest().getURI().getPath()).isPresent();
+    }
+
+    /**
+     * The allow-list as a trie, rebuilt when the properties are rebound with a new list
+     */
+    private PathTrie<Boolean> compiledPaths() {
+        HedgedPaths current = hedgedPaths;
+        List<String> paths = properties.getPaths();
+        if (current.source() != paths) {
+            PathTrie<Boolean> trie = new PathTrie<>();
+            paths.forEach(pattern -> trie.insert(pattern, List.of("GET", "HEAD"), Boolean.TRUE));
+            current = new HedgedPaths(paths, trie);
+            hedgedPaths = current;
+        }
+        return current.trie();
+    }
+
+    private Mono<Void> hedged(ServerWebExchange exchange, Route route, ServiceInstance primary) {
+        URI url = exchange.getRequiredAttribute(GATEWAY_REQUEST_URL_ATTR);
+        HttpHeaders headers = new HttpHeaders();
+        headers.addAll(HttpHeadersFilter.filterRequest(headersFilters.getIfAvailable(), exchange));
+        if (!Boolean.TRUE.equals(exchange.getAttribute(PRESERVE_HOST_HEADER_ATTRIBUTE))) {
+            headers.remove(HttpHeaders.HOST);
+        }
+        HedgeBudget budget = budgets.computeIfAbsent(route.getId(),
+                id -> new HedgeBudget(properties.getMaxExtraLoad(), properties.getBurst()));
+        budget.onRequest();
+
+        AtomicReference<Throwable> primaryError = new AtomicReference<>();
+        Sinks.One<Boolean> primaryFailed = Sinks.one();
+        Mono<ResponseEntity<Flux<DataBuffer>>> first = send(exchange, primary, url, headers)
+                .doOnError(e -> {
+                    primaryError.set(e);
+                    primaryFailed.tryEmitValue(Boolean.TRUE);
+                });
+        // A hedge is only started while the first call is still running
+        Mono<ResponseEntity<Flux<DataBuffer>>> second = Mono.delay(properties.getDelay())
+                .takeUntilOther(primaryFailed.asMono())
+                .flatMap(tick -> chooseOther(route.getUri().getHost(), primary))
+                .filter(instance -> budget.tryAcquire())
+                .flatMap(instance -> {
+                    meterRegistry.counter("gateway.hedging.requests", "route", route.getId()).increment();
+                    return send(exchange, instance, url, headers)
+                            .doOnNext(entity -> meterRegistry
+                                    .counter("gateway.hedging.wins", "route", route.getId()).increment());
+                });
+
+        // The response is written here; later routing filters must not send the request again
+        setAlreadyRouted(exchange);
+        return Mono.firstWithValue(first, second)
+                .onErrorMap(e -> primaryError.get() != null ? primaryError.get() : e)
+                .flatMap(entity -> write(exchange, entity));
+    }
+
+    private Mono<ServiceInstance> chooseOther(String serviceId, ServiceInstance primary) {
+        ReactorServiceInstanceLoadBalancer loadBalancer =
+                clientFactory.getInstance(serviceId, ReactorServiceInstanceLoadBalancer.class);
+        if (!(loadBalancer instanceof LatencyAwareLoadBalancer latencyAware)) {
+            return Mono.empty();
+        }
+        return latencyAware.chooseExcluding(primary)
+                .filter(Response::hasServer)
+                .map(Response::getServer);
+    }
+
+    private Mono<ResponseEntity<Flux<DataBuffer>>> send(ServerWebExchange exchange, ServiceInstance instance,
+            URI url, HttpHeaders headers) {
+        URI target = UriComponentsBuilder.fromUri(url)
+                .scheme(instance.isSecure() ? "https" : "http")
+                .host(instance.getHost())
+                .port(instance.getPort())
+                .build(true)
+                .toUri();
+        return Mono.defer(() -> {
+            InstanceLatencyTracker.Call call = tracker.begin(instance);
+            return webClient.method(exchange.getRequest().getMethod())
+                    .uri(target)
+                    .headers(h -> h.addAll(headers))
+                    .retrieve()
+                    // Hand every status to the client as it is, like the normal routing path does
+                    .onStatus(status -> true, response -> Mono.empty())
+                    .toEntityFlux(DataBuffer.class)
+                    .doOnNext(entity -> call.end(isServerError(entity.getStatusCode())))
+                    .doOnError(e -> call.end(true))
+                    .doOnCancel(call::cancel);
+        });
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, ResponseEntity<Flux<DataBuffer>> entity) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(entity.getStatusCode());
+        response.getHeaders().putAll(HttpHeadersFilter.filter(headersFilters.getIfAvailable(), entity.getHeaders(),
+                exchange, HttpHeadersFilter.Type.RESPONSE));
+        return response.writeWith(entity.getBody() == null ? Flux.empty() : entity.getBody());
+    }
+
+    private static boolean isServerError(HttpStatusCode status) {
+        return status != null && status.is5xxServerError();
+    }
+
+    @Override
+    public int getOrder() {
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1;
+    }
+
+    private record HedgedPaths(List<String> source, PathTrie<Boolean> trie) {
+    }
+}
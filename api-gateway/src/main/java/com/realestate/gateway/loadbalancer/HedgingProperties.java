@@ -0,0 +1,71 @@
+package com.realestate.gateway.loadbalancer;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hedged GET/HEAD requests under {@code gateway.hedging}.
+ */
+@ConfigurationProperties(prefix = "gateway.hedging")
+public class HedgingProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * Path patterns (as in {@code gateway.security} rules) whose GET and HEAD requests may be hedged. Only
+     * list idempotent endpoints with small responses; a hedged download is sent twice.
+     */
+    private List<String> paths = new ArrayList<>();
+
+    /** How long the first attempt runs alone before a second instance is asked; about the route's p95 */
+    private Duration delay = Duration.ofMillis(100);
+
+    /** Hedges allowed as a fraction of the route's requests, e.g. 0.1 for at most 10% extra load */
+    private double maxExtraLoad = 0.1;
+
+    /** Hedges that can be saved up during quiet periods and spent at once */
+    private int burst = 10;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getPaths() {
+        return paths;
+    }
+
+    public void setPaths(List<String> paths) {
+        this.paths = paths;
+    }
+
+    public Duration getDelay() {
+        return delay;
+    }
+
+    public void setDelay(Duration delay) {
+        this.delay = delay;
+    }
+
+    public double getMaxExtraLoad() {
+        return maxExtraLoad;
+    }
+
+    public void setMaxExtraLoad(double maxExtraLoad) {
+        this.maxExtraLoad = maxExtraLoad;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    public void setBurst(int burst) {
+        this.burst = burst;
+    }
+}
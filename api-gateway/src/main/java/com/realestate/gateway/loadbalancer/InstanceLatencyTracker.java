@@ -0,0 +1,119 @@
+package com.realestate.gateway.loadbalancer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-instance load signal for {@link LatencyAwareLoadBalancer}: a peak-sensitive EWMA of response time
+ * and the number of outstanding requests.
+ * <p>
+ * A slower response raises the average immediately, faster ones pull it down gradually. Failures count
+ * as at least {@link #ERROR_PENALTY}. While an instance gets no traffic its average decays towards zero,
+ * so an instance that was slow is tried again after a while.
+ */
+@Component
+public class InstanceLatencyTracker {
+
+    static final Duration ERROR_PENALTY = Duration.ofSeconds(1);
+
+    private final long decayNanos;
+    private final Cache<String, Stats> stats;
+
+    public InstanceLatencyTracker(@Value("${gateway.load-balancer.decay-time:10s}") Duration decayTime) {
+        this.decayNanos = decayTime.toNanos();
+        this.stats = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+
+    /**
+     * Expected cost of sending one more request to the instance; lower is better, 0 when unknown
+     */
+    public double cost(ServiceInstance instance) {
+        Stats current = stats.getIfPresent(key(instance));
+        return current == null ? 0 : current.cost(System.nanoTime(), decayNanos);
+    }
+
+    /**
+     * Start timing a request; exactly one of {@link Call#end} or {@link Call#cancel} takes effect
+     */
+    public Call begin(ServiceInstance instance) {
+        Stats instanceStats = stats.get(key(instance), k -> new Stats());
+        instanceStats.outstanding.incrementAndGet();
+        return new Call(instanceStats, System.nanoTime());
+    }
+
+    static String key(ServiceInstance instance) {
+        return instance.getServiceId() + "@" + instance.getHost() + ":" + instance.getPort();
+    }
+
+    public final class Call {
+
+        private final Stats instanceStats;
+        private final long startedAt;
+        private final AtomicBoolean finished = new AtomicBoolean();
+
+        private Call(Stats instanceStats, long startedAt) {
+            this.instanceStats = instanceStats;
+            this.startedAt = startedAt;
+        }
+
+        public void end(boolean failed) {
+            if (finished.compareAndSet(false, true)) {
+                long now = System.nanoTime();
+                long latency = now - startedAt;
+                instanceStats.outstanding.decrementAndGet();
+                instanceStats.observe(failed ? Math.max(latency, ERROR_PENALTY.toNanos()) : latency, now, decayNanos);
+            }
+        }
+
+        /**
+         * The request was abandoned, e.g. it lost a hedge; the time so far is a lower bound of its latency
+         */
+        public void cancel() {
+            if (finished.compareAndSet(false, true)) {
+                instanceStats.outstanding.decrementAndGet();
+                instanceStats.raise(System.nanoTime() - startedAt, System.nanoTime());
+            }
+        }
+    }
+
+    private static final class Stats {
+
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private double ewmaNanos;
+        private long updatedAt;
+        private boolean sampled;
+
+        synchronized void observe(long latencyNanos, long now, long decayNanos) {
+            if (!sampled || latencyNanos > ewmaNanos) {
+                ewmaNanos = latencyNanos;
+            } else {
+                double weight = Math.exp(-(double) (now - updatedAt) / decayNanos);
+                ewmaNanos = ewmaNanos * weight + latencyNanos * (1 - weight);
+            }
+            sampled = true;
+            updatedAt = now;
+        }
+
+        synchronized void raise(long latencyNanos, long now) {
+            if (!sampled || latencyNanos > ewmaNanos) {
+                ewmaNanos = latencyNanos;
+                sampled = true;
+                updatedAt = now;
+            }
+        }
+
+        synchronized double cost(long now, long decayNanos) {
+            double idleDecay = Math.exp(-(double) Math.max(0, now - updatedAt) / decayNanos);
+            return ewmaNanos * idleDecay * (outstanding.get() + 1);
+        }
+    }
+}
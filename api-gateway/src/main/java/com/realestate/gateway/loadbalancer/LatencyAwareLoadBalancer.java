@@ -0,0 +1,88 @@
+package com.realestate.gateway.loadbalancer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.SelectedInstanceCallback;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Power of two choices: picks two random instances and sends the request to the one with the lower
+ * {@link InstanceLatencyTracker#cost}, so a slow or overloaded replica gets less traffic without every
+ * request herding onto the single fastest one.
+ */
+public class LatencyAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(LatencyAwareLoadBalancer.class);
+
+    private final ObjectProvider<ServiceInstanceListSupplier> supplierProvider;
+    private final String serviceId;
+    private final InstanceLatencyTracker tracker;
+
+    public LatencyAwareLoadBalancer(ObjectProvider<ServiceInstanceListSupplier> supplierProvider, String serviceId,
+            InstanceLatencyTracker tracker) {
+        this.supplierProvider = supplierProvider;
+        this.serviceId = serviceId;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public Mono<Response<ServiceInstance>> choose(Request request) {
+        return choose(request, null);
+    }
+
+    /**
+     * Choose an instance other than {@code excluded}, e.g. for a hedged request
+     */
+    public Mono<Response<ServiceInstance>> chooseExcluding(ServiceInstance excluded) {
+        return choose(new DefaultRequest<>(), excluded);
+    }
+
+    private Mono<Response<ServiceInstance>> choose(Request<?> request, ServiceInstance excluded) {
+        ServiceInstanceListSupplier supplier = supplierProvider.getIfAvailable(NoopServiceInstanceListSupplier::new);
+        return supplier.get(request).next().map(instances -> {
+            Response<ServiceInstance> response = select(instances, excluded);
+            if (supplier instanceof SelectedInstanceCallback callback && response.hasServer()) {
+                callback.selectedServiceInstance(response.getServer());
+            }
+            return response;
+        });
+    }
+
+    private Response<ServiceInstance> select(List<ServiceInstance> instances, ServiceInstance excluded) {
+        List<ServiceInstance> candidates = excluded == null ? instances : instances.stream()
+                .filter(instance -> !InstanceLatencyTracker.key(instance).equals(InstanceLatencyTracker.key(excluded)))
+                .toList();
+        if (candidates.isEmpty()) {
+            if (excluded == null) {
+                log.warn("No servers available for service: {}", serviceId);
+            }
+            return new EmptyResponse();
+        }
+        if (candidates.size() == 1) {
+            return new DefaultResponse(candidates.get(0));
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(candidates.size());
+        int second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        ServiceInstance a = candidates.get(first);
+        ServiceInstance b = candidates.get(second);
+        return new DefaultResponse(tracker.cost(b) < tracker.cost(a) ? b : a);
+    }
+}
@@ -0,0 +1,11 @@
+package com.realestate.gateway.loadbalancer;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@LoadBalancerClients(defaultConfiguration = LatencyAwareLoadBalancerConfiguration.class)
+@EnableConfigurationProperties(HedgingProperties.class)
+public class LoadBalancerConfig {
+}
@@ -0,0 +1,58 @@
+package com.realestate.gateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Lock-free token buckets: each key holds an immutable state that is refilled lazily and swapped with
+ * compare-and-set, so concurrent requests for one key never block each other. Idle keys expire.
+ */
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final Cache<String, AtomicReference<State>> buckets;
+
+    public InMemoryRateLimitStore(long maxKeys, Duration idleTtl) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleTtl)
+                .build();
+    }
+
+    @Override
+    public Mono<Decision> tryConsume(String key, RateLimitProperties.Bucket bucket, int permits) {
+        return Mono.just(consume(key, bucket, permits));
+    }
+
+    Decision consume(String key, RateLimitProperties.Bucket bucket, int permits) {
+        AtomicReference<State> ref = buckets.getIfPresent(key);
+        if (ref == null) {
+            ref = buckets.get(key, k -> new AtomicReference<>(new State(bucket.getBurstCapacity(), System.nanoTime())));
+        }
+        double capacity = bucket.getBurstCapacity();
+        double tokensPerNano = bucket.getReplenishRate() / NANOS_PER_SECOND;
+
+        while (true) {
+            State current = ref.get();
+            long now = Math.max(System.nanoTime(), current.refilledAt());
+            double tokens = Math.min(capacity, current.tokens() + (now - current.refilledAt()) * tokensPerNano);
+            if (tokens < permits) {
+                long retryAfter = (long) Math.ceil((permits - tokens) / bucket.getReplenishRate());
+                return new Decision(false, 0, Math.max(1, retryAfter));
+            }
+            State next = new State(tokens - permits, now);
+            if (ref.compareAndSet(current, next)) {
+                return new Decision(true, (long) next.tokens(), 0);
+            }
+        }
+    }
+
+    private record State(double tokens, long refilledAt) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.realestate.gateway.ratelimit;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Rate limiter beans referenced by the {@code RequestRateLimiter} default filter. Declaring another
+ * {@link RateLimitStore} bean replaces the in-memory store, e.g. with one shared by all replicas.
+ */
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(RateLimitStore.class)
+    public RateLimitStore rateLimitStore(RateLimitProperties properties) {
+        return new InMemoryRateLimitStore(properties.getMaxKeys(), properties.getIdleTtl());
+    }
+
+    @Bean
+    public TokenBucketRateLimiter tokenBucketRateLimiter(RateLimitProperties properties, RateLimitStore store,
+            MeterRegistry meterRegistry) {
+        return new TokenBucketRateLimiter(properties, store, meterRegistry);
+    }
+
+    @Bean
+    public RateLimitKeyResolver rateLimitKeyResolver(RateLimitProperties properties) {
+        return new RateLimitKeyResolver(properties.getTrustedProxies());
+    }
+}
@@ -0,0 +1,46 @@
+package com.realestate.gateway.ratelimit;
+
+import com.realestate.common.security.IdentityHeaders;
+import com.realestate.gateway.filter.JwtAuthenticationFilter;
+import org.springframework.cloud.gateway.filter.ratelimit.KeyResolver;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+/**
+ * Keys requests by the authenticated user, falling back to the client IP.
+ * <p>
+ * Identity headers can be trusted here because {@link JwtAuthenticationFilter} runs first and drops any
+ * values sent by the client. Keys are prefixed with {@code user:} or {@code ip:} so the limiter can
+ * apply the matching limit.
+ */
+public class RateLimitKeyResolver implements KeyResolver {
+
+    public static final String USER_PREFIX = "user:";
+    public static final String IP_PREFIX = "ip:";
+
+    private final RemoteAddressResolver addressResolver;
+
+    public RateLimitKeyResolver(int trustedProxies) {
+        this.addressResolver = trustedProxies > 0
+                ? XForwardedRemoteAddressResolver.maxTrustedIndex(trustedProxies)
+                : new RemoteAddressResolver() {
+                };
+    }
+
+    @Override
+    public Mono<String> resolve(ServerWebExchange exchange) {
+        String userId = exchange.getRequest().getHeaders().getFirst(IdentityHeaders.USER_ID);
+        if (userId == null) {
+            userId = exchange.getRequest().getHeaders().getFirst(IdentityHeaders.USER_EMAIL);
+        }
+        if (userId != null) {
+            return Mono.just(USER_PREFIX + userId);
+        }
+        InetSocketAddress address = addressResolver.resolve(exchange);
+        return Mono.just(IP_PREFIX + (address == null ? "unknown" : address.getHostString()));
+    }
+}
@@ -0,0 +1,134 @@
+package com.realestate.gateway.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Token bucket limits under {@code gateway.rate-limit}. Authenticated callers are limited per user,
+ * anonymous ones per client IP; each route can override either limit.
+ */
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /** Proxies in front of the gateway whose X-Forwarded-For entries are trusted; 0 uses the socket address */
+    private int trustedProxies = 0;
+
+    /** Buckets idle this long are dropped; a returning client starts with a full bucket */
+    private Duration idleTtl = Duration.ofMinutes(10);
+
+    private long maxKeys = 100_000;
+
+    private Limits defaults = new Limits();
+
+    /** Per route id overrides */
+    private Map<String, Limits> routes = new HashMap<>();
+
+    public Bucket resolve(String routeId, boolean authenticated) {
+        Limits route = routes.get(routeId);
+        Bucket bucket = route == null ? null : (authenticated ? route.getUser() : route.getIp());
+        if (bucket == null) {
+            bucket = authenticated ? defaults.getUser() : defaults.getIp();
+        }
+        return bucket;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getTrustedProxies() {
+        return trustedProxies;
+    }
+
+    public void setTrustedProxies(int trustedProxies) {
+        this.trustedProxies = trustedProxies;
+    }
+
+    public Duration getIdleTtl() {
+        return idleTtl;
+    }
+
+    public void setIdleTtl(Duration idleTtl) {
+        this.idleTtl = idleTtl;
+    }
+
+    public long getMaxKeys() {
+        return maxKeys;
+    }
+
+    public void setMaxKeys(long maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    public Limits getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(Limits defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, Limits> getRoutes() {
+        return routes;
+    }
+
+    public void setRoutes(Map<String, Limits> routes) {
+        this.routes = routes;
+    }
+
+    public static class Limits {
+
+        private Bucket user;
+        private Bucket ip;
+
+        public Bucket getUser() {
+            return user;
+        }
+
+        public void setUser(Bucket user) {
+            this.user = user;
+        }
+
+        public Bucket getIp() {
+            return ip;
+        }
+
+        public void setIp(Bucket ip) {
+            this.ip = ip;
+        }
+    }
+
+    public static class Bucket {
+
+        /** Tokens added per second */
+        private double replenishRate = 10;
+
+        /** Bucket size, i.e. the largest burst allowed after a quiet period */
+        private long burstCapacity = 20;
+
+        public double getReplenishRate() {
+            return replenishRate;
+        }
+
+        public void setReplenishRate(double replenishRate) {
+            this.replenishRate = replenishRate;
+        }
+
+        public long getBurstCapacity() {
+            return burstCapacity;
+        }
+
+        public void setBurstCapacity(long burstCapacity) {
+            this.burstCapacity = burstCapacity;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.realestate.gateway.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Holds token buckets by key. The in-memory store limits each gateway replica on its own; a shared
+ * implementation (for example over Redis) makes limits hold across replicas and is picked up by
+ * declaring it as a bean.
+ */
+public interface RateLimitStore {
+
+    Mono<Decision> tryConsume(String key, RateLimitProperties.Bucket bucket, int permits);
+
+    /**
+     * @param retryAfterSeconds when denied, seconds until enough tokens are back; otherwise 0
+     */
+    record Decision(boolean allowed, long remaining, long retryAfterSeconds) {
+    }
+}
@@ -0,0 +1,100 @@
+package com.realestate.gateway.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.ratelimit.RateLimiter;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link RateLimiter} for the {@code RequestRateLimiter} filter backed by a {@link RateLimitStore}.
+ * <p>
+ * Limits come from {@link RateLimitProperties}: per user for authenticated requests, per IP otherwise,
+ * with per-route overrides. The filter answers denied requests with {@code 429} and copies the headers
+ * returned here, including {@code Retry-After}. If the store fails the request is let through.
+ * Decisions are counted in {@code gateway.ratelimit.requests} by route, key type and outcome.
+ */
+public class TokenBucketRateLimiter implements RateLimiter<RateLimitProperties.Limits> {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenBucketRateLimiter.class);
+
+    public static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    public static final String REPLENISH_RATE_HEADER = "X-RateLimit-Replenish-Rate";
+    public static final String BURST_CAPACITY_HEADER = "X-RateLimit-Burst-Capacity";
+    public static final String RETRY_AFTER_HEADER = "Retry-After";
+
+    private final RateLimitProperties properties;
+    private final RateLimitStore store;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    public TokenBucketRateLimiter(RateLimitProperties properties, RateLimitStore store, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.store = store;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<Response> isAllowed(String routeId, String id) {
+        if (!properties.isEnabled()) {
+            return Mono.just(new Response(true, Map.of()));
+        }
+        boolean authenticated = id.startsWith(RateLimitKeyResolver.USER_PREFIX);
+        RateLimitProperties.Bucket bucket = properties.resolve(routeId, authenticated);
+
+        return store.tryConsume(routeId + ":" + id, bucket, 1)
+                .map(decision -> {
+                    count(routeId, authenticated, decision.allowed());
+                    return new Response(decision.allowed(), headers(bucket, decision));
+                })
+                .onErrorResume(e -> {
+                    log.warn("Rate limit store failed for route {}, allowing request: {}", routeId, e.getMessage());
+                    count(routeId, authenticated, true);
+                    return Mono.just(new Response(true, Map.of()));
+                });
+    }
+
+    private static Map<String, String> headers(RateLimitProperties.Bucket bucket, RateLimitStore.Decision decision) {
+        Map<String, String> headers = new HashMap<>();
+        headers.put(REMAINING_HEADER, String.valueOf(decision.remaining()));
+        headers.put(REPLENISH_RATE_HEADER, String.valueOf(bucket.getReplenishRate()));
+        headers.put(BURST_CAPACITY_HEADER, String.valueOf(bucket.getBurstCapacity()));
+        if (!decision.allowed()) {
+            headers.put(RETRY_AFTER_HEADER, String.valueOf(decision.retryAfterSeconds()));
+        }
+        return headers;
+    }
+
+    private void count(String routeId, boolean authenticated, boolean allowed) {
+        String keyType = authenticated ? "user" : "ip";
+        String outcome = allowed ? "admitted" : "throttled";
+        counters.computeIfAbsent(routeId + '|' + keyType + '|' + outcome, k -> Counter
+                        .builder("gateway.ratelimit.requests")
+                        .description("Requests checked against the gateway rate limiter")
+                        .tag("route", routeId)
+                        .tag("key_type", keyType)
+                        .tag("outcome", outcome)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    @Override
+    public Map<String, RateLimitProperties.Limits> getConfig() {
+        return properties.getRoutes();
+    }
+
+    @Override
+    public Class<RateLimitProperties.Limits> getConfigClass() {
+        return RateLimitProperties.Limits.class;
+    }
+
+    @Override
+    public RateLimitProperties.Limits newConfig() {
+        return new RateLimitProperties.Limits();
+    }
+}
@@ -0,0 +1,13 @@
+package com.realestate.gateway.security;
+
+/**
+ * What a request must carry to pass the gateway
+ */
+public enum AccessPolicy {
+    /** No token needed; identity headers are still stripped */
+    PUBLIC,
+    /** Any valid JWT */
+    AUTHENTICATED,
+    /** A valid JWT whose {@code role} claim is one of the rule's roles */
+    ROLE
+}
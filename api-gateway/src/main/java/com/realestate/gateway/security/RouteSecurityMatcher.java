@@ -0,0 +1,76 @@
+package com.realestate.gateway.security;
+
+import com.realestate.gateway.util.PathTrie;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the access rule for a request from a {@link PathTrie} compiled from {@code gateway.security}.
+ * <p>
+ * The trie is rebuilt whenever the environment changes (for example through {@code /actuator/refresh})
+ * and swapped in atomically; a configuration that fails to compile leaves the previous rules in place.
+ */
+@Component
+public class RouteSecurityMatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(RouteSecurityMatcher.class);
+
+    private final Environment environment;
+    private volatile CompiledRules compiled;
+
+    public RouteSecurityMatcher(Environment environment) {
+        this.environment = environment;
+        this.compiled = compile();
+    }
+
+    public RouteSecurityProperties.Rule match(String method, String path) {
+        CompiledRules current = compiled;
+        return current.trie().match(method, path).orElse(current.defaultRule());
+    }
+
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        if (event.getKeys().stream().noneMatch(key -> key.startsWith(RouteSecurityProperties.PREFIX))) {
+            return;
+        }
+        try {
+            compiled = compile();
+        } catch (RuntimeException e) {
+            log.error("Invalid {} configuration, keeping previous rules: {}", RouteSecurityProperties.PREFIX,
+                    e.getMessage());
+        }
+    }
+
+    private CompiledRules compile() {
+        RouteSecurityProperties properties = Binder.get(environment)
+                .bind(RouteSecurityProperties.PREFIX, Bindable.of(RouteSecurityProperties.class))
+                .orElseGet(RouteSecurityProperties::new);
+
+        PathTrie<RouteSecurityProperties.Rule> trie = new PathTrie<>();
+        for (RouteSecurityProperties.Rule rule : properties.getRules()) {
+            if (rule.getPattern() == null || rule.getPattern().isBlank()) {
+                throw new IllegalArgumentException("Route security rule without a pattern");
+            }
+            if (rule.getAccess() == AccessPolicy.ROLE && rule.getRoles().isEmpty()) {
+                throw new IllegalArgumentException("ROLE rule without roles: " + rule.getPattern());
+            }
+            trie.insert(rule.getPattern(), rule.getMethods(), rule);
+        }
+
+        RouteSecurityProperties.Rule defaultRule = new RouteSecurityProperties.Rule();
+        defaultRule.setPattern("/**");
+        defaultRule.setAccess(properties.getDefaultAccess());
+        log.info("Compiled {} route security rules (default {})", trie.size(), properties.getDefaultAccess());
+        return new CompiledRules(trie, defaultRule);
+    }
+
+    private record CompiledRules(PathTrie<RouteSecurityProperties.Rule> trie,
+            RouteSecurityProperties.Rule defaultRule) {
+    }
+}
@@ -0,0 +1,91 @@
+package com.realestate.gateway.security;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Route security rules under {@code gateway.security}. Bound again on every environment refresh.
+ */
+public class RouteSecurityProperties {
+
+    public static final String PREFIX = "gateway.security";
+
+    /** Applied to paths no rule matches */
+    private AccessPolicy defaultAccess = AccessPolicy.AUTHENTICATED;
+
+    private List<Rule> rules = new ArrayList<>();
+
+    public AccessPolicy getDefaultAccess() {
+        return defaultAccess;
+    }
+
+    public void setDefaultAccess(AccessPolicy defaultAccess) {
+        this.defaultAccess = defaultAccess;
+    }
+
+    public List<Rule> getRules() {
+        return rules;
+    }
+
+    public void setRules(List<Rule> rules) {
+        this.rules = rules;
+    }
+
+    public static class Rule {
+
+        /** Segment pattern, e.g. {@code /api/users/login}, {@code /api/users/*}, {@code /swagger-ui/**} */
+        private String pattern;
+
+        /** HTTP methods the rule applies to; empty for all */
+        private List<String> methods = new ArrayList<>();
+
+        private AccessPolicy access = AccessPolicy.AUTHENTICATED;
+
+        /** Allowed values of the {@code role} claim when access is {@code ROLE} */
+        private List<String> roles = new ArrayList<>();
+
+        public boolean allowsRole(Object role) {
+            if (role == null) {
+                return false;
+            }
+            for (String allowed : roles) {
+                if (allowed.equalsIgnoreCase(role.toString())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public String getPattern() {
+            return pattern;
+        }
+
+        public void setPattern(String pattern) {
+            this.pattern = pattern;
+        }
+
+        public List<String> getMethods() {
+            return methods;
+        }
+
+        public void setMethods(List<String> methods) {
+            this.methods = methods;
+        }
+
+        public AccessPolicy getAccess() {
+            return access;
+        }
+
+        public void setAccess(AccessPolicy access) {
+            this.access = access;
+        }
+
+        public List<String> getRoles() {
+            return roles;
+        }
+
+        public void setRoles(List<String> roles) {
+            this.roles = roles;
+        }
+    }
+}
@@ -1,45 +1,140 @@
 package com.realestate.gateway.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.Optional;
 
 /**
- * JWT Utility for token validation and parsing
+ * JWT Utility for token validation and parsing.
+ * <p>
+ * The signing key and parser are built once at startup. Verified claims are kept in a bounded cache
+ * keyed by the SHA-256 of the token, and each entry expires no later than the token's own {@code exp}.
  */
 @Component
 public class JwtUtil {
-    
+
     @Value("${jwt.secret}")
     private String secret;
-    
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+
+    @Value("${jwt.cache.max-size:50000}")
+    private long cacheMaxSize;
+
+    @Value("${jwt.cache.max-ttl:15m}")
+    private Duration cacheMaxTtl;
+
+    private final MeterRegistry meterRegistry;
+
+    private JwtParser parser;
+    private Cache<String, Claims> claimsCache;
+
+    public JwtUtil(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
     }
-    
+
+    @PostConstruct
+    void init() {
+        parser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .build();
+
+        claimsCache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new TokenExpiry(cacheMaxTtl.toNanos()))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, claimsCache, "jwt.claims");
+    }
+
     public Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
-    
-    public boolean isTokenValid(String token) {
+
+    /**
+     * Verify the token and return its claims, serving repeat tokens from the cache.
+     * Returns empty when the signature is invalid or the token has expired.
+     */
+    public Optional<Claims> resolveClaims(String token) {
+        String key = hash(token);
+        Claims cached = claimsCache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
         try {
-            getClaims(token);
-            return true;
+            Claims claims = getClaims(token);
+            claimsCache.put(key, claims);
+            return Optional.of(claims);
         } catch (Exception e) {
-            return false;
+            return Optional.empty();
         }
     }
-    
+
+    public boolean isTokenValid(String token) {
+        return resolveClaims(token).isPresent();
+    }
+
     public String getUsernameFromToken(String token) {
-        return getClaims(token).getSubject();
+        return resolveClaims(token)
+                .map(Claims::getSubject)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid JWT token"));
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Expires each entry at the token's {@code exp}, capped at the configured maximum TTL.
+     */
+    private static final class TokenExpiry implements Expiry<String, Claims> {
+
+        private final long maxTtlNanos;
+
+        private TokenExpiry(long maxTtlNanos) {
+            this.maxTtlNanos = maxTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return maxTtlNanos;
+            }
+            long remaining = Duration.ofMillis(expiration.getTime() - System.currentTimeMillis()).toNanos();
+            return Math.max(0, Math.min(remaining, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
@@ -0,0 +1,142 @@
+package com.realestate.gateway.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Segment trie for path patterns, built once and then only read.
+ * <p>
+ * Patterns are split on {@code /}. A segment is a literal, {@code *} or {@code {name}} (exactly one
+ * segment), or a trailing {@code **} (zero or more segments). Lookups prefer a literal segment over
+ * {@code *} over {@code **} at each level, so the most specific pattern wins regardless of insertion order.
+ * Each pattern may be limited to some HTTP methods; method-specific entries win over ones for any method.
+ */
+public final class PathTrie<T> {
+
+    private static final String SINGLE = "*";
+    private static final String REMAINDER = "**";
+
+    private final Node<T> root = new Node<>();
+    private int size;
+
+    /**
+     * @param methods HTTP methods the entry applies to; empty for all methods
+     */
+    public PathTrie<T> insert(String pattern, Collection<String> methods, T value) {
+        String[] segments = split(pattern);
+        Node<T> node = root;
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (REMAINDER.equals(segment)) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**' must be the last segment: " + pattern);
+                }
+                node.remainder.add(Entry.of(methods, value));
+                node.remainder.sort(Entry.SPECIFIC_FIRST);
+                size++;
+                return this;
+            }
+            if (SINGLE.equals(segment) || (segment.startsWith("{") && segment.endsWith("}"))) {
+                if (node.single == null) {
+                    node.single = new Node<>();
+                }
+                node = node.single;
+            } else {
+                node = node.literals.computeIfAbsent(segment, s -> new Node<>());
+            }
+        }
+        node.exact.add(Entry.of(methods, value));
+        node.exact.sort(Entry.SPECIFIC_FIRST);
+        size++;
+        return this;
+    }
+
+    /**
+     * Most specific entry for the path and method. Paths with {@code .} or {@code ..} segments never match,
+     * so they cannot be used to reach a protected route through a public pattern.
+     */
+    public Optional<T> match(String method, String path) {
+        String[] segments = split(path);
+        for (String segment : segments) {
+            if (".".equals(segment) || "..".equals(segment)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.ofNullable(match(root, segments, 0, method));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private T match(Node<T> node, String[] segments, int index, String method) {
+        if (index == segments.length) {
+            T exact = select(node.exact, method);
+            return exact != null ? exact : select(node.remainder, method);
+        }
+        Node<T> literal = node.literals.get(segments[index]);
+        if (literal != null) {
+            T found = match(literal, segments, index + 1, method);
+            if (found != null) {
+                return found;
+            }
+        }
+        if (node.single != null) {
+            T found = match(node.single, segments, index + 1, method);
+            if (found != null) {
+                return found;
+            }
+        }
+        return select(node.remainder, method);
+    }
+
+    private static <T> T select(List<Entry<T>> entries, String method) {
+        for (Entry<T> entry : entries) {
+            if (entry.methods.isEmpty() || entry.methods.contains(method)) {
+                return entry.value;
+            }
+        }
+        return null;
+    }
+
+    private static String[] split(String path) {
+        List<String> segments = new ArrayList<>(8);
+        int start = 0;
+        for (int i = 0; i <= path.length(); i++) {
+            if (i == path.length() || path.charAt(i) == '/') {
+                if (i > start) {
+                    segments.add(path.substring(start, i));
+                }
+                start = i + 1;
+            }
+        }
+        return segments.toArray(new String[0]);
+    }
+
+    private static final class Node<T> {
+        private final Map<String, Node<T>> literals = new HashMap<>();
+        private Node<T> single;
+        private final List<Entry<T>> exact = new ArrayList<>(1);
+        private final List<Entry<T>> remainder = new ArrayList<>(1);
+    }
+
+    private record Entry<T>(Set<String> methods, T value) {
+
+        private static final Comparator<Entry<?>> SPECIFIC_FIRST =
+                Comparator.comparing(entry -> entry.methods().isEmpty());
+
+        private static <T> Entry<T> of(Collection<String> methods, T value) {
+            return new Entry<>(methods == null ? Set.of() : methods.stream()
+                    .map(m -> m.toUpperCase(Locale.ROOT))
+                    .collect(Collectors.toUnmodifiableSet()), value);
+        }
+    }
+}
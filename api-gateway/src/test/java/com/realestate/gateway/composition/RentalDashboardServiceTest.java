@@ -0,0 +1,223 @@
+package com.realestate.gateway.composition;
+
+import com.realestate.gateway.util.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Dashboard composition against a local stub standing in for the gateway's own routes.
+ */
+class RentalDashboardServiceTest {
+
+    private static final String TOKEN = "Bearer token";
+    private static final String RENTAL = "/api/rentals/7";
+    private static final String PAYMENTS = "/api/payments/rental/7";
+    private static final String PROPERTY = "/api/properties/3";
+    private static final String TENANT = "/api/users/profile/1";
+    private static final String OWNER = "/api/users/profile/2";
+    private static final Duration LEG_TIMEOUT = Duration.ofMillis(500);
+
+    /** Stub behaviour per request path; unknown paths get 404 */
+    private final Map<String, Answer> answers = new ConcurrentHashMap<>();
+    private final Map<String, Long> startedAt = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private DisposableServer server;
+    private RentalDashboardService service;
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .handle((request, response) -> {
+                    String path = request.uri();
+                    startedAt.put(path, System.nanoTime());
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    Answer answer = answers.getOrDefault(path, new Answer(Duration.ZERO, 404, "{}"));
+                    return Mono.delay(answer.delay())
+                            .then(response.status(answer.status())
+                                    .header(HttpHeaders.CONTENT_TYPE, "application/json")
+                                    .sendString(Mono.just(answer.body()))
+                                    .then())
+                            .doFinally(signal -> inFlight.decrementAndGet());
+                })
+                .bindNow();
+        service = new RentalDashboardService(WebClient.builder(), "http://localhost:" + server.port(), LEG_TIMEOUT);
+
+        answerAll(Duration.ZERO);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.disposeNow();
+    }
+
+    @Test
+    void fetchesIndependentSectionsInParallel() {
+        Duration delay = Duration.ofMillis(200);
+        answerAll(delay);
+
+        long started = System.nanoTime();
+        RentalDashboard dashboard = service.getRentalDashboard(7L, TOKEN).block(Duration.ofSeconds(5));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        assertNotNull(dashboard);
+        assertEquals(List.of(), dashboard.missing());
+        assertEquals("Flat 3", dashboard.property().get("title").asText());
+        assertEquals(2, dashboard.payments().size());
+        // Rental with payments, then property and both profiles: two rounds instead of five
+        assertTrue(elapsed.compareTo(delay.multipliedBy(3)) < 0, "composed in " + elapsed);
+        assertTrue(maxInFlight.get() >= 3, "property and both profiles should overlap");
+        assertTrue(Math.abs(startedAt.get(PAYMENTS) - startedAt.get(RENTAL)) < delay.toNanos() / 2,
+                "payments should start alongside the rental");
+    }
+
+    @Test
+    void slowOrFailingSectionIsReportedMissing() {
+        answers.put(PROPERTY, new Answer(Duration.ofSeconds(3), 200, "{\"data\":{}}"));
+        answers.put(PAYMENTS, new Answer(Duration.ZERO, 500, "{\"message\":\"boom\"}"));
+
+        long started = System.nanoTime();
+        RentalDashboard dashboard = service.getRentalDashboard(7L, TOKEN).block(Duration.ofSeconds(5));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        assertNotNull(dashboard);
+        assertEquals(List.of("property", "payments"), dashboard.missing());
+        assertNull(dashboard.property());
+        assertNull(dashboard.payments());
+        assertEquals("tenant@example.com", dashboard.tenant().get("email").asText());
+        assertTrue(elapsed.compareTo(LEG_TIMEOUT.multipliedBy(2)) < 0, "composed in " + elapsed);
+    }
+
+    @Test
+    void missingRentalKeepsItsClientError() {
+        answers.put(RENTAL, new Answer(Duration.ZERO, 404, "{\"message\":\"not found\"}"));
+
+        ResponseStatusException error = assertThrows(ResponseStatusException.class,
+                () -> service.getRentalDashboard(7L, TOKEN).block(Duration.ofSeconds(5)));
+
+        assertEquals(HttpStatus.NOT_FOUND, error.getStatusCode());
+    }
+
+    @Test
+    void failedOrSlowRentalIsBadGateway() {
+        answers.put(RENTAL, new Answer(Duration.ZERO, 503, "{}"));
+        ResponseStatusException failed = assertThrows(ResponseStatusException.class,
+                () -> service.getRentalDashboard(7L, TOKEN).block(Duration.ofSeconds(5)));
+        assertEquals(HttpStatus.BAD_GATEWAY, failed.getStatusCode());
+
+        answers.put(RENTAL, new Answer(Duration.ofSeconds(3), 200, "{}"));
+        ResponseStatusException slow = assertThrows(ResponseStatusException.class,
+                () -> service.getRentalDashboard(7L, TOKEN).block(Duration.ofSeconds(5)));
+        assertEquals(HttpStatus.BAD_GATEWAY, slow.getStatusCode());
+    }
+
+    @Test
+    void controllerAnswersOkWithMissingSectionsAndPassesRentalErrorsOn() {
+        JwtUtil jwtUtil = mock(JwtUtil.class);
+        when(jwtUtil.isTokenValid("token")).thenReturn(true);
+        WebTestClient client = WebTestClient.bindToController(new RentalDashboardController(service, jwtUtil))
+                .build();
+        answers.put(PAYMENTS, new Answer(Duration.ZERO, 500, "{}"));
+
+        client.get().uri("/api/dashboard/rentals/7").header(HttpHeaders.AUTHORIZATION, TOKEN)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Some sections are unavailable")
+                .jsonPath("$.data.missing[0]").isEqualTo("payments")
+                .jsonPath("$.data.rental.id").isEqualTo(7);
+
+        answers.put(RENTAL, new Answer(Duration.ZERO, 403, "{}"));
+        client.get().uri("/api/dashboard/rentals/7").header(HttpHeaders.AUTHORIZATION, TOKEN)
+                .exchange()
+                .expectStatus().isForbidden();
+
+        answers.put(RENTAL, new Answer(Duration.ZERO, 500, "{}"));
+        client.get().uri("/api/dashboard/rentals/7").header(HttpHeaders.AUTHORIZATION, TOKEN)
+                .exchange()
+                .expectStatus().isEqualTo(HttpStatus.BAD_GATEWAY);
+
+        client.get().uri("/api/dashboard/rentals/7")
+                .exchange()
+                .expectStatus().isUnauthorized();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void composedAgainstSequentialClientCalls() {
+        answerAll(Duration.ofMillis(20));
+        WebClient client = WebClient.create("http://localhost:" + server.port());
+        int iterations = 200;
+
+        long[] sequential = new long[iterations];
+        long[] composed = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long started = System.nanoTime();
+            // What the frontend did: the rental first, then each section one after another
+            for (String path : List.of(RENTAL, PROPERTY, TENANT, OWNER, PAYMENTS)) {
+                client.get().uri(path).header(HttpHeaders.AUTHORIZATION, TOKEN).retrieve()
+                        .bodyToMono(String.class).block();
+            }
+            sequential[i] = System.nanoTime() - started;
+
+            started = System.nanoTime();
+            service.getRentalDashboard(7L, TOKEN).block();
+            composed[i] = System.nanoTime() - started;
+        }
+
+        System.out.printf("Rental page with 20 ms per call: sequential p50 %d ms p99 %d ms, "
+                + "composed p50 %d ms p99 %d ms%n", percentileMillis(sequential, 0.50),
+                percentileMillis(sequential, 0.99), percentileMillis(composed, 0.50),
+                percentileMillis(composed, 0.99));
+        assertTrue(percentileMillis(composed, 0.50) * 2 < percentileMillis(sequential, 0.50));
+    }
+
+    private void answerAll(Duration delay) {
+        answers.put(RENTAL, new Answer(delay, 200,
+                "{\"status\":200,\"data\":{\"id\":7,\"propertyId\":3,\"tenantId\":1,\"ownerId\":2}}"));
+        answers.put(PAYMENTS, new Answer(delay, 200,
+                "{\"status\":200,\"data\":[{\"id\":1,\"amount\":1200},{\"id\":2,\"amount\":1200}]}"));
+        answers.put(PROPERTY, new Answer(delay, 200, "{\"status\":200,\"data\":{\"id\":3,\"title\":\"Flat 3\"}}"));
+        answers.put(TENANT, new Answer(delay, 200,
+                "{\"status\":200,\"data\":{\"id\":1,\"email\":\"tenant@example.com\"}}"));
+        answers.put(OWNER, new Answer(delay, 200,
+                "{\"status\":200,\"data\":{\"id\":2,\"email\":\"owner@example.com\"}}"));
+    }
+
+    private static long percentileMillis(long[] nanos, double percentile) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return Duration.ofNanos(sorted[Math.max(index, 0)]).toMillis();
+    }
+
+    private record Answer(Duration delay, int status, String body) {
+    }
+}
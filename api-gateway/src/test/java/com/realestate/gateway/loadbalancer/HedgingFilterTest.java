@@ -0,0 +1,210 @@
+package com.realestate.gateway.loadbalancer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.headers.HttpHeadersFilter;
+import org.springframework.cloud.gateway.filter.headers.RemoveHopByHopHeadersFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.LoadBalancerClientFactory;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.server.HttpServer;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_LOADBALANCER_RESPONSE_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+/**
+ * Hedging against two local stub instances of property-service, one of which answers slowly.
+ */
+class HedgingFilterTest {
+
+    private static final String SERVICE_ID = "property-service";
+    private static final String SEARCH_PATH = "/api/properties/search";
+    private static final String EXPORT_PATH = "/api/properties/export";
+    private static final Duration SLOW = Duration.ofSeconds(2);
+
+    private DisposableServer slowServer;
+    private DisposableServer fastServer;
+    private ServiceInstance slow;
+    private ServiceInstance fast;
+    private HedgingProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private HedgingFilter filter;
+    private final AtomicInteger chainCalls = new AtomicInteger();
+    private final GatewayFilterChain chain = exchange -> {
+        chainCalls.incrementAndGet();
+        return Mono.empty();
+    };
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        slowServer = stub("slow", SLOW);
+        fastServer = stub("fast", Duration.ZERO);
+        slow = new DefaultServiceInstance("slow", SERVICE_ID, "localhost", slowServer.port(), false);
+        fast = new DefaultServiceInstance("fast", SERVICE_ID, "localhost", fastServer.port(), false);
+
+        InstanceLatencyTracker tracker = new InstanceLatencyTracker(Duration.ofSeconds(10));
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("supplier", supplier(slow, fast));
+        LatencyAwareLoadBalancer loadBalancer = new LatencyAwareLoadBalancer(
+                beanFactory.getBeanProvider(ServiceInstanceListSupplier.class), SERVICE_ID, tracker);
+        LoadBalancerClientFactory clientFactory = mock(LoadBalancerClientFactory.class);
+        when(clientFactory.getInstance(SERVICE_ID, ReactorServiceInstanceLoadBalancer.class)).thenReturn(loadBalancer);
+        ObjectProvider<List<HttpHeadersFilter>> headersFilters = mock(ObjectProvider.class);
+        when(headersFilters.getIfAvailable()).thenReturn(List.of(new RemoveHopByHopHeadersFilter()));
+
+        properties = new HedgingProperties();
+        properties.setEnabled(true);
+        properties.setPaths(List.of(SEARCH_PATH + "/**"));
+        properties.setDelay(Duration.ofMillis(50));
+        properties.setMaxExtraLoad(1.0);
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new HedgingFilter(tracker, properties, clientFactory, headersFilters, meterRegistry,
+                HttpClient.create(), new HttpClientProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowServer.disposeNow();
+        fastServer.disposeNow();
+    }
+
+    @Test
+    void slowPrimaryIsHedgedToTheOtherInstance() {
+        MockServerWebExchange exchange = exchange(SEARCH_PATH, slow);
+
+        long started = System.nanoTime();
+        filter.filter(exchange, chain).block(Duration.ofSeconds(5));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        assertEquals("fast", exchange.getResponse().getBodyAsString().block());
+        assertTrue(elapsed.compareTo(SLOW) < 0, "answered after " + elapsed);
+        assertEquals(1, counter("gateway.hedging.requests").count());
+        assertEquals(1, counter("gateway.hedging.wins").count());
+        assertEquals(0, chainCalls.get());
+    }
+
+    @Test
+    void fastPrimaryIsNotHedged() {
+        properties.setDelay(Duration.ofMillis(500));
+        MockServerWebExchange exchange = exchange(SEARCH_PATH, fast);
+
+        filter.filter(exchange, chain).block(Duration.ofSeconds(5));
+
+        assertEquals("fast", exchange.getResponse().getBodyAsString().block());
+        assertNull(meterRegistry.find("gateway.hedging.requests").counter());
+    }
+
+    @Test
+    void hedgesStopWhenTheBudgetIsSpent() {
+        properties.setMaxExtraLoad(0.5);
+        properties.setBurst(1);
+
+        for (int i = 0; i < 4; i++) {
+            filter.filter(exchange(SEARCH_PATH, slow), chain).block(Duration.ofSeconds(5));
+        }
+
+        assertEquals(2, counter("gateway.hedging.requests").count());
+    }
+
+    @Test
+    void primaryFailureBeforeTheHedgeKeepsItsError() {
+        properties.setDelay(Duration.ofSeconds(3));
+        DisposableServer closed = stub("gone", Duration.ZERO);
+        int closedPort = closed.port();
+        closed.disposeNow();
+        ServiceInstance down = new DefaultServiceInstance("down", SERVICE_ID, "localhost", closedPort, false);
+
+        long started = System.nanoTime();
+        RuntimeException error = assertThrows(RuntimeException.class,
+                () -> filter.filter(exchange(SEARCH_PATH, down), chain).block(Duration.ofSeconds(5)));
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        assertInstanceOf(WebClientRequestException.class, error);
+        assertTrue(elapsed.compareTo(properties.getDelay()) < 0, "failed after " + elapsed);
+        assertNull(meterRegistry.find("gateway.hedging.requests").counter());
+    }
+
+    @Test
+    void pathsOutsideTheAllowListUseNormalRouting() {
+        filter.filter(exchange(EXPORT_PATH, slow), chain).block(Duration.ofSeconds(5));
+
+        assertEquals(1, chainCalls.get());
+        assertNull(meterRegistry.find("gateway.hedging.requests").counter());
+    }
+
+    private Counter counter(String name) {
+        Counter counter = meterRegistry.find(name).tag("route", SERVICE_ID).counter();
+        assertNotNull(counter, name + " not registered");
+        return counter;
+    }
+
+    private static MockServerWebExchange exchange(String path, ServiceInstance primary) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+                MockServerHttpRequest.get("http://localhost:8080" + path + "?city=Paris"));
+        exchange.getAttributes().put(GATEWAY_ROUTE_ATTR, Route.async()
+                .id(SERVICE_ID)
+                .uri("lb://" + SERVICE_ID)
+                .predicate(e -> true)
+                .build());
+        exchange.getAttributes().put(GATEWAY_LOADBALANCER_RESPONSE_ATTR, new DefaultResponse(primary));
+        exchange.getAttributes().put(GATEWAY_REQUEST_URL_ATTR,
+                URI.create("http://localhost:" + primary.getPort() + path + "?city=Paris"));
+        return exchange;
+    }
+
+    private static DisposableServer stub(String body, Duration delay) {
+        return HttpServer.create()
+                .host("localhost")
+                .port(0)
+                .handle((request, response) -> Mono.delay(delay)
+                        .then(response.sendString(Mono.just(body)).then()))
+                .bindNow();
+    }
+
+    private static ServiceInstanceListSupplier supplier(ServiceInstance... instances) {
+        return new ServiceInstanceListSupplier() {
+            @Override
+            public String getServiceId() {
+                return SERVICE_ID;
+            }
+
+            @Override
+            public Flux<List<ServiceInstance>> get() {
+                return Flux.just(List.of(instances));
+            }
+        };
+    }
+}
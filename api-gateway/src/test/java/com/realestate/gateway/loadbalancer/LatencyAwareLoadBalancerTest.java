@@ -0,0 +1,91 @@
+package com.realestate.gateway.loadbalancer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class LatencyAwareLoadBalancerTest {
+
+    private static final String SERVICE_ID = "property-service";
+
+    private final ServiceInstance slow = new DefaultServiceInstance("slow", SERVICE_ID, "10.0.0.1", 8082, false);
+    private final ServiceInstance fast = new DefaultServiceInstance("fast", SERVICE_ID, "10.0.0.2", 8082, false);
+    private final InstanceLatencyTracker tracker = new InstanceLatencyTracker(Duration.ofSeconds(10));
+    private final LatencyAwareLoadBalancer loadBalancer = loadBalancer(slow, fast);
+
+    @Test
+    void slowInstanceStopsGettingTraffic() throws InterruptedException {
+        InstanceLatencyTracker.Call slowCall = tracker.begin(slow);
+        Thread.sleep(50);
+        slowCall.end(false);
+        tracker.begin(fast).end(false);
+
+        for (int i = 0; i < 50; i++) {
+            assertEquals(fast, choose());
+        }
+    }
+
+    @Test
+    void outstandingRequestsCountAgainstAnInstance() throws InterruptedException {
+        // Same latency for both, so only the queue differs
+        InstanceLatencyTracker.Call first = tracker.begin(slow);
+        InstanceLatencyTracker.Call second = tracker.begin(fast);
+        Thread.sleep(5);
+        first.end(false);
+        second.end(false);
+        for (int i = 0; i < 100; i++) {
+            tracker.begin(fast);
+        }
+
+        assertEquals(slow, choose());
+    }
+
+    @Test
+    void failuresArePenalised() {
+        tracker.begin(slow).end(true);
+        tracker.begin(fast).end(false);
+
+        assertEquals(fast, choose());
+    }
+
+    @Test
+    void chooseExcludingNeverReturnsTheExcludedInstance() {
+        for (int i = 0; i < 20; i++) {
+            Response<ServiceInstance> response = loadBalancer.chooseExcluding(fast).block();
+            assertEquals(slow, response.getServer());
+        }
+        assertFalse(loadBalancer(slow).chooseExcluding(slow).block().hasServer());
+    }
+
+    private ServiceInstance choose() {
+        return loadBalancer.choose(new DefaultRequest<>()).block().getServer();
+    }
+
+    private LatencyAwareLoadBalancer loadBalancer(ServiceInstance... instances) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("supplier", new ServiceInstanceListSupplier() {
+            @Override
+            public String getServiceId() {
+                return SERVICE_ID;
+            }
+
+            @Override
+            public Flux<List<ServiceInstance>> get() {
+                return Flux.just(List.of(instances));
+            }
+        });
+        return new LatencyAwareLoadBalancer(beanFactory.getBeanProvider(ServiceInstanceListSupplier.class),
+                SERVICE_ID, tracker);
+    }
+}
@@ -0,0 +1,82 @@
+package com.realestate.gateway.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RouteSecurityMatcherTest {
+
+    private final MockEnvironment environment = new MockEnvironment();
+    private RouteSecurityMatcher matcher;
+
+    @BeforeEach
+    void setUp() {
+        rule(0, "/api/users/register", "PUBLIC");
+        rule(1, "/api/users/login", "PUBLIC");
+        rule(2, "/api/users/*", "ROLE");
+        environment.setProperty("gateway.security.rules[2].methods[0]", "DELETE");
+        environment.setProperty("gateway.security.rules[2].roles[0]", "ADMIN");
+        rule(3, "/api/properties/search/**", "PUBLIC");
+        environment.setProperty("gateway.security.rules[3].methods[0]", "GET");
+        matcher = new RouteSecurityMatcher(environment);
+    }
+
+    @Test
+    void resolvesConfiguredRules() {
+        assertEquals(AccessPolicy.PUBLIC, access("POST", "/api/users/register"));
+        assertEquals(AccessPolicy.PUBLIC, access("GET", "/api/properties/search/city"));
+        assertEquals(AccessPolicy.ROLE, access("DELETE", "/api/users/5"));
+        assertEquals(AccessPolicy.AUTHENTICATED, access("GET", "/api/users/5"));
+    }
+
+    @Test
+    void lookAlikeAndTraversalPathsGetTheDefault() {
+        assertEquals(AccessPolicy.AUTHENTICATED, access("POST", "/api/users/registerX"));
+        assertEquals(AccessPolicy.AUTHENTICATED, access("POST", "/api/users/login/../5"));
+        assertEquals(AccessPolicy.AUTHENTICATED, access("GET", "/api/properties/search/../../users/5"));
+    }
+
+    @Test
+    void reloadsRulesOnEnvironmentChange() {
+        environment.setProperty("gateway.security.rules[0].access", "AUTHENTICATED");
+
+        matcher.onEnvironmentChange(new EnvironmentChangeEvent(Set.of("gateway.security.rules[0].access")));
+
+        assertEquals(AccessPolicy.AUTHENTICATED, access("POST", "/api/users/register"));
+    }
+
+    @Test
+    void invalidReloadKeepsPreviousRules() {
+        environment.setProperty("gateway.security.rules[0].access", "AUTHENTICATED");
+        // A ROLE rule without roles does not compile
+        rule(4, "/api/payments/**", "ROLE");
+
+        matcher.onEnvironmentChange(new EnvironmentChangeEvent(Set.of("gateway.security.rules[4].access")));
+
+        assertEquals(AccessPolicy.AUTHENTICATED, access("GET", "/api/payments/1"));
+        assertEquals(AccessPolicy.PUBLIC, access("POST", "/api/users/register"));
+    }
+
+    @Test
+    void ignoresUnrelatedEnvironmentChanges() {
+        environment.setProperty("gateway.security.rules[0].access", "AUTHENTICATED");
+
+        matcher.onEnvironmentChange(new EnvironmentChangeEvent(Set.of("gateway.rate-limit.enabled")));
+
+        assertEquals(AccessPolicy.PUBLIC, access("POST", "/api/users/register"));
+    }
+
+    private AccessPolicy access(String method, String path) {
+        return matcher.match(method, path).getAccess();
+    }
+
+    private void rule(int index, String pattern, String access) {
+        environment.setProperty("gateway.security.rules[" + index + "].pattern", pattern);
+        environment.setProperty("gateway.security.rules[" + index + "].access", access);
+    }
+}
@@ -0,0 +1,132 @@
+package com.realestate.gateway.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PathTrieTest {
+
+    @Test
+    void matchesWholeSegmentsOnly() {
+        PathTrie<String> trie = new PathTrie<String>()
+                .insert("/api/users/register", List.of(), "register");
+
+        assertEquals(Optional.of("register"), trie.match("POST", "/api/users/register"));
+        assertEquals(Optional.of("register"), trie.match("POST", "/api/users/register/"));
+        assertEquals(Optional.empty(), trie.match("POST", "/api/users/registerX"));
+        assertEquals(Optional.empty(), trie.match("POST", "/api/users/register/extra"));
+    }
+
+    @Test
+    void literalBeatsSingleBeatsRemainderWhateverTheInsertionOrder() {
+        PathTrie<String> trie = new PathTrie<String>()
+                .insert("/api/**", List.of(), "remainder")
+                .insert("/api/*/5", List.of(), "single")
+                .insert("/api/users/5", List.of(), "literal");
+
+        assertEquals(Optional.of("literal"), trie.match("GET", "/api/users/5"));
+        assertEquals(Optional.of("single"), trie.match("GET", "/api/rentals/5"));
+        assertEquals(Optional.of("remainder"), trie.match("GET", "/api/rentals/6"));
+        assertEquals(Optional.of("remainder"), trie.match("GET", "/api"));
+    }
+
+    @Test
+    void fallsBackWhenTheLiteralBranchDeadEnds() {
+        PathTrie<String> trie = new PathTrie<String>()
+                .insert("/api/users/me", List.of(), "me")
+                .insert("/api/{service}/{id}/history", List.of(), "history");
+
+        assertEquals(Optional.of("history"), trie.match("GET", "/api/users/7/history"));
+        assertEquals(Optional.empty(), trie.match("GET", "/api/users/me/settings"));
+    }
+
+    @Test
+    void methodSpecificEntryWinsOverAnyMethod() {
+        PathTrie<String> trie = new PathTrie<String>()
+                .insert("/api/users/*", List.of(), "any")
+                .insert("/api/users/*", List.of("delete"), "delete");
+
+        assertEquals(Optional.of("delete"), trie.match("DELETE", "/api/users/5"));
+        assertEquals(Optional.of("any"), trie.match("GET", "/api/users/5"));
+    }
+
+    @Test
+    void methodLimitedEntryDoesNotMatchOtherMethods() {
+        PathTrie<String> trie = new PathTrie<String>()
+                .insert("/api/properties/search/**", List.of("GET"), "search");
+
+        assertEquals(Optional.of("search"), trie.match("GET", "/api/properties/search/city"));
+        assertEquals(Optional.empty(), trie.match("POST", "/api/properties/search/city"));
+    }
+
+    @Test
+    void rejectsDotSegments() {
+        PathTrie<String> trie = new PathTrie<String>()
+                .insert("/api/properties/search/**", List.of(), "search");
+
+        assertEquals(Optional.empty(), trie.match("GET", "/api/properties/search/../../users/5"));
+        assertEquals(Optional.empty(), trie.match("GET", "/api/properties/search/./city"));
+    }
+
+    @Test
+    void remainderMustBeTheLastSegment() {
+        PathTrie<String> trie = new PathTrie<>();
+
+        assertThrows(IllegalArgumentException.class, () -> trie.insert("/api/**/users", List.of(), "bad"));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void trieAgainstPrefixStream() {
+        // 60 patterns shaped like the gateway's routes
+        List<String> prefixes = new ArrayList<>();
+        PathTrie<String> trie = new PathTrie<>();
+        String[] services = {"users", "properties", "rentals", "payments", "notifications", "blockchain"};
+        String[] resources = {"search", "nearby", "images", "history", "owner", "tenant", "status", "export",
+                "stats", "audit"};
+        for (String service : services) {
+            for (String resource : resources) {
+                String prefix = "/api/" + service + "/" + resource;
+                prefixes.add(prefix);
+                trie.insert(prefix + "/**", List.of(), prefix);
+            }
+        }
+        List<String> paths = List.of("/api/rentals/audit/2024/10", "/api/users/42", "/api/blockchain/stats",
+                "/api/payments/unknown/7", "/swagger-ui/index.html");
+
+        long streamNanos = run(paths, path -> prefixes.stream().anyMatch(path::startsWith));
+        long trieNanos = run(paths, path -> trie.match("GET", path).isPresent());
+
+        System.out.printf("%d patterns: prefix stream %d ns/lookup, trie %d ns/lookup%n", prefixes.size(),
+                streamNanos, trieNanos);
+        assertTrue(trieNanos < streamNanos, "trie should beat the prefix stream");
+    }
+
+    private static long run(List<String> paths, Predicate<String> matcher) {
+        int iterations = 2_000_000;
+        int hits = 0;
+        // Warm-up, then the measured run
+        for (int round = 0; round < 2; round++) {
+            long started = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                if (matcher.test(paths.get(i % paths.size()))) {
+                    hits++;
+                }
+            }
+            if (round == 1) {
+                // Keeps the JIT from dropping the loop
+                assertTrue(hits > 0);
+                return (System.nanoTime() - started) / iterations;
+            }
+        }
+        throw new IllegalStateException();
+    }
+}
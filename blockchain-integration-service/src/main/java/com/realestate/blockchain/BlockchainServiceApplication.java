@@ -3,9 +3,13 @@ package com.realestate.blockchain;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableDiscoveryClient
+@EnableJpaAuditing
+@EnableScheduling
 public class BlockchainServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(BlockchainServiceApplication.class, args);
@@ -1,11 +1,25 @@
 package com.realestate.blockchain.config;
 
+import com.realestate.blockchain.tx.NonceManager;
+import com.realestate.blockchain.tx.NonceManagingTransactionManager;
+import io.micrometer.core.instrument.MeterRegistry;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.web3j.crypto.Credentials;
 import org.web3j.protocol.Web3j;
-import org.web3j.protocol.http.HttpService;
+import org.web3j.tx.TransactionManager;
+import org.web3j.tx.response.NoOpProcessor;
+import org.web3j.tx.response.PollingTransactionReceiptProcessor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 public class BlockchainConfig {
@@ -16,13 +30,96 @@ public class BlockchainConfig {
     @Value("${blockchain.private-key}")
     private String privateKey;
 
+    @Value("${blockchain.chain-id:-1}")
+    private long chainId;
+
+    @Value("${blockchain.nonce.max-attempts:3}")
+    private int nonceMaxAttempts;
+
+    @Value("${blockchain.http.max-idle-connections:20}")
+    private int maxIdleConnections;
+
+    @Value("${blockchain.http.keep-alive:5m}")
+    private Duration keepAlive;
+
+    @Value("${blockchain.http.max-requests:128}")
+    private int maxRequests;
+
+    @Value("${blockchain.http.max-requests-per-host:64}")
+    private int maxRequestsPerHost;
+
+    @Value("${blockchain.http.connect-timeout:5s}")
+    private Duration connectTimeout;
+
+    @Value("${blockchain.http.read-timeout:30s}")
+    private Duration readTimeout;
+
+    @Value("${blockchain.http.call-timeout:60s}")
+    private Duration callTimeout;
+
+    @Value("${blockchain.http.http2-enabled:true}")
+    private boolean http2Enabled;
+
+    /**
+     * Pooled OkHttp client shared by every JSON-RPC call to the node
+     */
+    @Bean
+    public OkHttpClient blockchainHttpClient() {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(maxRequests);
+        dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+
+        return new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool(maxIdleConnections, keepAlive.toMillis(), TimeUnit.MILLISECONDS))
+                .dispatcher(dispatcher)
+                .protocols(http2Enabled ? List.of(Protocol.HTTP_2, Protocol.HTTP_1_1) : List.of(Protocol.HTTP_1_1))
+                .connectTimeout(connectTimeout)
+                .readTimeout(readTimeout)
+                .writeTimeout(readTimeout)
+                .callTimeout(callTimeout)
+                .retryOnConnectionFailure(true)
+                .build();
+    }
+
     @Bean
-    public Web3j web3j() {
-        return Web3j.build(new HttpService(nodeUrl));
+    public Web3j web3j(OkHttpClient blockchainHttpClient, MeterRegistry meterRegistry) {
+        return Web3j.build(new InstrumentedHttpService(nodeUrl, blockchainHttpClient, meterRegistry));
     }
 
     @Bean
     public Credentials credentials() {
         return Credentials.create(privateKey);
     }
+
+    /**
+     * Single nonce source for the platform wallet, shared by every transaction manager below
+     */
+    @Bean
+    public NonceManager nonceManager(Web3j web3j, Credentials credentials) {
+        return new NonceManager(web3j, credentials.getAddress());
+    }
+
+    /**
+     * Transaction manager that waits for the receipt before returning
+     */
+    @Bean
+    @Primary
+    public TransactionManager transactionManager(Web3j web3j, Credentials credentials, NonceManager nonceManager) {
+        return new NonceManagingTransactionManager(web3j, credentials, chainId,
+                new PollingTransactionReceiptProcessor(web3j,
+                        TransactionManager.DEFAULT_POLLING_FREQUENCY,
+                        TransactionManager.DEFAULT_POLLING_ATTEMPTS_PER_TX_HASH),
+                nonceManager, nonceMaxAttempts);
+    }
+
+    /**
+     * Transaction manager that returns as soon as the transaction is broadcast,
+     * leaving receipt lookup to the {@code TransactionTracker}.
+     */
+    @Bean
+    public TransactionManager submitTransactionManager(Web3j web3j, Credentials credentials,
+            NonceManager nonceManager) {
+        return new NonceManagingTransactionManager(web3j, credentials, chainId, new NoOpProcessor(web3j),
+                nonceManager, nonceMaxAttempts);
+    }
 }
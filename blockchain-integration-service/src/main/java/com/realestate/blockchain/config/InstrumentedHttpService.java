@@ -0,0 +1,61 @@
+package com.realestate.blockchain.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import okhttp3.OkHttpClient;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.http.HttpService;
+
+import java.io.IOException;
+
+/**
+ * {@link HttpService} that records a {@code blockchain.rpc} timer per JSON-RPC method and outcome
+ */
+public class InstrumentedHttpService extends HttpService {
+
+    private static final String METRIC_NAME = "blockchain.rpc";
+
+    private final MeterRegistry meterRegistry;
+
+    public InstrumentedHttpService(String url, OkHttpClient httpClient, MeterRegistry meterRegistry) {
+        super(url, httpClient);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public <T extends Response> T send(Request request, Class<T> responseType) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "io_error";
+        try {
+            T response = super.send(request, responseType);
+            outcome = response != null && response.hasError() ? "rpc_error" : "success";
+            return response;
+        } finally {
+            sample.stop(timer(request.getMethod(), outcome));
+        }
+    }
+
+    @Override
+    public BatchResponse sendBatch(BatchRequest batchRequest) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "io_error";
+        try {
+            BatchResponse response = super.sendBatch(batchRequest);
+            outcome = "success";
+            return response;
+        } finally {
+            sample.stop(timer("batch", outcome));
+        }
+    }
+
+    private Timer timer(String method, String outcome) {
+        return Timer.builder(METRIC_NAME)
+                .description("Latency of JSON-RPC calls to the blockchain node")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
@@ -2,15 +2,24 @@ package com.realestate.blockchain.controller;
 
 import com.realestate.common.dto.ResponseWrapper;
 import com.realestate.common.dto.SmartContractRequest;
+import com.realestate.blockchain.dto.AgreementBatchRequest;
+import com.realestate.blockchain.dto.AgreementState;
+import com.realestate.blockchain.entity.ContractEvent;
+import com.realestate.blockchain.entity.IndexerCheckpoint;
+import com.realestate.blockchain.model.TrackedTransaction;
 import com.realestate.blockchain.service.BlockchainService;
+import com.realestate.blockchain.service.ChainHistoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -20,6 +29,7 @@ import java.util.Map;
 public class BlockchainController {
 
     private final BlockchainService blockchainService;
+    private final ChainHistoryService chainHistoryService;
 
     @PostMapping("/transaction")
     @Operation(summary = "Execute smart contract transaction")
@@ -29,6 +39,61 @@ public class BlockchainController {
                 .body(ResponseWrapper.success("Transaction submitted", blockchainService.executeTransaction(request)));
     }
 
+    @PostMapping("/transaction/submit")
+    @Operation(summary = "Broadcast smart contract transaction and track its receipt asynchronously")
+    public ResponseEntity<ResponseWrapper<TrackedTransaction>> submitTransaction(
+            @Valid @RequestBody SmartContractRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ResponseWrapper.success("Transaction broadcast", blockchainService.submitTransaction(request)));
+    }
+
+    @GetMapping("/transaction/{hash}")
+    @Operation(summary = "Get status of a submitted transaction")
+    public ResponseEntity<ResponseWrapper<TrackedTransaction>> getTransactionStatus(
+            @PathVariable("hash") String hash) {
+        return ResponseEntity.ok(ResponseWrapper.success(blockchainService.getTransactionStatus(hash)));
+    }
+
+    @PostMapping("/agreements/batch")
+    @Operation(summary = "Read many agreements in batched JSON-RPC calls")
+    public ResponseEntity<ResponseWrapper<List<AgreementState>>> getAgreements(
+            @Valid @RequestBody AgreementBatchRequest request) {
+        return ResponseEntity.ok(ResponseWrapper.success(blockchainService.getAgreements(request)));
+    }
+
+    @GetMapping("/history/agreements/{agreementId}")
+    @Operation(summary = "Get indexed events for an agreement")
+    public ResponseEntity<ResponseWrapper<List<ContractEvent>>> getAgreementHistory(
+            @PathVariable("agreementId") Long agreementId) {
+        return ResponseEntity.ok(ResponseWrapper.success(chainHistoryService.getAgreementHistory(agreementId)));
+    }
+
+    @GetMapping("/history/agreements")
+    @Operation(summary = "Get indexed agreements created for an owner wallet")
+    public ResponseEntity<ResponseWrapper<Page<ContractEvent>>> getAgreementsByOwner(
+            @RequestParam("owner") String owner,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ResponseWrapper.success(
+                chainHistoryService.getAgreementsByOwner(owner, PageRequest.of(page, size))));
+    }
+
+    @GetMapping("/history/payments")
+    @Operation(summary = "Get indexed rent payments by payer wallet")
+    public ResponseEntity<ResponseWrapper<Page<ContractEvent>>> getPaymentsByPayer(
+            @RequestParam("payer") String payer,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ResponseWrapper.success(
+                chainHistoryService.getPaymentsByPayer(payer, PageRequest.of(page, size))));
+    }
+
+    @GetMapping("/history/status")
+    @Operation(summary = "Get the last block processed by the event indexer")
+    public ResponseEntity<ResponseWrapper<IndexerCheckpoint>> getIndexerStatus() {
+        return ResponseEntity.ok(ResponseWrapper.success(chainHistoryService.getCheckpoint()));
+    }
+
     @GetMapping("/contract/{address}")
     @Operation(summary = "Get smart contract state")
     public ResponseEntity<ResponseWrapper<Map<String, Object>>> getContractState(
@@ -0,0 +1,18 @@
+package com.realestate.blockchain.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.math.BigInteger;
+import java.util.List;
+
+@Data
+public class AgreementBatchRequest {
+
+    private String contractAddress;
+
+    @NotEmpty(message = "Agreement IDs are required")
+    @Size(max = 1000, message = "At most 1000 agreements can be read per request")
+    private List<BigInteger> agreementIds;
+}
@@ -0,0 +1,39 @@
+package com.realestate.blockchain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigInteger;
+
+/**
+ * On-chain state of one agreement as read at {@code blockNumber}. Every requested id gets an entry;
+ * the agreement fields are only set when {@code status} is {@code FOUND}.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AgreementState {
+    private BigInteger agreementId;
+    private Status status;
+    /** Why the read failed, when {@code status} is {@code ERROR} */
+    private String error;
+    private String tenant;
+    private String owner;
+    private BigInteger rentAmount;
+    private BigInteger deposit;
+    private Boolean active;
+    private BigInteger blockNumber;
+
+    public enum Status {
+        FOUND,
+        /** The call returned no data or an empty agreement: no such id, or no contract at the address */
+        NOT_FOUND,
+        /** The node returned an error, reverted, or did not answer for this id */
+        ERROR
+    }
+}
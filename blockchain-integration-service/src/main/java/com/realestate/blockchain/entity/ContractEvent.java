@@ -0,0 +1,62 @@
+package com.realestate.blockchain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+
+/**
+ * Decoded RentalAgreement log, mirrored from the chain by the event indexer
+ */
+@Entity
+@Table(name = "contract_events")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class ContractEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String contractAddress;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ContractEventType eventType;
+
+    @Column(nullable = false)
+    private Long agreementId;
+
+    private String tenant;
+    private String owner;
+    private String payer;
+
+    @Column(precision = 78, scale = 0)
+    private BigInteger amount;
+
+    @Column(nullable = false)
+    private Long blockNumber;
+
+    @Column(nullable = false)
+    private String blockHash;
+
+    @Column(nullable = false)
+    private String transactionHash;
+
+    @Column(nullable = false)
+    private Integer logIndex;
+
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime indexedAt;
+}
@@ -0,0 +1,6 @@
+package com.realestate.blockchain.entity;
+
+public enum ContractEventType {
+    AGREEMENT_CREATED,
+    PAYMENT_RECEIVED
+}
@@ -0,0 +1,36 @@
+package com.realestate.blockchain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * Last block fully processed by the event indexer for a contract
+ */
+@Entity
+@Table(name = "indexer_checkpoints")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@EntityListeners(AuditingEntityListener.class)
+public class IndexerCheckpoint {
+
+    @Id
+    private String contractAddress;
+
+    @Column(nullable = false)
+    private Long lastBlock;
+
+    private String lastBlockHash;
+
+    @LastModifiedDate
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
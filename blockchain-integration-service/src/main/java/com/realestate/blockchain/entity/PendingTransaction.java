@@ -0,0 +1,33 @@
+package com.realestate.blockchain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Durable record of a broadcast transaction whose receipt has not been resolved yet, so tracking
+ * survives a restart. The row is removed once the final status is published.
+ */
+@Entity
+@Table(name = "pending_transactions")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingTransaction {
+
+    @Id
+    private String transactionHash;
+
+    @Column(nullable = false)
+    private String transactionId;
+
+    private String functionName;
+
+    @Column(nullable = false)
+    private LocalDateTime submittedAt;
+}
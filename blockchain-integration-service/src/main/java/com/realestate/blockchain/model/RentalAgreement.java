@@ -4,6 +4,7 @@ import org.web3j.abi.FunctionEncoder;
 import org.web3j.abi.TypeReference;
 import org.web3j.abi.datatypes.Address;
 import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.Event;
 import org.web3j.abi.datatypes.Function;
 import org.web3j.abi.datatypes.Type;
 import org.web3j.abi.datatypes.generated.Uint256;
@@ -24,6 +25,24 @@ import java.util.Collections;
  */
 public class RentalAgreement extends Contract {
 
+    public static final Event AGREEMENTCREATED_EVENT = new Event("AgreementCreated",
+            Arrays.asList(
+                    new TypeReference<Uint256>(true) {
+                    },
+                    new TypeReference<Address>() {
+                    },
+                    new TypeReference<Address>() {
+                    }));
+
+    public static final Event PAYMENTRECEIVED_EVENT = new Event("PaymentReceived",
+            Arrays.asList(
+                    new TypeReference<Uint256>(true) {
+                    },
+                    new TypeReference<Address>(true) {
+                    },
+                    new TypeReference<Uint256>() {
+                    }));
+
     protected RentalAgreement(String contractAddress, Web3j web3j, Credentials credentials,
             ContractGasProvider gasProvider) {
         super("", contractAddress, web3j, credentials, gasProvider);
@@ -39,6 +58,11 @@ public class RentalAgreement extends Contract {
         return new RentalAgreement(contractAddress, web3j, credentials, gasProvider);
     }
 
+    public static RentalAgreement load(String contractAddress, Web3j web3j, TransactionManager transactionManager,
+            ContractGasProvider gasProvider) {
+        return new RentalAgreement(contractAddress, web3j, transactionManager, gasProvider);
+    }
+
     public RemoteCall<TransactionReceipt> createAgreement(String owner, BigInteger rentAmount, BigInteger deposit) {
         final Function function = new Function(
                 "createAgreement",
@@ -74,7 +98,15 @@ public class RentalAgreement extends Contract {
     }
 
     public RemoteCall<Agreement> agreements(BigInteger index) {
-        final Function function = new Function(
+        final Function function = agreementsFunction(index);
+        return new RemoteCall<>(() -> decodeAgreement(executeCallMultipleValueReturn(function)));
+    }
+
+    /**
+     * ABI definition of the public {@code agreements(uint256)} getter, for callers that batch raw eth_calls
+     */
+    public static Function agreementsFunction(BigInteger index) {
+        return new Function(
                 "agreements",
                 Collections.singletonList(new Uint256(index)),
                 Arrays.asList(
@@ -90,16 +122,16 @@ public class RentalAgreement extends Contract {
                         },
                         new TypeReference<Bool>() {
                         }));
-        return new RemoteCall<>(() -> {
-            java.util.List<Type> results = executeCallMultipleValueReturn(function);
-            return new Agreement(
-                    (BigInteger) results.get(0).getValue(),
-                    (String) results.get(1).getValue(),
-                    (String) results.get(2).getValue(),
-                    (BigInteger) results.get(3).getValue(),
-                    (BigInteger) results.get(4).getValue(),
-                    (Boolean) results.get(5).getValue());
-        });
+    }
+
+    public static Agreement decodeAgreement(java.util.List<Type> results) {
+        return new Agreement(
+                (BigInteger) results.get(0).getValue(),
+                (String) results.get(1).getValue(),
+                (String) results.get(2).getValue(),
+                (BigInteger) results.get(3).getValue(),
+                (BigInteger) results.get(4).getValue(),
+                (Boolean) results.get(5).getValue());
     }
 
     public static class Agreement {
@@ -0,0 +1,27 @@
+package com.realestate.blockchain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+
+/**
+ * A broadcast transaction whose receipt is being tracked by the receipt poller
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrackedTransaction {
+    private String transactionId;
+    private String transactionHash;
+    private String functionName;
+    private TransactionStatus status;
+    private BigInteger blockNumber;
+    private BigInteger gasUsed;
+    private LocalDateTime submittedAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,8 @@
+package com.realestate.blockchain.model;
+
+public enum TransactionStatus {
+    PENDING,
+    SUCCESS,
+    FAILED,
+    TIMED_OUT
+}
@@ -0,0 +1,27 @@
+package com.realestate.blockchain.producer;
+
+import com.realestate.common.dto.BlockchainTransactionEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BlockchainEventProducer {
+
+    @Value("${rabbitmq.exchange.name:realestate-exchange}")
+    private String exchange;
+
+    @Value("${rabbitmq.routing.key.blockchain-transaction:blockchain.transaction}")
+    private String routingKey;
+
+    private final RabbitTemplate rabbitTemplate;
+
+    public void sendTransactionEvent(BlockchainTransactionEvent event) {
+        log.info("Sending blockchain transaction event -> {}", event);
+        rabbitTemplate.convertAndSend(exchange, routingKey, event);
+    }
+}
@@ -0,0 +1,30 @@
+package com.realestate.blockchain.repository;
+
+import com.realestate.blockchain.entity.ContractEvent;
+import com.realestate.blockchain.entity.ContractEventType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ContractEventRepository extends JpaRepository<ContractEvent, Long> {
+
+    List<ContractEvent> findByContractAddressAndAgreementIdOrderByBlockNumberAscLogIndexAsc(
+            String contractAddress, Long agreementId);
+
+    Page<ContractEvent> findByContractAddressAndEventTypeAndPayer(
+            String contractAddress, ContractEventType eventType, String payer, Pageable pageable);
+
+    Page<ContractEvent> findByContractAddressAndEventTypeAndOwner(
+            String contractAddress, ContractEventType eventType, String owner, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM ContractEvent e WHERE e.contractAddress = :contractAddress AND e.blockNumber > :blockNumber")
+    int deleteAfterBlock(@Param("contractAddress") String contractAddress, @Param("blockNumber") Long blockNumber);
+}
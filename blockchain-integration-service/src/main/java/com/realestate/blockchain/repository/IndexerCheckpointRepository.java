@@ -0,0 +1,9 @@
+package com.realestate.blockchain.repository;
+
+import com.realestate.blockchain.entity.IndexerCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface IndexerCheckpointRepository extends JpaRepository<IndexerCheckpoint, String> {
+}
@@ -0,0 +1,205 @@
+package com.realestate.blockchain.service;
+
+import com.realestate.blockchain.dto.AgreementState;
+import com.realestate.blockchain.model.RentalAgreement;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.FunctionReturnDecoder;
+import org.web3j.abi.TypeReference;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.crypto.Credentials;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.request.Transaction;
+import org.web3j.protocol.core.methods.response.EthCall;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads many {@code agreements(id)} entries with JSON-RPC batches of eth_call pinned to one block.
+ * Each requested id comes back with a status, so one bad id does not fail or silently shrink the batch.
+ * <p>
+ * Found and not-found results are cached for the block they were read at; errors are not. The latest block number itself is reused for
+ * {@code block-ttl-ms}, so bursts of reads within the same block cost no extra round trips.
+ */
+@Service
+@Slf4j
+public class AgreementReader {
+
+    private static final String ZERO_ADDRESS = Address.DEFAULT.toString();
+
+    private final Web3j web3j;
+    private final String fromAddress;
+
+    @Value("${blockchain.agreement-reader.batch-size:100}")
+    private int batchSize;
+
+    @Value("${blockchain.agreement-reader.block-ttl-ms:1000}")
+    private long blockTtlMs;
+
+    @Value("${blockchain.agreement-reader.cache-max-entries:10000}")
+    private int cacheMaxEntries;
+
+    private volatile BlockSnapshot snapshot;
+
+    public AgreementReader(Web3j web3j, Credentials credentials) {
+        this.web3j = web3j;
+        this.fromAddress = credentials.getAddress();
+    }
+
+    public List<AgreementState> getAgreements(String contractAddress, List<BigInteger> agreementIds) {
+        BlockSnapshot current = currentSnapshot();
+        String address = contractAddress.toLowerCase(Locale.ROOT);
+
+        Map<BigInteger, AgreementState> found = new HashMap<>();
+        Set<BigInteger> uncached = new LinkedHashSet<>();
+        for (BigInteger id : agreementIds) {
+            AgreementState cached = current.entries().get(cacheKey(address, id));
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                uncached.add(id);
+            }
+        }
+        List<BigInteger> missing = new ArrayList<>(uncached);
+
+        for (int from = 0; from < missing.size(); from += batchSize) {
+            List<BigInteger> chunk = missing.subList(from, Math.min(from + batchSize, missing.size()));
+            for (AgreementState state : readBatch(address, chunk, current.blockNumber())) {
+                found.put(state.getAgreementId(), state);
+                if (state.getStatus() != AgreementState.Status.ERROR
+                        && current.entries().size() < cacheMaxEntries) {
+                    current.entries().put(cacheKey(address, state.getAgreementId()), state);
+                }
+            }
+        }
+
+        return agreementIds.stream()
+                .map(found::get)
+                .toList();
+    }
+
+    private List<AgreementState> readBatch(String address, List<BigInteger> ids, BigInteger blockNumber) {
+        BatchRequest batch = web3j.newBatch();
+        DefaultBlockParameter block = DefaultBlockParameter.valueOf(blockNumber);
+        Map<Long, BigInteger> idsByRequest = new HashMap<>();
+        List<TypeReference<Type>> outputs = null;
+
+        for (BigInteger id : ids) {
+            Function function = RentalAgreement.agreementsFunction(id);
+            outputs = function.getOutputParameters();
+            Request<?, EthCall> request = web3j.ethCall(
+                    Transaction.createEthCallTransaction(fromAddress, address, FunctionEncoder.encode(function)),
+                    block);
+            idsByRequest.put(request.getId(), id);
+            batch.add(request);
+        }
+
+        try {
+            Map<BigInteger, AgreementState> states = new LinkedHashMap<>();
+            for (Response<?> item : batch.send().getResponses()) {
+                BigInteger id = idsByRequest.get(item.getId());
+                if (id != null) {
+                    states.put(id, toState(id, (EthCall) item, outputs, blockNumber));
+                }
+            }
+            for (BigInteger id : ids) {
+                states.computeIfAbsent(id, missing -> failed(missing, "No response in batch", blockNumber));
+            }
+            return List.copyOf(states.values());
+        } catch (IOException e) {
+            throw new RuntimeException("Blockchain batch read error: " + e.getMessage(), e);
+        }
+    }
+
+    private static AgreementState toState(BigInteger id, EthCall call, List<TypeReference<Type>> outputs,
+            BigInteger blockNumber) {
+        if (call.hasError() || call.isReverted()) {
+            String reason = call.hasError() ? call.getError().getMessage() : call.getRevertReason();
+            log.warn("Agreement {} read failed in batch: {}", id, reason);
+            return failed(id, reason, blockNumber);
+        }
+        // "0x" (no contract code at the address) decodes to an empty list
+        List<Type> values = FunctionReturnDecoder.decode(call.getValue(), outputs);
+        if (values.size() < outputs.size()) {
+            return notFound(id, blockNumber);
+        }
+        RentalAgreement.Agreement agreement = RentalAgreement.decodeAgreement(values);
+        // Unknown ids decode as an all-zero struct
+        if (ZERO_ADDRESS.equals(agreement.owner)) {
+            return notFound(id, blockNumber);
+        }
+        return AgreementState.builder()
+                .agreementId(id)
+                .status(AgreementState.Status.FOUND)
+                .tenant(agreement.tenant)
+                .owner(agreement.owner)
+                .rentAmount(agreement.rentAmount)
+                .deposit(agreement.deposit)
+                .active(agreement.isActive)
+                .blockNumber(blockNumber)
+                .build();
+    }
+
+    private static AgreementState notFound(BigInteger id, BigInteger blockNumber) {
+        return AgreementState.builder()
+                .agreementId(id)
+                .status(AgreementState.Status.NOT_FOUND)
+                .blockNumber(blockNumber)
+                .build();
+    }
+
+    private static AgreementState failed(BigInteger id, String error, BigInteger blockNumber) {
+        return AgreementState.builder()
+                .agreementId(id)
+                .status(AgreementState.Status.ERROR)
+                .error(error)
+                .blockNumber(blockNumber)
+                .build();
+    }
+
+    private BlockSnapshot currentSnapshot() {
+        BlockSnapshot current = snapshot;
+        long now = System.currentTimeMillis();
+        if (current != null && now - current.fetchedAt() < blockTtlMs) {
+            return current;
+        }
+
+        try {
+            BigInteger latest = web3j.ethBlockNumber().send().getBlockNumber();
+            if (current != null && current.blockNumber().equals(latest)) {
+                current = new BlockSnapshot(latest, now, current.entries());
+            } else {
+                current = new BlockSnapshot(latest, now, new ConcurrentHashMap<>());
+            }
+            snapshot = current;
+            return current;
+        } catch (IOException e) {
+            throw new RuntimeException("Blockchain block number fetch error: " + e.getMessage(), e);
+        }
+    }
+
+    private static String cacheKey(String address, BigInteger id) {
+        return address + ":" + id;
+    }
+
+    private record BlockSnapshot(BigInteger blockNumber, long fetchedAt, Map<String, AgreementState> entries) {
+    }
+}
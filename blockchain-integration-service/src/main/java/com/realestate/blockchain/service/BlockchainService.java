@@ -1,18 +1,23 @@
 package com.realestate.blockchain.service;
 
+import com.realestate.blockchain.dto.AgreementBatchRequest;
+import com.realestate.blockchain.dto.AgreementState;
 import com.realestate.blockchain.model.RentalAgreement;
+import com.realestate.blockchain.model.TrackedTransaction;
+import com.realestate.blockchain.model.TransactionStatus;
 import com.realestate.common.dto.SmartContractRequest;
+import com.realestate.common.exception.ResourceNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.web3j.crypto.Credentials;
 import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.RemoteCall;
 import org.web3j.protocol.core.methods.response.TransactionReceipt;
-import org.web3j.tx.gas.DefaultGasProvider;
 
 import java.math.BigInteger;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -20,50 +25,102 @@ import java.util.Map;
 public class BlockchainService {
 
     private final Web3j web3j;
-    private final Credentials credentials;
+    private final ContractRegistry contractRegistry;
+    private final TransactionTracker transactionTracker;
+    private final AgreementReader agreementReader;
 
     @Value("${blockchain.contract-address}")
     private String contractAddress;
 
     @Autowired
-    public BlockchainService(Web3j web3j, Credentials credentials) {
+    public BlockchainService(Web3j web3j, ContractRegistry contractRegistry, TransactionTracker transactionTracker,
+            AgreementReader agreementReader) {
         this.web3j = web3j;
-        this.credentials = credentials;
+        this.contractRegistry = contractRegistry;
+        this.transactionTracker = transactionTracker;
+        this.agreementReader = agreementReader;
     }
 
     public Map<String, Object> executeTransaction(SmartContractRequest request) {
         log.info("Executing blockchain transaction: {}", request.getFunctionName());
 
         try {
-            RentalAgreement contract = RentalAgreement.load(
-                    contractAddress, web3j, credentials, new DefaultGasProvider());
+            RentalAgreement contract = contractRegistry.get(contractAddress);
 
-            if ("createAgreement".equalsIgnoreCase(request.getFunctionName())) {
-                String owner = String.valueOf(request.getParameters().get("owner"));
-                BigInteger rentAmount = new BigInteger(String.valueOf(request.getParameters().get("rentAmount")));
-                BigInteger deposit = new BigInteger(String.valueOf(request.getParameters().get("deposit")));
+            return mapReceipt(buildCall(contract, request).send());
 
-                return mapReceipt(contract.createAgreement(owner, rentAmount, deposit).send());
+        } catch (Exception e) {
+            log.error("Blockchain transaction failed for function: {}", request.getFunctionName(), e);
+            throw new RuntimeException("Blockchain execution error: " + e.getMessage(), e);
+        }
+    }
 
-            } else if ("payRent".equalsIgnoreCase(request.getFunctionName())) {
-                BigInteger agreementId = new BigInteger(String.valueOf(request.getParameters().get("agreementId")));
-                BigInteger amount = new BigInteger(String.valueOf(request.getParameters().get("amount")));
+    /**
+     * Broadcast the transaction without waiting for it to be mined.
+     * The receipt is resolved later by the {@link TransactionTracker}.
+     */
+    public TrackedTransaction submitTransaction(SmartContractRequest request) {
+        log.info("Submitting blockchain transaction: {}", request.getFunctionName());
 
-                // In Solidity, payRent(uint256) is payable.
-                // We send the 'amount' as msg.value (in Wei).
-                return mapReceipt(contract.payRent(agreementId, amount).send());
-            } else if ("terminateAgreement".equalsIgnoreCase(request.getFunctionName())) {
-                BigInteger agreementId = new BigInteger(String.valueOf(request.getParameters().get("agreementId")));
+        try {
+            RentalAgreement contract = contractRegistry.getForSubmit(contractAddress);
 
-                return mapReceipt(contract.terminateAgreement(agreementId).send());
-            }
+            String transactionHash = buildCall(contract, request).send().getTransactionHash();
+            return transactionTracker.track(transactionHash, request.getFunctionName());
 
-            throw new IllegalArgumentException("Unsupported blockchain function: " + request.getFunctionName());
+        } catch (Exception e) {
+            log.error("Blockchain submission failed for function: {}", request.getFunctionName(), e);
+            throw new RuntimeException("Blockchain submission error: " + e.getMessage(), e);
+        }
+    }
+
+    public TrackedTransaction getTransactionStatus(String transactionHash) {
+        return transactionTracker.find(transactionHash)
+                .orElseGet(() -> fetchTransactionStatus(transactionHash));
+    }
 
+    private TrackedTransaction fetchTransactionStatus(String transactionHash) {
+        try {
+            TransactionReceipt receipt = web3j.ethGetTransactionReceipt(transactionHash).send()
+                    .getTransactionReceipt()
+                    .orElseThrow(() -> new ResourceNotFoundException("Transaction", "hash", transactionHash));
+
+            return TrackedTransaction.builder()
+                    .transactionHash(transactionHash)
+                    .status(receipt.isStatusOK() ? TransactionStatus.SUCCESS : TransactionStatus.FAILED)
+                    .blockNumber(receipt.getBlockNumber())
+                    .gasUsed(receipt.getGasUsed())
+                    .build();
+        } catch (ResourceNotFoundException e) {
+            throw e;
         } catch (Exception e) {
-            log.error("Blockchain transaction failed for function: {}", request.getFunctionName(), e);
-            throw new RuntimeException("Blockchain execution error: " + e.getMessage(), e);
+            log.error("Failed to fetch receipt for: {}", transactionHash, e);
+            throw new RuntimeException("Blockchain receipt fetch error: " + e.getMessage(), e);
+        }
+    }
+
+    private RemoteCall<TransactionReceipt> buildCall(RentalAgreement contract, SmartContractRequest request) {
+        if ("createAgreement".equalsIgnoreCase(request.getFunctionName())) {
+            String owner = String.valueOf(request.getParameters().get("owner"));
+            BigInteger rentAmount = new BigInteger(String.valueOf(request.getParameters().get("rentAmount")));
+            BigInteger deposit = new BigInteger(String.valueOf(request.getParameters().get("deposit")));
+
+            return contract.createAgreement(owner, rentAmount, deposit);
+
+        } else if ("payRent".equalsIgnoreCase(request.getFunctionName())) {
+            BigInteger agreementId = new BigInteger(String.valueOf(request.getParameters().get("agreementId")));
+            BigInteger amount = new BigInteger(String.valueOf(request.getParameters().get("amount")));
+
+            // In Solidity, payRent(uint256) is payable.
+            // We send the 'amount' as msg.value (in Wei).
+            return contract.payRent(agreementId, amount);
+        } else if ("terminateAgreement".equalsIgnoreCase(request.getFunctionName())) {
+            BigInteger agreementId = new BigInteger(String.valueOf(request.getParameters().get("agreementId")));
+
+            return contract.terminateAgreement(agreementId);
         }
+
+        throw new IllegalArgumentException("Unsupported blockchain function: " + request.getFunctionName());
     }
 
     public Map<String, Object> getContractState(String address) {
@@ -71,8 +128,7 @@ public class BlockchainService {
         log.info("Fetching contract state for: {}", targetAddress);
 
         try {
-            RentalAgreement contract = RentalAgreement.load(
-                    targetAddress, web3j, credentials, new DefaultGasProvider());
+            RentalAgreement contract = contractRegistry.get(targetAddress);
 
             Map<String, Object> state = new HashMap<>();
             state.put("address", targetAddress);
@@ -85,6 +141,15 @@ public class BlockchainService {
         }
     }
 
+    public List<AgreementState> getAgreements(AgreementBatchRequest request) {
+        String targetAddress = (request.getContractAddress() != null && !request.getContractAddress().isEmpty())
+                ? request.getContractAddress()
+                : contractAddress;
+        log.info("Reading {} agreements from: {}", request.getAgreementIds().size(), targetAddress);
+
+        return agreementReader.getAgreements(targetAddress, request.getAgreementIds());
+    }
+
     private Map<String, Object> mapReceipt(TransactionReceipt receipt) {
         Map<String, Object> result = new HashMap<>();
         result.put("transactionHash", receipt.getTransactionHash());
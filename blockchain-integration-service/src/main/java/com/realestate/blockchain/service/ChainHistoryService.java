@@ -0,0 +1,98 @@
+package com.realestate.blockchain.service;
+
+import com.realestate.blockchain.entity.ContractEvent;
+import com.realestate.blockchain.entity.ContractEventType;
+import com.realestate.blockchain.entity.IndexerCheckpoint;
+import com.realestate.blockchain.repository.ContractEventRepository;
+import com.realestate.blockchain.repository.IndexerCheckpointRepository;
+import com.realestate.common.exception.ResourceNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Read store for indexed contract events. Writes come from the {@link EventIndexer};
+ * reads serve agreement and payment history without calling the node.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class ChainHistoryService {
+
+    private final ContractEventRepository eventRepository;
+    private final IndexerCheckpointRepository checkpointRepository;
+
+    @Value("${blockchain.contract-address}")
+    private String contractAddress;
+
+    /**
+     * Store the events of one block range and advance the checkpoint in the same transaction
+     */
+    public void saveRange(String address, long fromBlock, long toBlock, String toBlockHash,
+            List<ContractEvent> events) {
+        eventRepository.deleteAfterBlock(address, fromBlock - 1);
+        eventRepository.saveAll(events);
+        saveCheckpoint(address, toBlock, toBlockHash);
+        log.debug("Indexed {} events for {} in blocks {}-{}", events.size(), address, fromBlock, toBlock);
+    }
+
+    /**
+     * Drop everything after {@code block} after a reorg and resume indexing from there
+     */
+    public void rewind(String address, long block, String blockHash) {
+        int removed = eventRepository.deleteAfterBlock(address, block);
+        saveCheckpoint(address, block, blockHash);
+        log.warn("Rewound indexer for {} to block {} ({} events removed)", address, block, removed);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<IndexerCheckpoint> getCheckpoint(String address) {
+        return checkpointRepository.findById(address);
+    }
+
+    @Transactional(readOnly = true)
+    public IndexerCheckpoint getCheckpoint() {
+        String address = normalize(contractAddress);
+        return getCheckpoint(address)
+                .orElseThrow(() -> new ResourceNotFoundException("Indexer checkpoint", "contractAddress", address));
+    }
+
+    @Transactional(readOnly = true)
+    public List<ContractEvent> getAgreementHistory(Long agreementId) {
+        return eventRepository.findByContractAddressAndAgreementIdOrderByBlockNumberAscLogIndexAsc(
+                normalize(contractAddress), agreementId);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ContractEvent> getPaymentsByPayer(String payer, Pageable pageable) {
+        return eventRepository.findByContractAddressAndEventTypeAndPayer(
+                normalize(contractAddress), ContractEventType.PAYMENT_RECEIVED, normalize(payer), pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ContractEvent> getAgreementsByOwner(String owner, Pageable pageable) {
+        return eventRepository.findByContractAddressAndEventTypeAndOwner(
+                normalize(contractAddress), ContractEventType.AGREEMENT_CREATED, normalize(owner), pageable);
+    }
+
+    private void saveCheckpoint(String address, long block, String blockHash) {
+        IndexerCheckpoint checkpoint = checkpointRepository.findById(address)
+                .orElseGet(() -> IndexerCheckpoint.builder().contractAddress(address).build());
+        checkpoint.setLastBlock(block);
+        checkpoint.setLastBlockHash(blockHash);
+        checkpointRepository.save(checkpoint);
+    }
+
+    static String normalize(String address) {
+        return address.toLowerCase(Locale.ROOT);
+    }
+}
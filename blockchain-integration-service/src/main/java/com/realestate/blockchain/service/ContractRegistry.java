@@ -0,0 +1,70 @@
+package com.realestate.blockchain.service;
+
+import com.realestate.blockchain.model.RentalAgreement;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.web3j.protocol.Web3j;
+import org.web3j.tx.TransactionManager;
+import org.web3j.tx.gas.ContractGasProvider;
+import org.web3j.tx.gas.DefaultGasProvider;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps one loaded {@link RentalAgreement} wrapper per contract address for the lifetime of the app.
+ * Wrappers are stateless once loaded, so they are shared across requests.
+ */
+@Component
+public class ContractRegistry {
+
+    private final Web3j web3j;
+    private final TransactionManager transactionManager;
+    private final TransactionManager submitTransactionManager;
+    private final ContractGasProvider gasProvider = new DefaultGasProvider();
+
+    private final Map<String, RentalAgreement> contracts = new ConcurrentHashMap<>();
+    private final Map<String, RentalAgreement> submitContracts = new ConcurrentHashMap<>();
+
+    @Value("${blockchain.contract-registry.max-size:256}")
+    private int maxSize;
+
+    public ContractRegistry(Web3j web3j,
+            @Qualifier("transactionManager") TransactionManager transactionManager,
+            @Qualifier("submitTransactionManager") TransactionManager submitTransactionManager) {
+        this.web3j = web3j;
+        this.transactionManager = transactionManager;
+        this.submitTransactionManager = submitTransactionManager;
+    }
+
+    /**
+     * Wrapper whose transactions wait for the receipt; also used for read-only calls
+     */
+    public RentalAgreement get(String address) {
+        return lookup(contracts, address, transactionManager);
+    }
+
+    /**
+     * Wrapper whose transactions return as soon as they are broadcast
+     */
+    public RentalAgreement getForSubmit(String address) {
+        return lookup(submitContracts, address, submitTransactionManager);
+    }
+
+    private RentalAgreement lookup(Map<String, RentalAgreement> cache, String address,
+            TransactionManager manager) {
+        String key = address.toLowerCase(Locale.ROOT);
+        RentalAgreement contract = cache.get(key);
+        if (contract != null) {
+            return contract;
+        }
+
+        // Addresses can come from request paths, so stop caching new ones past the cap
+        if (cache.size() >= maxSize) {
+            return RentalAgreement.load(address, web3j, manager, gasProvider);
+        }
+        return cache.computeIfAbsent(key, k -> RentalAgreement.load(address, web3j, manager, gasProvider));
+    }
+}
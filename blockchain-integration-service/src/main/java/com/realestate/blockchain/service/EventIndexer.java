@@ -0,0 +1,174 @@
+package com.realestate.blockchain.service;
+
+import com.realestate.blockchain.entity.ContractEvent;
+import com.realestate.blockchain.entity.ContractEventType;
+import com.realestate.blockchain.entity.IndexerCheckpoint;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.web3j.abi.EventEncoder;
+import org.web3j.abi.FunctionReturnDecoder;
+import org.web3j.abi.datatypes.Type;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameter;
+import org.web3j.protocol.core.methods.request.EthFilter;
+import org.web3j.protocol.core.methods.response.EthBlock;
+import org.web3j.protocol.core.methods.response.EthLog;
+import org.web3j.protocol.core.methods.response.Log;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.realestate.blockchain.model.RentalAgreement.AGREEMENTCREATED_EVENT;
+import static com.realestate.blockchain.model.RentalAgreement.PAYMENTRECEIVED_EVENT;
+
+/**
+ * Follows {@code AgreementCreated} and {@code PaymentReceived} logs with {@code eth_getLogs} in block ranges.
+ * <p>
+ * Only blocks at least {@code confirmations} deep are indexed. The checkpoint stores the hash of the last
+ * indexed block; if the node no longer agrees with it, the indexer rewinds by the confirmation depth and
+ * re-reads that range.
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "blockchain.indexer.enabled", havingValue = "true", matchIfMissing = true)
+public class EventIndexer {
+
+    private static final String AGREEMENT_CREATED_TOPIC = EventEncoder.encode(AGREEMENTCREATED_EVENT);
+    private static final String PAYMENT_RECEIVED_TOPIC = EventEncoder.encode(PAYMENTRECEIVED_EVENT);
+
+    private final Web3j web3j;
+    private final ChainHistoryService historyService;
+
+    @Value("${blockchain.contract-address}")
+    private String contractAddress;
+
+    @Value("${blockchain.indexer.start-block:0}")
+    private long startBlock;
+
+    @Value("${blockchain.indexer.confirmations:12}")
+    private long confirmations;
+
+    @Value("${blockchain.indexer.block-range:2000}")
+    private long blockRange;
+
+    @Value("${blockchain.indexer.max-ranges-per-run:10}")
+    private int maxRangesPerRun;
+
+    public EventIndexer(Web3j web3j, ChainHistoryService historyService) {
+        this.web3j = web3j;
+        this.historyService = historyService;
+    }
+
+    @Scheduled(fixedDelayString = "${blockchain.indexer.interval-ms:5000}")
+    public void index() {
+        try {
+            indexPendingRanges();
+        } catch (Exception e) {
+            log.warn("Event indexing run failed: {}", e.getMessage());
+        }
+    }
+
+    private void indexPendingRanges() throws IOException {
+        String address = ChainHistoryService.normalize(contractAddress);
+        long safeHead = web3j.ethBlockNumber().send().getBlockNumber().longValue() - confirmations;
+        if (safeHead < startBlock) {
+            return;
+        }
+
+        IndexerCheckpoint checkpoint = historyService.getCheckpoint(address).orElse(null);
+        long next = startBlock;
+        if (checkpoint != null) {
+            if (!isCanonical(checkpoint)) {
+                long rewindTo = Math.max(startBlock - 1, checkpoint.getLastBlock() - confirmations);
+                historyService.rewind(address, rewindTo, rewindTo >= startBlock ? blockHash(rewindTo) : null);
+                return;
+            }
+            next = checkpoint.getLastBlock() + 1;
+        }
+
+        for (int run = 0; run < maxRangesPerRun && next <= safeHead; run++) {
+            long to = Math.min(next + blockRange - 1, safeHead);
+            historyService.saveRange(address, next, to, blockHash(to), fetchEvents(address, next, to));
+            next = to + 1;
+        }
+    }
+
+    private List<ContractEvent> fetchEvents(String address, long fromBlock, long toBlock) throws IOException {
+        EthFilter filter = new EthFilter(
+                DefaultBlockParameter.valueOf(BigInteger.valueOf(fromBlock)),
+                DefaultBlockParameter.valueOf(BigInteger.valueOf(toBlock)),
+                contractAddress);
+        filter.addOptionalTopics(AGREEMENT_CREATED_TOPIC, PAYMENT_RECEIVED_TOPIC);
+
+        EthLog response = web3j.ethGetLogs(filter).send();
+        if (response.hasError()) {
+            throw new IOException("eth_getLogs failed: " + response.getError().getMessage());
+        }
+
+        List<ContractEvent> events = new ArrayList<>();
+        for (EthLog.LogResult<?> result : response.getLogs()) {
+            if (result.get() instanceof Log entry && !entry.isRemoved()) {
+                ContractEvent event = decode(address, entry);
+                if (event != null) {
+                    events.add(event);
+                }
+            }
+        }
+        return events;
+    }
+
+    private ContractEvent decode(String address, Log entry) {
+        List<String> topics = entry.getTopics();
+        ContractEvent.ContractEventBuilder event = ContractEvent.builder()
+                .contractAddress(address)
+                .blockNumber(entry.getBlockNumber().longValue())
+                .blockHash(entry.getBlockHash())
+                .transactionHash(entry.getTransactionHash())
+                .logIndex(entry.getLogIndex().intValue());
+
+        if (AGREEMENT_CREATED_TOPIC.equals(topics.get(0))) {
+            List<Type> data = FunctionReturnDecoder.decode(
+                    entry.getData(), AGREEMENTCREATED_EVENT.getNonIndexedParameters());
+            return event.eventType(ContractEventType.AGREEMENT_CREATED)
+                    .agreementId(indexedUint(topics.get(1)).longValue())
+                    .tenant(ChainHistoryService.normalize((String) data.get(0).getValue()))
+                    .owner(ChainHistoryService.normalize((String) data.get(1).getValue()))
+                    .build();
+        }
+
+        if (PAYMENT_RECEIVED_TOPIC.equals(topics.get(0))) {
+            List<Type> data = FunctionReturnDecoder.decode(
+                    entry.getData(), PAYMENTRECEIVED_EVENT.getNonIndexedParameters());
+            String payer = (String) FunctionReturnDecoder.decodeIndexedValue(
+                    topics.get(2), PAYMENTRECEIVED_EVENT.getIndexedParameters().get(1)).getValue();
+            return event.eventType(ContractEventType.PAYMENT_RECEIVED)
+                    .agreementId(indexedUint(topics.get(1)).longValue())
+                    .payer(ChainHistoryService.normalize(payer))
+                    .amount((BigInteger) data.get(0).getValue())
+                    .build();
+        }
+
+        return null;
+    }
+
+    private BigInteger indexedUint(String topic) {
+        return (BigInteger) FunctionReturnDecoder.decodeIndexedValue(
+                topic, AGREEMENTCREATED_EVENT.getIndexedParameters().get(0)).getValue();
+    }
+
+    private boolean isCanonical(IndexerCheckpoint checkpoint) throws IOException {
+        return checkpoint.getLastBlockHash() == null
+                || checkpoint.getLastBlockHash().equals(blockHash(checkpoint.getLastBlock()));
+    }
+
+    private String blockHash(long blockNumber) throws IOException {
+        EthBlock.Block block = web3j.ethGetBlockByNumber(
+                DefaultBlockParameter.valueOf(BigInteger.valueOf(blockNumber)), false).send().getBlock();
+        return block != null ? block.getHash() : null;
+    }
+}
@@ -0,0 +1,206 @@
+package com.realestate.blockchain.service;
+
+import com.realestate.blockchain.entity.PendingTransaction;
+import com.realestate.blockchain.model.TrackedTransaction;
+import com.realestate.blockchain.model.TransactionStatus;
+import com.realestate.blockchain.producer.BlockchainEventProducer;
+import com.realestate.blockchain.repository.PendingTransactionRepository;
+import com.realestate.common.dto.BlockchainTransactionEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.BatchRequest;
+import org.web3j.protocol.core.BatchResponse;
+import org.web3j.protocol.core.Request;
+import org.web3j.protocol.core.Response;
+import org.web3j.protocol.core.methods.response.EthGetTransactionReceipt;
+import org.web3j.protocol.core.methods.response.TransactionReceipt;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks broadcast transactions and resolves their receipts in batches.
+ * <p>
+ * Each poll sends one JSON-RPC batch of {@code eth_getTransactionReceipt} calls for up to
+ * {@code batch-size} pending transactions, rotating through them oldest first when more are pending,
+ * times out anything pending longer than {@code pending-timeout}, publishes the final status on the exchange, and keeps finished entries around for
+ * the status endpoint until the retention period passes. Pending hashes are also written to
+ * {@code pending_transactions} and reloaded on startup, so a restart resumes polling instead of losing
+ * them; finished entries are only kept in memory.
+ */
+@Service
+@Slf4j
+public class TransactionTracker {
+
+    private final Web3j web3j;
+    private final BlockchainEventProducer eventProducer;
+    private final PendingTransactionRepository pendingTransactionRepository;
+    private final Map<String, TrackedTransaction> transactions = new ConcurrentHashMap<>();
+
+    @Value("${blockchain.receipt-poller.batch-size:100}")
+    private int batchSize;
+
+    @Value("${blockchain.receipt-poller.pending-timeout:30m}")
+    private Duration pendingTimeout;
+
+    @Value("${blockchain.receipt-poller.retention:1h}")
+    private Duration retention;
+
+    // Start of the next slice when more transactions are pending than fit in one batch
+    private int pollOffset;
+
+    public TransactionTracker(Web3j web3j, BlockchainEventProducer eventProducer,
+            PendingTransactionRepository pendingTransactionRepository) {
+        this.web3j = web3j;
+        this.eventProducer = eventProducer;
+        this.pendingTransactionRepository = pendingTransactionRepository;
+    }
+
+    /**
+     * Resume tracking what was still pending when the service last stopped
+     */
+    @PostConstruct
+    public void restorePending() {
+        for (PendingTransaction row : pendingTransactionRepository.findAll()) {
+            transactions.putIfAbsent(row.getTransactionHash(), TrackedTransaction.builder()
+                    .transactionId(row.getTransactionId())
+                    .transactionHash(row.getTransactionHash())
+                    .functionName(row.getFunctionName())
+                    .status(TransactionStatus.PENDING)
+                    .submittedAt(row.getSubmittedAt())
+                    .build());
+        }
+        if (!transactions.isEmpty()) {
+            log.info("Resumed tracking {} pending transactions", transactions.size());
+        }
+    }
+
+    public TrackedTransaction track(String transactionHash, String functionName) {
+        TrackedTransaction transaction = TrackedTransaction.builder()
+                .transactionId(UUID.randomUUID().toString())
+                .transactionHash(transactionHash)
+                .functionName(functionName)
+                .status(TransactionStatus.PENDING)
+                .submittedAt(LocalDateTime.now())
+                .build();
+        pendingTransactionRepository.save(PendingTransaction.builder()
+                .transactionHash(transactionHash)
+                .transactionId(transaction.getTransactionId())
+                .functionName(functionName)
+                .submittedAt(transaction.getSubmittedAt())
+                .build());
+        transactions.put(transactionHash, transaction);
+        return transaction;
+    }
+
+    public Optional<TrackedTransaction> find(String transactionHash) {
+        return Optional.ofNullable(transactions.get(transactionHash));
+    }
+
+    @Scheduled(fixedDelayString = "${blockchain.receipt-poller.interval-ms:2000}")
+    public void pollReceipts() {
+        evictFinished();
+
+        List<TrackedTransaction> pending = transactions.values().stream()
+                .filter(tx -> tx.getStatus() == TransactionStatus.PENDING)
+                .sorted(Comparator.comparing(TrackedTransaction::getSubmittedAt))
+                .toList();
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<TrackedTransaction> slice = nextSlice(pending);
+        BatchRequest batch = web3j.newBatch();
+        Map<Long, TrackedTransaction> byRequestId = new HashMap<>();
+        for (TrackedTransaction tx : slice) {
+            Request<?, EthGetTransactionReceipt> request = web3j.ethGetTransactionReceipt(tx.getTransactionHash());
+            byRequestId.put(request.getId(), tx);
+            batch.add(request);
+        }
+
+        try {
+            BatchResponse response = batch.send();
+            for (Response<?> item : response.getResponses()) {
+                TrackedTransaction tx = byRequestId.remove(item.getId());
+                if (tx == null || item.hasError()) {
+                    continue;
+                }
+                ((EthGetTransactionReceipt) item).getTransactionReceipt()
+                        .ifPresent(receipt -> complete(tx, receipt));
+            }
+        } catch (Exception e) {
+            log.warn("Receipt poll failed for {} pending transactions: {}", slice.size(), e.getMessage());
+        }
+
+        // Swept over everything pending, not just the slice, so nothing waits on its turn to time out
+        LocalDateTime deadline = LocalDateTime.now().minus(pendingTimeout);
+        pending.stream()
+                .filter(tx -> tx.getSubmittedAt().isBefore(deadline))
+                .filter(tx -> transactions.get(tx.getTransactionHash()).getStatus() == TransactionStatus.PENDING)
+                .forEach(tx -> finish(tx.toBuilder().status(TransactionStatus.TIMED_OUT).build()));
+    }
+
+    /**
+     * The next {@code batchSize} entries, wrapping around, so each pending transaction is polled at least
+     * once every {@code pending / batchSize} runs
+     */
+    private List<TrackedTransaction> nextSlice(List<TrackedTransaction> pending) {
+        if (pending.size() <= batchSize) {
+            pollOffset = 0;
+            return pending;
+        }
+        int start = pollOffset % pending.size();
+        List<TrackedTransaction> slice = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            slice.add(pending.get((start + i) % pending.size()));
+        }
+        pollOffset = start + batchSize;
+        return slice;
+    }
+
+    private void complete(TrackedTransaction tx, TransactionReceipt receipt) {
+        finish(tx.toBuilder()
+                .status(receipt.isStatusOK() ? TransactionStatus.SUCCESS : TransactionStatus.FAILED)
+                .blockNumber(receipt.getBlockNumber())
+                .gasUsed(receipt.getGasUsed())
+                .build());
+    }
+
+    private void finish(TrackedTransaction tx) {
+        tx.setCompletedAt(LocalDateTime.now());
+        transactions.put(tx.getTransactionHash(), tx);
+        log.info("Transaction {} finished with status {}", tx.getTransactionHash(), tx.getStatus());
+
+        try {
+            eventProducer.sendTransactionEvent(BlockchainTransactionEvent.builder()
+                    .transactionId(tx.getTransactionId())
+                    .transactionHash(tx.getTransactionHash())
+                    .functionName(tx.getFunctionName())
+                    .status(tx.getStatus().name())
+                    .blockNumber(tx.getBlockNumber())
+                    .gasUsed(tx.getGasUsed())
+                    .build());
+            // Only dropped once published; a row left behind is reloaded and resolved again after a restart
+            pendingTransactionRepository.deleteById(tx.getTransactionHash());
+        } catch (Exception e) {
+            log.error("Failed to publish status for transaction {}", tx.getTransactionHash(), e);
+        }
+    }
+
+    private void evictFinished() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        transactions.values().removeIf(tx -> tx.getCompletedAt() != null && tx.getCompletedAt().isBefore(cutoff));
+    }
+}
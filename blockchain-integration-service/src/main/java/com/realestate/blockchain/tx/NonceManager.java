@@ -0,0 +1,107 @@
+package com.realestate.blockchain.tx;
+
+import lombok.extern.slf4j.Slf4j;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * Hands out nonces for a single sending account from a local counter.
+ * <p>
+ * The counter is seeded from the node's pending transaction count on first use (so a restart resyncs).
+ * A nonce that never reached the node is reused: the counter steps back when it was the newest one,
+ * otherwise it is handed out again before any new nonce so no gap is left behind later transactions.
+ * A resync never moves the counter back below a nonce that is still being sent.
+ */
+@Slf4j
+public class NonceManager {
+
+    private final Web3j web3j;
+    private final String address;
+
+    /** Reserved and not yet confirmed or released */
+    private final NavigableSet<BigInteger> inFlight = new TreeSet<>();
+    /** Released below {@link #next}; handed out first */
+    private final NavigableSet<BigInteger> reusable = new TreeSet<>();
+
+    private BigInteger next;
+    private boolean resyncRequested;
+
+    public NonceManager(Web3j web3j, String address) {
+        this.web3j = web3j;
+        this.address = address;
+    }
+
+    /**
+     * Reserve the next nonce. Callers must either {@link #confirm} or {@link #release} it.
+     */
+    public synchronized BigInteger acquire() throws IOException {
+        if (next == null || resyncRequested) {
+            sync();
+        }
+        BigInteger nonce = reusable.pollFirst();
+        if (nonce == null) {
+            nonce = next;
+            next = next.add(BigInteger.ONE);
+        }
+        inFlight.add(nonce);
+        return nonce;
+    }
+
+    /**
+     * The node accepted a transaction with this nonce, or it is used up for another reason
+     */
+    public synchronized void confirm(BigInteger nonce) {
+        inFlight.remove(nonce);
+    }
+
+    /**
+     * The transaction with this nonce never reached the node, so it is free to be used again
+     */
+    public synchronized void release(BigInteger nonce) {
+        if (!inFlight.remove(nonce)) {
+            return;
+        }
+        if (next != null && nonce.add(BigInteger.ONE).equals(next)) {
+            next = nonce;
+            // Earlier releases that now sit directly below the counter collapse into it
+            while (reusable.remove(next.subtract(BigInteger.ONE))) {
+                next = next.subtract(BigInteger.ONE);
+            }
+        } else {
+            reusable.add(nonce);
+        }
+    }
+
+    /**
+     * Re-read the count from the node on the next {@link #acquire}, e.g. after a "nonce too low" rejection
+     */
+    public synchronized void resync() {
+        log.warn("Resyncing nonce for {} (local next: {})", address, next);
+        resyncRequested = true;
+    }
+
+    private void sync() throws IOException {
+        BigInteger pending = fetchPendingNonce();
+        if (next == null || (inFlight.isEmpty() && reusable.isEmpty())) {
+            next = pending;
+        } else {
+            // Local nonces may still be sent or fill a gap; only move forward past what the node has seen
+            next = next.max(pending);
+            reusable.headSet(pending).clear();
+        }
+        resyncRequested = false;
+    }
+
+    private BigInteger fetchPendingNonce() throws IOException {
+        BigInteger nonce = web3j.ethGetTransactionCount(address, DefaultBlockParameterName.PENDING)
+                .send()
+                .getTransactionCount();
+        log.info("Nonce for {} synced from node: {}", address, nonce);
+        return nonce;
+    }
+}
@@ -0,0 +1,96 @@
+package com.realestate.blockchain.tx;
+
+import lombok.extern.slf4j.Slf4j;
+import org.web3j.crypto.Credentials;
+import org.web3j.crypto.RawTransaction;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+import org.web3j.tx.RawTransactionManager;
+import org.web3j.tx.response.TransactionReceiptProcessor;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * {@link RawTransactionManager} that takes nonces from a shared {@link NonceManager} instead of
+ * asking the node on every send, so many transactions from the platform wallet can be in flight at once.
+ * Legacy and EIP-1559 sends share the same reserve/confirm/release path. A "nonce too low" rejection
+ * resyncs the counter and retries with a fresh nonce.
+ */
+@Slf4j
+public class NonceManagingTransactionManager extends RawTransactionManager {
+
+    private final NonceManager nonceManager;
+    private final int maxAttempts;
+
+    public NonceManagingTransactionManager(Web3j web3j, Credentials credentials, long chainId,
+            TransactionReceiptProcessor receiptProcessor, NonceManager nonceManager, int maxAttempts) {
+        super(web3j, credentials, chainId, receiptProcessor);
+        this.nonceManager = nonceManager;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public EthSendTransaction sendTransaction(BigInteger gasPrice, BigInteger gasLimit, String to, String data,
+            BigInteger value, boolean constructor) throws IOException {
+        return send(nonce -> RawTransaction.createTransaction(nonce, gasPrice, gasLimit, to, value, data));
+    }
+
+    @Override
+    public EthSendTransaction sendEIP1559Transaction(long chainId, BigInteger maxPriorityFeePerGas,
+            BigInteger maxFeePerGas, BigInteger gasLimit, String to, String data, BigInteger value,
+            boolean constructor) throws IOException {
+        return send(nonce -> RawTransaction.createTransaction(chainId, nonce, gasLimit, to, value, data,
+                maxPriorityFeePerGas, maxFeePerGas));
+    }
+
+    /**
+     * Every send path reserves its nonce in {@link #send}; a bare nonce lookup would bypass that bookkeeping
+     */
+    @Override
+    protected BigInteger getNonce() {
+        throw new UnsupportedOperationException("Nonces are reserved per send by NonceManager");
+    }
+
+    private EthSendTransaction send(Function<BigInteger, RawTransaction> transaction)
+            throws IOException {
+        EthSendTransaction response = null;
+
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            BigInteger nonce = nonceManager.acquire();
+            try {
+                response = signAndSend(transaction.apply(nonce));
+            } catch (IOException | RuntimeException e) {
+                nonceManager.release(nonce);
+                throw e;
+            }
+
+            if (!response.hasError()) {
+                nonceManager.confirm(nonce);
+                return response;
+            }
+
+            if (isNonceTooLow(response)) {
+                log.warn("Nonce {} rejected as too low (attempt {}/{})", nonce, attempt, maxAttempts);
+                nonceManager.confirm(nonce);
+                nonceManager.resync();
+            } else {
+                nonceManager.release(nonce);
+                return response;
+            }
+        }
+
+        return response;
+    }
+
+    private static boolean isNonceTooLow(EthSendTransaction response) {
+        String message = response.getError().getMessage();
+        if (message == null) {
+            return false;
+        }
+        String lower = message.toLowerCase(Locale.ROOT);
+        return lower.contains("nonce too low") || lower.contains("replacement transaction underpriced");
+    }
+}
@@ -0,0 +1,31 @@
+-- Create contract_events table (decoded RentalAgreement logs)
+CREATE TABLE IF NOT EXISTS contract_events (
+    id BIGSERIAL PRIMARY KEY,
+    contract_address VARCHAR(42) NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    agreement_id BIGINT NOT NULL,
+    tenant VARCHAR(42),
+    owner VARCHAR(42),
+    payer VARCHAR(42),
+    amount NUMERIC(78, 0),
+    block_number BIGINT NOT NULL,
+    block_hash VARCHAR(66) NOT NULL,
+    transaction_hash VARCHAR(66) NOT NULL,
+    log_index INTEGER NOT NULL,
+    indexed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uq_contract_events_tx_log UNIQUE (transaction_hash, log_index)
+);
+
+-- Create indexer_checkpoints table
+CREATE TABLE IF NOT EXISTS indexer_checkpoints (
+    contract_address VARCHAR(42) PRIMARY KEY,
+    last_block BIGINT NOT NULL,
+    last_block_hash VARCHAR(66),
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Create indexes
+CREATE INDEX IF NOT EXISTS idx_contract_events_agreement ON contract_events(contract_address, agreement_id, block_number);
+CREATE INDEX IF NOT EXISTS idx_contract_events_payer ON contract_events(payer, block_number) WHERE payer IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_contract_events_owner ON contract_events(owner) WHERE owner IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_contract_events_block ON contract_events(contract_address, block_number);
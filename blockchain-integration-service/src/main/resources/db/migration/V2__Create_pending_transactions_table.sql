@@ -0,0 +1,7 @@
+-- Broadcast transactions still waiting for a receipt; reloaded by the TransactionTracker on startup
+CREATE TABLE IF NOT EXISTS pending_transactions (
+    transaction_hash VARCHAR(66) PRIMARY KEY,
+    transaction_id VARCHAR(36) NOT NULL,
+    function_name VARCHAR(255),
+    submitted_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,146 @@
+package com.realestate.blockchain;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.web3j.protocol.Web3j;
+import org.web3j.protocol.http.HttpService;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-process JSON-RPC endpoint for tests. Methods are answered by registered handlers; single and batch
+ * requests are both supported.
+ */
+public class StubEthNode implements AutoCloseable {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, Handler> handlers = new ConcurrentHashMap<>();
+    private final AtomicInteger httpRequests = new AtomicInteger();
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private final HttpServer server;
+    private final Web3j web3j;
+    private volatile Duration latency = Duration.ZERO;
+
+    public StubEthNode() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+        web3j = Web3j.build(new HttpService("http://127.0.0.1:" + server.getAddress().getPort()));
+    }
+
+    public StubEthNode on(String method, Handler handler) {
+        handlers.put(method, handler);
+        return this;
+    }
+
+    /**
+     * Delay added to every HTTP round trip, standing in for the network between the service and its node
+     */
+    public StubEthNode latency(Duration latency) {
+        this.latency = latency;
+        return this;
+    }
+
+    public Web3j web3j() {
+        return web3j;
+    }
+
+    /**
+     * HTTP round trips so far; a JSON-RPC batch counts once
+     */
+    public int httpRequests() {
+        return httpRequests.get();
+    }
+
+    @Override
+    public void close() {
+        web3j.shutdown();
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        httpRequests.incrementAndGet();
+        if (!latency.isZero()) {
+            try {
+                Thread.sleep(latency.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        JsonNode body = objectMapper.readTree(exchange.getRequestBody());
+        JsonNode reply;
+        try {
+            if (body.isArray()) {
+                ArrayNode replies = objectMapper.createArrayNode();
+                body.forEach(call -> replies.add(answer(call)));
+                reply = replies;
+            } else {
+                reply = answer(body);
+            }
+        } catch (Unavailable e) {
+            exchange.sendResponseHeaders(503, -1);
+            exchange.close();
+            return;
+        }
+
+        byte[] bytes = objectMapper.writeValueAsBytes(reply);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private ObjectNode answer(JsonNode call) {
+        ObjectNode reply = objectMapper.createObjectNode();
+        reply.put("jsonrpc", "2.0");
+        reply.set("id", call.get("id"));
+        Handler handler = handlers.get(call.get("method").asText());
+        try {
+            if (handler == null) {
+                throw new RpcError("method not found: " + call.get("method").asText());
+            }
+            reply.set("result", objectMapper.valueToTree(handler.handle(call.get("params"))));
+        } catch (RpcError e) {
+            ObjectNode error = reply.putObject("error");
+            error.put("code", -32000);
+            error.put("message", e.getMessage());
+        }
+        return reply;
+    }
+
+    @FunctionalInterface
+    public interface Handler {
+        /**
+         * The JSON-RPC result; throw {@link RpcError} for an error reply or {@link Unavailable} to fail
+         * the whole HTTP request
+         */
+        Object handle(JsonNode params);
+    }
+
+    public static class RpcError extends RuntimeException {
+        public RpcError(String message) {
+            super(message);
+        }
+    }
+
+    public static class Unavailable extends RuntimeException {
+        public Unavailable() {
+            super("node unavailable");
+        }
+    }
+}
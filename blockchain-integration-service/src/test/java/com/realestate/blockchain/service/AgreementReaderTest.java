@@ -0,0 +1,200 @@
+package com.realestate.blockchain.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.realestate.blockchain.StubEthNode;
+import com.realestate.blockchain.dto.AgreementState;
+import com.realestate.blockchain.model.RentalAgreement;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.web3j.abi.FunctionEncoder;
+import org.web3j.abi.datatypes.Address;
+import org.web3j.abi.datatypes.Bool;
+import org.web3j.abi.datatypes.Function;
+import org.web3j.abi.datatypes.generated.Uint256;
+import org.web3j.crypto.Credentials;
+import org.web3j.protocol.core.DefaultBlockParameterName;
+import org.web3j.protocol.core.methods.request.Transaction;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AgreementReaderTest {
+
+    private static final String CONTRACT = "0x00000000000000000000000000000000000000c0";
+    private static final Credentials CREDENTIALS = Credentials.create(
+            "0x4c0883a69102937d6231471b5dbb6204fe5129617082792ae468d01a3f362318");
+
+    /** Latest block reported by the stub node */
+    private final AtomicLong latestBlock = new AtomicLong(42);
+    /** Block tag of every eth_call the node answered */
+    private final List<String> callBlocks = new CopyOnWriteArrayList<>();
+    private StubEthNode node;
+    private AgreementReader reader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        node = new StubEthNode()
+                .on("eth_blockNumber", params -> "0x" + Long.toHexString(latestBlock.get()))
+                .on("eth_call", this::agreementCall);
+        reader = new AgreementReader(node.web3j(), CREDENTIALS);
+        ReflectionTestUtils.setField(reader, "batchSize", 100);
+        ReflectionTestUtils.setField(reader, "blockTtlMs", 60_000L);
+        ReflectionTestUtils.setField(reader, "cacheMaxEntries", 10_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        node.close();
+    }
+
+    @Test
+    void readsHundredsOfIdsInAFewBatchesPinnedToOneBlock() {
+        List<BigInteger> ids = ids(1, 500);
+
+        List<AgreementState> states = reader.getAgreements(CONTRACT, ids);
+
+        // One eth_blockNumber plus five batches of 100 eth_calls
+        assertEquals(6, node.httpRequests());
+        assertEquals(500, callBlocks.size());
+        assertEquals(Set.of("0x2a"), Set.copyOf(callBlocks));
+
+        assertEquals(ids.size(), states.size());
+        for (int i = 0; i < ids.size(); i++) {
+            AgreementState state = states.get(i);
+            assertEquals(ids.get(i), state.getAgreementId());
+            assertEquals(expectedStatus(ids.get(i)), state.getStatus(), "agreement " + ids.get(i));
+            assertEquals(BigInteger.valueOf(42), state.getBlockNumber());
+        }
+        AgreementState found = states.get(0);
+        assertEquals(tenantOf(BigInteger.ONE), found.getTenant());
+        assertEquals(BigInteger.valueOf(1000), found.getRentAmount());
+        assertEquals("execution reverted: agreement 7 locked", states.get(6).getError());
+    }
+
+    @Test
+    void servesRepeatReadsFromTheBlockCacheAndRetriesOnlyErrors() {
+        List<BigInteger> ids = ids(1, 200);
+        reader.getAgreements(CONTRACT, ids);
+        int requestsAfterFirstRead = node.httpRequests();
+        callBlocks.clear();
+
+        List<AgreementState> again = reader.getAgreements(CONTRACT, ids);
+
+        // Found and not-found ids come from the cache; the 20 errors go back to the node in one batch
+        assertEquals(requestsAfterFirstRead + 1, node.httpRequests());
+        assertEquals(20, callBlocks.size());
+        for (int i = 0; i < ids.size(); i++) {
+            assertEquals(expectedStatus(ids.get(i)), again.get(i).getStatus());
+        }
+    }
+
+    @Test
+    void newBlockStartsAFreshCache() {
+        ReflectionTestUtils.setField(reader, "blockTtlMs", 0L);
+        List<BigInteger> ids = ids(1, 50);
+        reader.getAgreements(CONTRACT, ids);
+        callBlocks.clear();
+
+        latestBlock.set(43);
+        List<AgreementState> states = reader.getAgreements(CONTRACT, ids);
+
+        assertEquals(50, callBlocks.size());
+        assertEquals(Set.of("0x2b"), Set.copyOf(callBlocks));
+        assertEquals(BigInteger.valueOf(43), states.get(0).getBlockNumber());
+    }
+
+    @Test
+    void reportsDuplicateIdsOnceEach() {
+        List<BigInteger> ids = List.of(BigInteger.ONE, BigInteger.TEN, BigInteger.ONE);
+
+        List<AgreementState> states = reader.getAgreements(CONTRACT, ids);
+
+        assertEquals(2, callBlocks.size());
+        assertEquals(AgreementState.Status.FOUND, states.get(0).getStatus());
+        assertEquals(AgreementState.Status.NOT_FOUND, states.get(1).getStatus());
+        assertEquals(states.get(0), states.get(2));
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void batchedReadsAgainstOneCallPerId() throws IOException {
+        node.latency(Duration.ofMillis(2));
+        List<BigInteger> ids = ids(1, 500);
+
+        int requestsBefore = node.httpRequests();
+        long started = System.nanoTime();
+        for (BigInteger id : ids) {
+            Function function = RentalAgreement.agreementsFunction(id);
+            node.web3j().ethCall(Transaction.createEthCallTransaction(CREDENTIALS.getAddress(), CONTRACT,
+                    FunctionEncoder.encode(function)), DefaultBlockParameterName.LATEST).send();
+        }
+        long perIdMillis = Duration.ofNanos(System.nanoTime() - started).toMillis();
+        int perIdRequests = node.httpRequests() - requestsBefore;
+
+        requestsBefore = node.httpRequests();
+        started = System.nanoTime();
+        reader.getAgreements(CONTRACT, ids);
+        long batchedMillis = Duration.ofNanos(System.nanoTime() - started).toMillis();
+        int batchedRequests = node.httpRequests() - requestsBefore;
+
+        System.out.printf("%d agreements, 2 ms per round trip: one call per id %d ms / %d requests, "
+                + "batched %d ms / %d requests%n", ids.size(), perIdMillis, perIdRequests, batchedMillis,
+                batchedRequests);
+        assertTrue(batchedMillis * 10 < perIdMillis, "batched reads should be at least 10x faster");
+    }
+
+    /**
+     * Every tenth id was never created and every tenth id from 7 reverts; the rest exist
+     */
+    private Object agreementCall(JsonNode params) {
+        callBlocks.add(params.get(1).asText());
+        JsonNode tx = params.get(0);
+        String data = (tx.has("data") ? tx.get("data") : tx.get("input")).asText();
+        // 0x + 4-byte selector, then the uint256 argument
+        BigInteger id = new BigInteger(data.substring(10), 16);
+        AgreementState.Status status = expectedStatus(id);
+        if (status == AgreementState.Status.ERROR) {
+            throw new StubEthNode.RpcError("execution reverted: agreement " + id + " locked");
+        }
+        if (status == AgreementState.Status.NOT_FOUND) {
+            return "0x" + FunctionEncoder.encodeConstructor(List.of(
+                    Uint256.DEFAULT, Address.DEFAULT, Address.DEFAULT, Uint256.DEFAULT, Uint256.DEFAULT,
+                    Bool.DEFAULT));
+        }
+        return "0x" + FunctionEncoder.encodeConstructor(List.of(
+                new Uint256(id),
+                new Address(tenantOf(id)),
+                new Address("0x" + String.format("%040x", id.add(BigInteger.valueOf(100_000)))),
+                new Uint256(BigInteger.valueOf(1000)),
+                new Uint256(BigInteger.valueOf(2000)),
+                new Bool(true)));
+    }
+
+    private static AgreementState.Status expectedStatus(BigInteger id) {
+        int lastDigit = id.mod(BigInteger.TEN).intValue();
+        if (lastDigit == 0) {
+            return AgreementState.Status.NOT_FOUND;
+        }
+        return lastDigit == 7 ? AgreementState.Status.ERROR : AgreementState.Status.FOUND;
+    }
+
+    private static String tenantOf(BigInteger id) {
+        return "0x" + String.format("%040x", id);
+    }
+
+    private static List<BigInteger> ids(long from, long to) {
+        return LongStream.rangeClosed(from, to).mapToObj(BigInteger::valueOf).toList();
+    }
+}
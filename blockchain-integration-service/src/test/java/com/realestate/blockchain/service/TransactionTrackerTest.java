@@ -0,0 +1,190 @@
+package com.realestate.blockchain.service;
+
+import com.realestate.blockchain.StubEthNode;
+import com.realestate.blockchain.entity.PendingTransaction;
+import com.realestate.blockchain.model.TransactionStatus;
+import com.realestate.blockchain.producer.BlockchainEventProducer;
+import com.realestate.blockchain.repository.PendingTransactionRepository;
+import com.realestate.common.dto.BlockchainTransactionEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TransactionTrackerTest {
+
+    private static final String CONFIRMED = hash(1);
+    private static final String REVERTED = hash(2);
+    private static final String WAITING = hash(3);
+    private static final String STALE = hash(4);
+
+    /** Receipt status per hash; a hash without an entry has no receipt yet */
+    private final Map<String, String> receipts = new ConcurrentHashMap<>();
+    private final List<String> queried = new CopyOnWriteArrayList<>();
+    private final BlockchainEventProducer eventProducer = mock(BlockchainEventProducer.class);
+    private final PendingTransactionRepository repository = mock(PendingTransactionRepository.class);
+    private StubEthNode node;
+    private TransactionTracker tracker;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        node = new StubEthNode()
+                .on("eth_getTransactionReceipt", params -> {
+                    String hash = params.get(0).asText();
+                    queried.add(hash);
+                    String status = receipts.get(hash);
+                    if (status == null) {
+                        return null;
+                    }
+                    return Map.of(
+                            "transactionHash", hash,
+                            "blockNumber", "0x10",
+                            "gasUsed", "0x5208",
+                            "status", status,
+                            "logs", List.of());
+                });
+        tracker = new TransactionTracker(node.web3j(), eventProducer, repository);
+        ReflectionTestUtils.setField(tracker, "batchSize", 100);
+        ReflectionTestUtils.setField(tracker, "pendingTimeout", Duration.ofMinutes(30));
+        ReflectionTestUtils.setField(tracker, "retention", Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        node.close();
+    }
+
+    @Test
+    void resolvesReceiptsInOneBatchPerPoll() {
+        tracker.track(CONFIRMED, "createAgreement");
+        tracker.track(REVERTED, "recordPayment");
+        tracker.track(WAITING, "terminateAgreement");
+        verify(repository, times(3)).save(any(PendingTransaction.class));
+
+        receipts.put(CONFIRMED, "0x1");
+        receipts.put(REVERTED, "0x0");
+        tracker.pollReceipts();
+
+        assertEquals(1, node.httpRequests());
+        assertEquals(TransactionStatus.SUCCESS, tracker.find(CONFIRMED).orElseThrow().getStatus());
+        assertEquals(BigInteger.valueOf(16), tracker.find(CONFIRMED).orElseThrow().getBlockNumber());
+        assertEquals(BigInteger.valueOf(21_000), tracker.find(CONFIRMED).orElseThrow().getGasUsed());
+        assertEquals(TransactionStatus.FAILED, tracker.find(REVERTED).orElseThrow().getStatus());
+        assertEquals(TransactionStatus.PENDING, tracker.find(WAITING).orElseThrow().getStatus());
+        verify(repository).deleteById(CONFIRMED);
+        verify(repository).deleteById(REVERTED);
+        verify(repository, never()).deleteById(WAITING);
+
+        receipts.put(WAITING, "0x1");
+        tracker.pollReceipts();
+
+        // Finished transactions are no longer polled
+        assertEquals(2, node.httpRequests());
+        assertEquals(TransactionStatus.SUCCESS, tracker.find(WAITING).orElseThrow().getStatus());
+
+        ArgumentCaptor<BlockchainTransactionEvent> events = ArgumentCaptor.forClass(BlockchainTransactionEvent.class);
+        verify(eventProducer, times(3)).sendTransactionEvent(events.capture());
+        assertEquals(List.of("FAILED", "SUCCESS", "SUCCESS"),
+                events.getAllValues().stream().map(BlockchainTransactionEvent::getStatus).sorted().toList());
+    }
+
+    @Test
+    void restoredTransactionTimesOutFromOriginalSubmission() {
+        when(repository.findAll()).thenReturn(List.of(PendingTransaction.builder()
+                .transactionHash(STALE)
+                .transactionId("restored-id")
+                .functionName("createAgreement")
+                .submittedAt(LocalDateTime.now().minusHours(1))
+                .build()));
+        tracker.restorePending();
+        assertEquals(TransactionStatus.PENDING, tracker.find(STALE).orElseThrow().getStatus());
+
+        tracker.pollReceipts();
+
+        assertEquals(1, node.httpRequests());
+        assertEquals(TransactionStatus.TIMED_OUT, tracker.find(STALE).orElseThrow().getStatus());
+        ArgumentCaptor<BlockchainTransactionEvent> event = ArgumentCaptor.forClass(BlockchainTransactionEvent.class);
+        verify(eventProducer).sendTransactionEvent(event.capture());
+        assertEquals("restored-id", event.getValue().getTransactionId());
+        assertEquals("TIMED_OUT", event.getValue().getStatus());
+        verify(repository).deleteById(STALE);
+    }
+
+    @Test
+    void rotatesThroughBacklogLargerThanOneBatch() {
+        ReflectionTestUtils.setField(tracker, "batchSize", 2);
+        for (int i = 10; i < 15; i++) {
+            tracker.track(hash(i), "recordPayment");
+        }
+
+        for (int poll = 0; poll < 3; poll++) {
+            tracker.pollReceipts();
+            assertEquals(2 * (poll + 1), queried.size(), "one batch of two per poll");
+        }
+
+        assertEquals(Set.of(hash(10), hash(11), hash(12), hash(13), hash(14)), Set.copyOf(queried));
+    }
+
+    @Test
+    void timesOutPendingTransactionsOutsideThePolledSlice() {
+        ReflectionTestUtils.setField(tracker, "batchSize", 1);
+        when(repository.findAll()).thenReturn(List.of(
+                PendingTransaction.builder()
+                        .transactionHash(STALE)
+                        .transactionId("restored-1")
+                        .submittedAt(LocalDateTime.now().minusHours(2))
+                        .build(),
+                PendingTransaction.builder()
+                        .transactionHash(REVERTED)
+                        .transactionId("restored-2")
+                        .submittedAt(LocalDateTime.now().minusHours(1))
+                        .build()));
+        tracker.restorePending();
+        tracker.track(WAITING, "recordPayment");
+
+        tracker.pollReceipts();
+
+        // Only the oldest entry fit in the batch, but the sweep covers every stale one
+        assertEquals(List.of(STALE), queried);
+        assertEquals(TransactionStatus.TIMED_OUT, tracker.find(STALE).orElseThrow().getStatus());
+        assertEquals(TransactionStatus.TIMED_OUT, tracker.find(REVERTED).orElseThrow().getStatus());
+        assertEquals(TransactionStatus.PENDING, tracker.find(WAITING).orElseThrow().getStatus());
+    }
+
+    @Test
+    void keepsRowWhenPublishFails() {
+        tracker.track(CONFIRMED, "createAgreement");
+        receipts.put(CONFIRMED, "0x1");
+        doThrow(new IllegalStateException("broker down"))
+                .when(eventProducer).sendTransactionEvent(any());
+
+        tracker.pollReceipts();
+
+        assertEquals(TransactionStatus.SUCCESS, tracker.find(CONFIRMED).orElseThrow().getStatus());
+        verify(repository, never()).deleteById(CONFIRMED);
+    }
+
+    private static String hash(int n) {
+        return String.format("0x%064x", n);
+    }
+}
@@ -0,0 +1,125 @@
+package com.realestate.blockchain.tx;
+
+import com.realestate.blockchain.StubEthNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.web3j.crypto.Credentials;
+import org.web3j.crypto.TransactionDecoder;
+import org.web3j.protocol.core.methods.response.EthSendTransaction;
+import org.web3j.tx.response.NoOpProcessor;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NonceManagingTransactionManagerTest {
+
+    private static final long CHAIN_ID = 1337;
+    private static final BigInteger START_NONCE = BigInteger.valueOf(5);
+    private static final String TO = "0x000000000000000000000000000000000000dead";
+    private static final Credentials CREDENTIALS =
+            Credentials.create("0x4c0883a69102937d6231471b5dbb6204fe5129617082792ae468d01a3f362318");
+
+    private final Set<BigInteger> accepted = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger sends = new AtomicInteger();
+    private final AtomicInteger duplicates = new AtomicInteger();
+    private StubEthNode node;
+    private NonceManager nonceManager;
+    private NonceManagingTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        node = new StubEthNode()
+                .on("eth_getTransactionCount", params -> "0x" + START_NONCE.add(BigInteger.valueOf(accepted.size()))
+                        .toString(16))
+                .on("eth_sendRawTransaction", params -> {
+                    // Every fifth send never reaches the node
+                    if (sends.incrementAndGet() % 5 == 0) {
+                        throw new StubEthNode.Unavailable();
+                    }
+                    BigInteger nonce = TransactionDecoder.decode(params.get(0).asText()).getNonce();
+                    if (!accepted.add(nonce)) {
+                        duplicates.incrementAndGet();
+                        throw new StubEthNode.RpcError("nonce too low");
+                    }
+                    return String.format("0x%064x", nonce);
+                });
+        nonceManager = new NonceManager(node.web3j(), CREDENTIALS.getAddress());
+        transactionManager = new NonceManagingTransactionManager(node.web3j(), CREDENTIALS, CHAIN_ID,
+                new NoOpProcessor(node.web3j()), nonceManager, 3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        node.close();
+    }
+
+    @Test
+    void parallelSendsUseUniqueGapFreeNonces() throws Exception {
+        int transactions = 60;
+        ExecutorService senders = Executors.newFixedThreadPool(12);
+        try {
+            List<Callable<EthSendTransaction>> tasks = new ArrayList<>();
+            for (int i = 0; i < transactions; i++) {
+                boolean eip1559 = i % 2 == 0;
+                tasks.add(() -> sendUntilAccepted(eip1559));
+            }
+            for (Future<EthSendTransaction> result : senders.invokeAll(tasks, 30, TimeUnit.SECONDS)) {
+                assertFalse(result.get().hasError());
+            }
+        } finally {
+            senders.shutdownNow();
+        }
+
+        assertEquals(0, duplicates.get(), "no nonce sent twice");
+        assertEquals(transactions, accepted.size());
+        for (int i = 0; i < transactions; i++) {
+            assertTrue(accepted.contains(START_NONCE.add(BigInteger.valueOf(i))), "nonce " + (5 + i) + " used");
+        }
+    }
+
+    @Test
+    void releasedNonceIsReusedBeforeNewOnes() throws IOException {
+        BigInteger first = nonceManager.acquire();
+        BigInteger second = nonceManager.acquire();
+        BigInteger third = nonceManager.acquire();
+
+        nonceManager.release(first);
+        nonceManager.confirm(second);
+        assertEquals(first, nonceManager.acquire());
+
+        nonceManager.release(third);
+        assertEquals(third, nonceManager.acquire());
+        assertEquals(third.add(BigInteger.ONE), nonceManager.acquire());
+    }
+
+    private EthSendTransaction sendUntilAccepted(boolean eip1559) throws IOException {
+        for (int attempt = 0; ; attempt++) {
+            try {
+                return eip1559
+                        ? transactionManager.sendEIP1559Transaction(CHAIN_ID, BigInteger.ONE, BigInteger.TEN,
+                                BigInteger.valueOf(21_000), TO, "", BigInteger.ONE, false)
+                        : transactionManager.sendTransaction(BigInteger.TEN, BigInteger.valueOf(21_000), TO, "",
+                                BigInteger.ONE, false);
+            } catch (IOException e) {
+                if (attempt == 20) {
+                    throw e;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.realestate.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigInteger;
+
+/**
+ * Final status of a submitted blockchain transaction, published once its receipt is known
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BlockchainTransactionEvent implements Serializable {
+    private String transactionId;
+    private String transactionHash;
+    private String functionName;
+    private String status; // e.g., SUCCESS, FAILED, TIMED_OUT
+    private BigInteger blockNumber;
+    private BigInteger gasUsed;
+}
@@ -0,0 +1,29 @@
+package com.realestate.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One slice of a keyset-paginated listing. There is no total count; pass {@code nextCursor}
+ * back as {@code cursor} to fetch the following slice while {@code hasNext} is true.
+ *
+ * @param <T> Type of the listed items
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> content;
+
+    private int size;
+
+    private boolean hasNext;
+
+    private String nextCursor;
+}
@@ -0,0 +1,27 @@
+package com.realestate.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * Published by the payment service once a payment record is committed
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentEvent implements Serializable {
+    private Long paymentId;
+    private Long rentalId;
+    private Long payerId;
+    private Long payeeId;
+    private BigDecimal amount;
+    private String currency;
+    private String status; // COMPLETED, FAILED
+    private String transactionHash;
+}
@@ -0,0 +1,27 @@
+package com.realestate.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Published by the rental service whenever an agreement is created or changes status.
+ * {@code updatedAt} orders events for the same rental; consumers ignore anything older than what they hold.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RentalEvent implements Serializable {
+    private Long rentalId;
+    private Long propertyId;
+    private String status; // PENDING, ACTIVE, COMPLETED, CANCELLED, TERMINATED
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private LocalDateTime updatedAt;
+}
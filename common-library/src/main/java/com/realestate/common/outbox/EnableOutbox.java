@@ -0,0 +1,21 @@
+package com.realestate.common.outbox;
+
+import org.springframework.context.annotation.Import;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Registers {@link OutboxService} and the scheduled {@link OutboxRelay}. The service needs an
+ * {@code outbox_events} table, publisher confirms ({@code spring.rabbitmq.publisher-confirm-type: correlated})
+ * and {@code @EnableScheduling}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Import(OutboxConfiguration.class)
+public @interface EnableOutbox {
+}
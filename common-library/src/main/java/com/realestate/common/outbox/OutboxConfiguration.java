@@ -0,0 +1,30 @@
+package com.realestate.common.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Beans behind {@link EnableOutbox}. {@link AutoConfigurationPackage} adds this package to the ones Boot
+ * scans for entities and repositories, so {@link OutboxEvent} and {@link OutboxEventRepository} are
+ * picked up next to the service's own.
+ */
+@Configuration
+@AutoConfigurationPackage
+public class OutboxConfiguration {
+
+    @Bean
+    public OutboxService outboxService(OutboxEventRepository outboxEventRepository, ObjectMapper objectMapper) {
+        return new OutboxService(outboxEventRepository, objectMapper);
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(OutboxEventRepository outboxEventRepository, RabbitTemplate rabbitTemplate,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        return new OutboxRelay(outboxEventRepository, rabbitTemplate, transactionManager, meterRegistry);
+    }
+}
@@ -0,0 +1,185 @@
+package com.realestate.common.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drains the outbox table to RabbitMQ.
+ * <p>
+ * Each run locks a batch of unpublished rows, sends them all, then waits once for all publisher confirms
+ * (bounded by {@code confirm-timeout} for the whole batch) and commits. Only acknowledged rows are marked
+ * published. Anything not confirmed stays in the table with its attempt count raised and is sent again on
+ * the next run, so delivery is at-least-once and consumers see the message id for deduplication. After
+ * {@code max-attempts} failures a row is dead-lettered and left for an operator.
+ */
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Counter deadLetteredCounter;
+    private final Timer publishLag;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.relay.confirm-timeout:5s}")
+    private Duration confirmTimeout;
+
+    @Value("${outbox.relay.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.relay.retention:7d}")
+    private Duration retention;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, RabbitTemplate rabbitTemplate,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.publishedCounter = meterRegistry.counter("outbox.published");
+        this.failedCounter = meterRegistry.counter("outbox.failed");
+        this.deadLetteredCounter = meterRegistry.counter("outbox.dead_lettered");
+        this.publishLag = Timer.builder("outbox.publish.lag")
+                .description("Time from outbox insert to broker confirm")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("outbox.pending", pending, AtomicLong::get)
+                .description("Unpublished outbox rows after the last relay run")
+                .register(meterRegistry);
+        Gauge.builder("outbox.dead_letter", deadLettered, AtomicLong::get)
+                .description("Outbox rows that ran out of attempts")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    public void relay() {
+        try {
+            Integer published;
+            do {
+                published = transactionTemplate.execute(status -> publishBatch());
+            } while (published != null && published == batchSize);
+            pending.set(outboxEventRepository.countByPublishedAtIsNullAndDeadLetteredAtIsNull());
+            deadLettered.set(outboxEventRepository.countByDeadLetteredAtIsNotNull());
+        } catch (Exception e) {
+            log.warn("Outbox relay run failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${outbox.relay.purge-cron:0 0 * * * *}")
+    public void purgePublished() {
+        Integer removed = transactionTemplate.execute(status ->
+                outboxEventRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+        log.debug("Purged {} published outbox events", removed);
+    }
+
+    private int publishBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<CorrelationData> confirms = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            CorrelationData correlation = new CorrelationData(event.getId().toString());
+            rabbitTemplate.send(event.getExchange(), event.getRoutingKey(), toMessage(event), correlation);
+            confirms.add(correlation);
+        }
+
+        awaitConfirms(confirms);
+
+        int acked = 0;
+        int dead = 0;
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxEvent event = batch.get(i);
+            if (isAcked(confirms.get(i))) {
+                event.setPublishedAt(now);
+                publishLag.record(Duration.between(event.getCreatedAt(), now));
+                acked++;
+                continue;
+            }
+            event.setAttempts(event.getAttempts() + 1);
+            if (event.getAttempts() >= maxAttempts) {
+                event.setDeadLetteredAt(now);
+                log.error("Outbox event {} to {}/{} dead-lettered after {} attempts", event.getId(),
+                        event.getExchange(), event.getRoutingKey(), event.getAttempts());
+                dead++;
+            }
+        }
+
+        publishedCounter.increment(acked);
+        failedCounter.increment(batch.size() - acked);
+        deadLetteredCounter.increment(dead);
+        return acked;
+    }
+
+    /**
+     * One wait for the whole batch; confirms still outstanding at the deadline count as failures
+     */
+    private void awaitConfirms(List<CorrelationData> confirms) {
+        CompletableFuture<?>[] futures = confirms.stream()
+                .map(CorrelationData::getFuture)
+                .toArray(CompletableFuture[]::new);
+        try {
+            CompletableFuture.allOf(futures).get(confirmTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            log.warn("Not all {} outbox confirms arrived within {}", confirms.size(), confirmTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static boolean isAcked(CorrelationData correlation) {
+        CompletableFuture<CorrelationData.Confirm> future = correlation.getFuture();
+        if (!future.isDone() || future.isCompletedExceptionally()) {
+            return false;
+        }
+        CorrelationData.Confirm confirm = future.join();
+        if (!confirm.isAck()) {
+            log.warn("Broker nacked outbox event {}: {}", correlation.getId(), confirm.getReason());
+        }
+        return confirm.isAck();
+    }
+
+    private Message toMessage(OutboxEvent event) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        properties.setMessageId(event.getId().toString());
+        // Same type header Jackson2JsonMessageConverter writes, so existing listeners keep working
+        properties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, event.getPayloadType());
+        return new Message(event.getPayload().getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
@@ -0,0 +1,32 @@
+package com.realestate.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Records outgoing messages in the caller's transaction. Nothing reaches the broker unless that
+ * transaction commits; the {@link OutboxRelay} publishes afterwards.
+ */
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxEvent enqueue(String exchange, String routingKey, Object payload) {
+        try {
+            return outboxEventRepository.save(OutboxEvent.builder()
+                    .exchange(exchange)
+                    .routingKey(routingKey)
+                    .payloadType(payload.getClass().getName())
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize outbox payload " + payload.getClass().getName(), e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.realestate.common.security;
+
+import com.realestate.common.dto.Role;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.Optional;
+
+/**
+ * Resolves the {@link UserPrincipal} of the current request from the gateway identity headers.
+ * The principal is parsed once and stored as a request attribute.
+ */
+public class CurrentUserResolver {
+
+    private static final String PRINCIPAL_ATTRIBUTE = CurrentUserResolver.class.getName() + ".PRINCIPAL";
+
+    private CurrentUserResolver() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Get the principal of the current request, if the gateway forwarded one
+     */
+    public static Optional<UserPrincipal> current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return Optional.empty();
+        }
+
+        HttpServletRequest request = servletAttributes.getRequest();
+        Object cached = request.getAttribute(PRINCIPAL_ATTRIBUTE);
+        if (cached instanceof UserPrincipal principal) {
+            return Optional.of(principal);
+        }
+
+        UserPrincipal principal = fromRequest(request);
+        if (principal != null) {
+            request.setAttribute(PRINCIPAL_ATTRIBUTE, principal);
+        }
+        return Optional.ofNullable(principal);
+    }
+
+    /**
+     * Build a principal from the identity headers, or null if the request is anonymous
+     */
+    public static UserPrincipal fromRequest(HttpServletRequest request) {
+        String userId = request.getHeader(IdentityHeaders.USER_ID);
+        if (userId == null || userId.isBlank()) {
+            return null;
+        }
+
+        try {
+            String role = request.getHeader(IdentityHeaders.USER_ROLE);
+            return UserPrincipal.builder()
+                    .userId(Long.valueOf(userId))
+                    .email(request.getHeader(IdentityHeaders.USER_EMAIL))
+                    .role(role != null ? Role.valueOf(role) : null)
+                    .walletAddress(request.getHeader(IdentityHeaders.USER_WALLET))
+                    .build();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.realestate.common.security;
+
+/**
+ * Identity headers set by the API gateway after the JWT has been verified.
+ * The gateway strips any client-supplied values before forwarding, so services can trust them.
+ */
+public final class IdentityHeaders {
+
+    private IdentityHeaders() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static final String USER_ID = "X-User-Id";
+    public static final String USER_EMAIL = "X-User-Email";
+    public static final String USER_ROLE = "X-User-Role";
+    public static final String USER_WALLET = "X-User-Wallet";
+}
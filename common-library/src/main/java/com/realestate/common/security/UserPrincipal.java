@@ -0,0 +1,26 @@
+package com.realestate.common.security;
+
+import com.realestate.common.dto.Role;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Authenticated caller as forwarded by the API gateway
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPrincipal {
+
+    private Long userId;
+    private String email;
+    private Role role;
+    private String walletAddress;
+
+    public boolean isUser(Long id) {
+        return userId != null && userId.equals(id);
+    }
+}
@@ -0,0 +1,48 @@
+package com.realestate.common.util;
+
+import com.realestate.common.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Map;
+
+/**
+ * Encodes the (createdAt, id) keyset of the last row in a slice as an opaque, URL-safe cursor.
+ * Listings that use it sort by {@code createdAt DESC, id DESC}.
+ */
+public final class CursorCodec {
+
+    public static final String CREATED_AT = "createdAt";
+    public static final String ID = "id";
+
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor into its keyset values, keyed by entity property name
+     */
+    public static Map<String, Object> decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int split = raw.lastIndexOf(SEPARATOR);
+            if (split < 0) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return Map.of(
+                    CREATED_AT, LocalDateTime.parse(raw.substring(0, split)),
+                    ID, Long.parseLong(raw.substring(split + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException("Invalid cursor", e);
+        }
+    }
+}
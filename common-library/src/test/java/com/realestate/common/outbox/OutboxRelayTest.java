@@ -0,0 +1,245 @@
+package com.realestate.common.outbox;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the relay against H2 in PostgreSQL mode and an in-memory broker stand-in that answers publisher
+ * confirms. Each relay run uses its own transactions, so the test itself is not transactional.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outbox;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;LOCK_TIMEOUT=10000",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayTest {
+
+    private static final String EXCHANGE = "rental-exchange";
+    private static final String ROUTING_KEY = "rental.created";
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final InMemoryBroker broker = new InMemoryBroker();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void clean() {
+        outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    void publishesEveryRowInConfirmedBatches() {
+        List<Long> ids = enqueue(5);
+        OutboxRelay relay = relay(2, 10);
+
+        relay.relay();
+
+        assertEquals(ids, broker.publishedIds());
+        Message first = broker.published.get(0);
+        assertEquals(EXCHANGE + "/" + ROUTING_KEY, broker.destinations.get(0));
+        assertEquals("java.lang.String",
+                first.getMessageProperties().getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME));
+        assertTrue(outboxEventRepository.findAll().stream().allMatch(e -> e.getPublishedAt() != null));
+        assertEquals(5.0, meterRegistry.counter("outbox.published").count());
+        assertEquals(0.0, meterRegistry.get("outbox.pending").gauge().value());
+    }
+
+    @Test
+    void nackedRowsStayUnpublished() {
+        List<Long> ids = enqueue(3);
+        Long rejected = ids.get(1);
+        broker.answer(message -> idOf(message).equals(rejected)
+                ? new CorrelationData.Confirm(false, "queue full")
+                : new CorrelationData.Confirm(true, null));
+
+        relay(10, 10).relay();
+
+        Map<Long, OutboxEvent> rows = rows();
+        assertNotNull(rows.get(ids.get(0)).getPublishedAt());
+        assertNull(rows.get(rejected).getPublishedAt());
+        assertEquals(1, rows.get(rejected).getAttempts());
+        assertNotNull(rows.get(ids.get(2)).getPublishedAt());
+        assertEquals(1.0, meterRegistry.get("outbox.pending").gauge().value());
+    }
+
+    @Test
+    void missingConfirmsTimeOutAndAreRetried() {
+        List<Long> ids = enqueue(2);
+        broker.answer(message -> null);
+        OutboxRelay relay = relay(10, 10);
+        ReflectionTestUtils.setField(relay, "confirmTimeout", Duration.ofMillis(100));
+
+        relay.relay();
+
+        assertTrue(rows().values().stream().allMatch(e -> e.getPublishedAt() == null && e.getAttempts() == 1));
+
+        broker.answer(message -> new CorrelationData.Confirm(true, null));
+        relay.relay();
+
+        assertEquals(List.of(ids.get(0), ids.get(1), ids.get(0), ids.get(1)), broker.publishedIds());
+        assertTrue(rows().values().stream().allMatch(e -> e.getPublishedAt() != null));
+    }
+
+    @Test
+    void deadLettersAfterMaxAttempts() {
+        Long id = enqueue(1).get(0);
+        broker.answer(message -> new CorrelationData.Confirm(false, "no route"));
+        OutboxRelay relay = relay(10, 3);
+
+        for (int run = 0; run < 4; run++) {
+            relay.relay();
+        }
+
+        // The fourth run finds nothing left to send
+        assertEquals(3, broker.published.size());
+        OutboxEvent row = rows().get(id);
+        assertNull(row.getPublishedAt());
+        assertNotNull(row.getDeadLetteredAt());
+        assertEquals(3, row.getAttempts());
+        assertEquals(1.0, meterRegistry.counter("outbox.dead_lettered").count());
+        assertEquals(1.0, meterRegistry.get("outbox.dead_letter").gauge().value());
+        assertEquals(0.0, meterRegistry.get("outbox.pending").gauge().value());
+    }
+
+    @Test
+    void concurrentRelaysSkipEachOthersRows() throws Exception {
+        List<Long> ids = enqueue(4);
+        CountDownLatch firstBatchSent = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        Thread holder = Thread.currentThread();
+        broker.answer(message -> {
+            // The first relay stops after sending its first row, still holding the row locks of its batch
+            if (Thread.currentThread() != holder && firstBatchSent.getCount() == 1) {
+                firstBatchSent.countDown();
+                await(releaseFirst);
+            }
+            return new CorrelationData.Confirm(true, null);
+        });
+        OutboxRelay first = relay(2, 10);
+        OutboxRelay second = relay(2, 10);
+
+        CompletableFuture<Void> firstRun = CompletableFuture.runAsync(first::relay);
+        assertTrue(firstBatchSent.await(10, TimeUnit.SECONDS));
+        second.relay();
+        releaseFirst.countDown();
+        firstRun.get(10, TimeUnit.SECONDS);
+
+        List<Long> published = broker.publishedIds();
+        assertEquals(4, published.size());
+        assertEquals(ids, published.stream().sorted().toList(), "each row published exactly once");
+        assertTrue(rows().values().stream().allMatch(e -> e.getPublishedAt() != null));
+    }
+
+    private OutboxRelay relay(int batchSize, int maxAttempts) {
+        OutboxRelay relay = new OutboxRelay(outboxEventRepository, broker, transactionManager, meterRegistry);
+        ReflectionTestUtils.setField(relay, "batchSize", batchSize);
+        ReflectionTestUtils.setField(relay, "confirmTimeout", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(relay, "maxAttempts", maxAttempts);
+        ReflectionTestUtils.setField(relay, "retention", Duration.ofDays(7));
+        return relay;
+    }
+
+    private List<Long> enqueue(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(outboxEventRepository.save(OutboxEvent.builder()
+                    .exchange(EXCHANGE)
+                    .routingKey(ROUTING_KEY)
+                    .payloadType(String.class.getName())
+                    .payload("\"event-" + i + "\"")
+                    .build()).getId());
+        }
+        return ids;
+    }
+
+    private Map<Long, OutboxEvent> rows() {
+        Map<Long, OutboxEvent> rows = new HashMap<>();
+        outboxEventRepository.findAll().forEach(e -> rows.put(e.getId(), e));
+        return rows;
+    }
+
+    private static Long idOf(Message message) {
+        return Long.valueOf(message.getMessageProperties().getMessageId());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Broker stand-in: records what is sent and answers each publisher confirm through {@link #answer};
+     * a {@code null} answer leaves the confirm outstanding.
+     */
+    static class InMemoryBroker extends RabbitTemplate {
+
+        final List<Message> published = new CopyOnWriteArrayList<>();
+        final List<String> destinations = new CopyOnWriteArrayList<>();
+        private volatile Function<Message, CorrelationData.Confirm> confirms =
+                message -> new CorrelationData.Confirm(true, null);
+
+        void answer(Function<Message, CorrelationData.Confirm> confirms) {
+            this.confirms = confirms;
+        }
+
+        List<Long> publishedIds() {
+            return published.stream().map(OutboxRelayTest::idOf).toList();
+        }
+
+        @Override
+        public void send(String exchange, String routingKey, Message message, CorrelationData correlationData) {
+            published.add(message);
+            destinations.add(exchange + "/" + routingKey);
+            CorrelationData.Confirm confirm = confirms.apply(message);
+            if (confirm != null) {
+                correlationData.getFuture().complete(confirm);
+            }
+        }
+    }
+
+    @SpringBootConfiguration
+    @AutoConfigurationPackage(basePackageClasses = OutboxEvent.class)
+    @EnableJpaAuditing
+    static class OutboxTestApplication {
+    }
+}
@@ -4,3 +4,4 @@ CREATE DATABASE property_db;
 CREATE DATABASE rental_db;
 CREATE DATABASE payment_db;
 CREATE DATABASE notification_db;
+CREATE DATABASE blockchain_db;
@@ -0,0 +1,35 @@
+package com.realestate.notification.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Bounded pool the consumer uses to send a batch of emails in parallel.
+ * Parallelism caps concurrent SMTP sessions; a full queue pushes back onto the listener thread.
+ */
+@Configuration
+public class NotificationSenderConfig {
+
+    @Value("${notification.sender.parallelism:32}")
+    private int parallelism;
+
+    @Value("${notification.sender.queue-capacity:500}")
+    private int queueCapacity;
+
+    @Bean
+    public ThreadPoolTaskExecutor mailSendExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("mail-send-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -4,6 +4,8 @@ import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
 import org.springframework.beans.factory.annotation.Value;
@@ -22,6 +24,21 @@ public class RabbitMQConfig {
     @Value("${rabbitmq.routing.key.notification:notification.key}")
     private String routingKey;
 
+    @Value("${notification.consumer.batch-size:50}")
+    private int batchSize;
+
+    @Value("${notification.consumer.prefetch:250}")
+    private int prefetch;
+
+    @Value("${notification.consumer.concurrency:2}")
+    private int concurrency;
+
+    @Value("${notification.consumer.max-concurrency:4}")
+    private int maxConcurrency;
+
+    @Value("${notification.consumer.receive-timeout-ms:200}")
+    private long receiveTimeoutMs;
+
     @Bean
     public Queue queue() {
         return new Queue(notificationQueue);
@@ -43,4 +60,24 @@ public class RabbitMQConfig {
     public MessageConverter converter() {
         return new Jackson2JsonMessageConverter();
     }
+
+    /**
+     * Batch listener: each consumer hands over up to {@code batchSize} messages, or whatever arrived
+     * within {@code receiveTimeoutMs}, and acks them together after the listener returns.
+     */
+    @Bean
+    public SimpleRabbitListenerContainerFactory notificationBatchContainerFactory(
+            ConnectionFactory connectionFactory, MessageConverter converter) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setMessageConverter(converter);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(batchSize);
+        factory.setPrefetchCount(Math.max(prefetch, batchSize));
+        factory.setReceiveTimeout(receiveTimeoutMs);
+        factory.setConcurrentConsumers(concurrency);
+        factory.setMaxConcurrentConsumers(maxConcurrency);
+        return factory;
+    }
 }
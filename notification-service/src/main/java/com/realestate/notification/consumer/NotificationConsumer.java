@@ -8,6 +8,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -15,21 +17,52 @@ public class NotificationConsumer {
 
     private final NotificationService notificationService;
 
-    @RabbitListener(queues = "${rabbitmq.queue.notification.name:notification-queue}")
-    public void consume(NotificationEvent event) {
-        log.info(String.format("Received notification event -> %s", event.toString()));
+    /**
+     * Receives up to {@code notification.consumer.batch-size} events at a time; see RabbitMQConfig
+     */
+    @RabbitListener(queues = "${rabbitmq.queue.notification.name:notification-queue}",
+            containerFactory = "notificationBatchContainerFactory")
+    public void consume(List<NotificationEvent> events) {
+        log.info("Received {} notification events", events.size());
 
-        // Process the event
-        try {
-            NotificationRequest request = new NotificationRequest();
-            request.setUserId(event.getRecipientId());
-            request.setRecipientEmail(event.getRecipientEmail());
-            request.setSubject(event.getSubject());
-            request.setMessage(event.getMessage());
+        List<NotificationRequest> requests = events.stream()
+                .filter(this::isDeliverable)
+                .map(this::toRequest)
+                .toList();
+        if (requests.isEmpty()) {
+            return;
+        }
 
-            notificationService.sendNotification(request);
+        try {
+            notificationService.sendNotifications(requests);
         } catch (Exception e) {
-            log.error("Failed to process notification event", e);
+            log.error("Failed to process notification batch of {}", requests.size(), e);
+        }
+    }
+
+    private boolean isDeliverable(NotificationEvent event) {
+        if (event.getRecipientId() == null || event.getRecipientEmail() == null) {
+            log.warn("Dropping notification event without recipient -> {}", event);
+            return false;
+        }
+        if (isBlank(event.getSubject()) || isBlank(event.getMessage())) {
+            log.warn("Dropping notification event without subject or message -> {}", event);
+            return false;
         }
+        return true;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private NotificationRequest toRequest(NotificationEvent event) {
+        NotificationRequest request = new NotificationRequest();
+        request.setUserId(event.getRecipientId());
+        request.setRecipientEmail(event.getRecipientEmail());
+        request.setSubject(event.getSubject());
+        request.setMessage(event.getMessage());
+        request.setType(event.getType());
+        return request;
     }
 }
@@ -20,4 +20,6 @@ public class NotificationRequest {
 
     @NotBlank(message = "Message is required")
     private String message;
+
+    private String type; // Optional, e.g. RENTAL_CREATED; defaults to GENERAL
 }
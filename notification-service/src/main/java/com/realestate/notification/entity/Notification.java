@@ -26,6 +26,10 @@ public class Notification {
     @Column(nullable = false)
     private Long userId;
 
+    @Builder.Default
+    @Column(nullable = false)
+    private String type = "GENERAL";
+
     @Column(nullable = false)
     private String subject;
 
@@ -0,0 +1,34 @@
+package com.realestate.notification.repository;
+
+import com.realestate.notification.entity.Notification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Plain JDBC batch insert for consumer batches; JPA's IDENTITY ids would force one insert per row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO notifications "
+            + "(user_id, type, subject, message, recipient_email, status, sent_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertAll(List<Notification> notifications) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, notifications, notifications.size(), (ps, notification) -> {
+            ps.setLong(1, notification.getUserId());
+            ps.setString(2, notification.getType());
+            ps.setString(3, notification.getSubject());
+            ps.setString(4, notification.getMessage());
+            ps.setString(5, notification.getRecipientEmail());
+            ps.setString(6, notification.getStatus().name());
+            ps.setTimestamp(7, Timestamp.valueOf(notification.getSentAt()));
+        });
+    }
+}
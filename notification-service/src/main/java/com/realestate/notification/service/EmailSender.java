@@ -0,0 +1,26 @@
+package com.realestate.notification.service;
+
+import com.realestate.notification.dto.NotificationRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Email transport. Currently a mock that only simulates SMTP latency.
+ */
+@Component
+@Slf4j
+public class EmailSender {
+
+    @Value("${notification.sender.simulated-latency:100ms}")
+    private Duration simulatedLatency;
+
+    public void send(NotificationRequest request) throws InterruptedException {
+        log.info("Sending notification to: {} | Subject: {}", request.getRecipientEmail(), request.getSubject());
+        log.debug("Connecting to SMTP server...");
+        Thread.sleep(simulatedLatency.toMillis()); // Simulate network latency
+        log.info("Email successfully sent to {}", request.getRecipientEmail());
+    }
+}
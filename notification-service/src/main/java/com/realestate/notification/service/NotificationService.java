@@ -3,13 +3,20 @@ package com.realestate.notification.service;
 import com.realestate.notification.dto.NotificationRequest;
 import com.realestate.notification.entity.Notification;
 import com.realestate.notification.entity.NotificationStatus;
+import com.realestate.notification.repository.NotificationBatchRepository;
 import com.realestate.notification.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
@@ -17,33 +24,89 @@ import java.util.List;
 public class NotificationService {
 
     private final NotificationRepository notificationRepository;
+    private final NotificationBatchRepository notificationBatchRepository;
+    private final EmailSender emailSender;
+    private final ThreadPoolTaskExecutor mailSendExecutor;
 
-    @Transactional
+    @Value("${notification.sender.timeout:10s}")
+    private Duration sendTimeout;
+
+    /**
+     * Send one notification, then record it. No transaction is open while the email goes out.
+     */
     public Notification sendNotification(NotificationRequest request) {
-        log.info("Sending notification to: {} | Subject: {}", request.getRecipientEmail(), request.getSubject());
         log.info("Message body: {}", request.getMessage());
-
-        // Simulating the actual email sending process
+        NotificationStatus status = NotificationStatus.SENT;
         try {
-            log.debug("Connecting to SMTP server...");
-            Thread.sleep(100); // Simulate network latency
-            log.info("Email successfully sent to {}", request.getRecipientEmail());
+            emailSender.send(request);
         } catch (InterruptedException e) {
             log.error("Notification interrupted", e);
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("Failed to send notification to {}", request.getRecipientEmail(), e);
+            status = NotificationStatus.FAILED;
         }
 
-        Notification notification = Notification.builder()
-                .userId(request.getUserId())
-                .recipientEmail(request.getRecipientEmail())
-                .subject(request.getSubject())
-                .message(request.getMessage())
-                .status(NotificationStatus.SENT)
-                .build();
+        return notificationRepository.save(toNotification(request, status));
+    }
+
+    /**
+     * Send a batch in parallel on the bounded mail pool, then record all results with one JDBC batch.
+     * Sends that fail or exceed the timeout are stored as FAILED. If the batch insert is rejected, the
+     * rows are saved one at a time so a single bad row does not lose the records of the others.
+     */
+    public void sendNotifications(List<NotificationRequest> requests) {
+        List<CompletableFuture<Notification>> sends = requests.stream()
+                .map(request -> CompletableFuture.supplyAsync(() -> {
+                            try {
+                                emailSender.send(request);
+                                return toNotification(request, NotificationStatus.SENT);
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                throw new IllegalStateException("Notification interrupted", e);
+                            }
+                        }, mailSendExecutor)
+                        .orTimeout(sendTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                        .exceptionally(e -> {
+                            log.error("Failed to send notification to {}: {}", request.getRecipientEmail(),
+                                    e.getMessage());
+                            return toNotification(request, NotificationStatus.FAILED);
+                        }))
+                .toList();
+
+        List<Notification> results = sends.stream().map(CompletableFuture::join).toList();
+        try {
+            notificationBatchRepository.insertAll(results);
+        } catch (DataAccessException e) {
+            log.warn("Batch insert of {} notifications failed, saving them one by one: {}", results.size(),
+                    e.getMessage());
+            results.forEach(this::saveQuietly);
+        }
+        log.info("Processed notification batch of {} ({} failed)", results.size(),
+                results.stream().filter(n -> n.getStatus() == NotificationStatus.FAILED).count());
+    }
 
-        return notificationRepository.save(notification);
+    private void saveQuietly(Notification notification) {
+        try {
+            notificationRepository.save(notification);
+        } catch (DataAccessException e) {
+            log.error("Failed to record notification to {}", notification.getRecipientEmail(), e);
+        }
     }
 
     public List<Notification> getNotificationsByUser(Long userId) {
         return notificationRepository.findByUserId(userId);
     }
+
+    private Notification toNotification(NotificationRequest request, NotificationStatus status) {
+        return Notification.builder()
+                .userId(request.getUserId())
+                .type(request.getType() != null ? request.getType() : "GENERAL")
+                .recipientEmail(request.getRecipientEmail())
+                .subject(request.getSubject())
+                .message(request.getMessage())
+                .status(status)
+                .sentAt(LocalDateTime.now())
+                .build();
+    }
 }
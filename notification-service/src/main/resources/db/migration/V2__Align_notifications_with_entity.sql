@@ -0,0 +1,5 @@
+-- Store the recipient address the entity already maps, and give type a default for API-created rows
+ALTER TABLE notifications ADD COLUMN IF NOT EXISTS recipient_email VARCHAR(255);
+UPDATE notifications SET recipient_email = '' WHERE recipient_email IS NULL;
+ALTER TABLE notifications ALTER COLUMN recipient_email SET NOT NULL;
+ALTER TABLE notifications ALTER COLUMN type SET DEFAULT 'GENERAL';
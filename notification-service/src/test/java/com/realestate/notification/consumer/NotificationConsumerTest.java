@@ -0,0 +1,53 @@
+package com.realestate.notification.consumer;
+
+import com.realestate.common.dto.NotificationEvent;
+import com.realestate.notification.dto.NotificationRequest;
+import com.realestate.notification.service.NotificationService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class NotificationConsumerTest {
+
+    private final NotificationService notificationService = mock(NotificationService.class);
+    private final NotificationConsumer consumer = new NotificationConsumer(notificationService);
+
+    @Test
+    void dropsEventsThatCannotBeStored() {
+        consumer.consume(List.of(
+                event(1L, "a@example.com", "Subject", "Message"),
+                event(null, "b@example.com", "Subject", "Message"),
+                event(3L, "c@example.com", null, "Message"),
+                event(4L, "d@example.com", "Subject", " "),
+                event(5L, "e@example.com", "Subject", "Message")));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<NotificationRequest>> requests = ArgumentCaptor.forClass(List.class);
+        verify(notificationService).sendNotifications(requests.capture());
+        assertEquals(List.of("a@example.com", "e@example.com"),
+                requests.getValue().stream().map(NotificationRequest::getRecipientEmail).toList());
+    }
+
+    @Test
+    void skipsBatchWithNothingDeliverable() {
+        consumer.consume(List.of(event(1L, "a@example.com", null, null)));
+
+        verify(notificationService, never()).sendNotifications(any());
+    }
+
+    private static NotificationEvent event(Long recipientId, String email, String subject, String message) {
+        return NotificationEvent.builder()
+                .recipientId(recipientId)
+                .recipientEmail(email)
+                .subject(subject)
+                .message(message)
+                .build();
+    }
+}
@@ -0,0 +1,153 @@
+package com.realestate.notification.service;
+
+import com.realestate.notification.dto.NotificationRequest;
+import com.realestate.notification.entity.Notification;
+import com.realestate.notification.entity.NotificationStatus;
+import com.realestate.notification.repository.NotificationBatchRepository;
+import com.realestate.notification.repository.NotificationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class NotificationServiceTest {
+
+    private static final Duration MAIL_LATENCY = Duration.ofMillis(20);
+    private static final int PARALLELISM = 32;
+    private static final int BATCH_SIZE = 50;
+
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final NotificationBatchRepository batchRepository = mock(NotificationBatchRepository.class);
+    private final EmailSender emailSender = mock(EmailSender.class);
+    private final AtomicInteger sent = new AtomicInteger();
+    private ThreadPoolTaskExecutor executor;
+    private NotificationService service;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(PARALLELISM);
+        executor.setMaxPoolSize(PARALLELISM);
+        executor.setQueueCapacity(500);
+        executor.initialize();
+
+        // Mock mail sender with a fixed SMTP round trip
+        doAnswer(invocation -> {
+            Thread.sleep(MAIL_LATENCY.toMillis());
+            sent.incrementAndGet();
+            return null;
+        }).when(emailSender).send(any());
+
+        service = new NotificationService(notificationRepository, batchRepository, emailSender, executor);
+        ReflectionTestUtils.setField(service, "sendTimeout", Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void recordsWholeBatchWithOneInsert() {
+        service.sendNotifications(requests(BATCH_SIZE));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Notification>> rows = ArgumentCaptor.forClass(List.class);
+        verify(batchRepository).insertAll(rows.capture());
+        assertEquals(BATCH_SIZE, rows.getValue().size());
+        assertTrue(rows.getValue().stream().allMatch(n -> n.getStatus() == NotificationStatus.SENT));
+        verify(notificationRepository, times(0)).save(any());
+    }
+
+    @Test
+    void failedSendIsRecordedAsFailed() throws InterruptedException {
+        List<NotificationRequest> requests = requests(3);
+        doThrow(new IllegalStateException("smtp refused")).when(emailSender).send(requests.get(1));
+
+        service.sendNotifications(requests);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Notification>> rows = ArgumentCaptor.forClass(List.class);
+        verify(batchRepository).insertAll(rows.capture());
+        assertEquals(List.of(NotificationStatus.SENT, NotificationStatus.FAILED, NotificationStatus.SENT),
+                rows.getValue().stream().map(Notification::getStatus).toList());
+    }
+
+    @Test
+    void rejectedBatchInsertFallsBackToRowByRow() {
+        doThrow(new DataIntegrityViolationException("value too long for subject"))
+                .when(batchRepository).insertAll(anyList());
+        when(notificationRepository.save(any())).thenAnswer(invocation -> {
+            Notification notification = invocation.getArgument(0);
+            if (notification.getRecipientEmail().equals("user1@example.com")) {
+                throw new DataIntegrityViolationException("value too long for subject");
+            }
+            return notification;
+        });
+
+        service.sendNotifications(requests(5));
+
+        ArgumentCaptor<Notification> saved = ArgumentCaptor.forClass(Notification.class);
+        verify(notificationRepository, times(5)).save(saved.capture());
+        assertEquals(5, saved.getAllValues().stream().map(Notification::getRecipientEmail).distinct().count());
+    }
+
+    /**
+     * Sustained throughput against the mock sender. One message at a time tops out at
+     * 1000 / latency msgs/s; the pool should get close to {@code PARALLELISM} times that.
+     */
+    @Test
+    void sustainsParallelThroughput() {
+        int batches = 20;
+        List<NotificationRequest> batch = requests(BATCH_SIZE);
+
+        service.sendNotifications(batch); // warm up the pool
+        sent.set(0);
+
+        long started = System.nanoTime();
+        for (int i = 0; i < batches; i++) {
+            service.sendNotifications(batch);
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+        double perSecond = sent.get() / seconds;
+        double sequential = 1000.0 / MAIL_LATENCY.toMillis();
+        System.out.printf("Sent %d notifications in %.2fs: %.0f msgs/s (sequential ceiling %.0f msgs/s)%n",
+                sent.get(), seconds, perSecond, sequential);
+
+        assertEquals(batches * BATCH_SIZE, sent.get());
+        assertTrue(perSecond > sequential * 10, "expected at least 10x the sequential rate, got " + perSecond);
+    }
+
+    private static List<NotificationRequest> requests(int count) {
+        List<NotificationRequest> requests = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            NotificationRequest request = new NotificationRequest();
+            request.setUserId((long) i);
+            request.setRecipientEmail("user" + i + "@example.com");
+            request.setSubject("Rental confirmed");
+            request.setMessage("Your rental has been confirmed.");
+            request.setType("RENTAL_CREATED");
+            requests.add(request);
+        }
+        return requests;
+    }
+}
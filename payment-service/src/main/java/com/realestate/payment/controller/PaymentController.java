@@ -1,5 +1,6 @@
 package com.realestate.payment.controller;
 
+import com.realestate.common.dto.CursorPage;
 import com.realestate.common.dto.ResponseWrapper;
 import com.realestate.payment.dto.PaymentRequest;
 import com.realestate.payment.entity.Payment;
@@ -7,13 +8,17 @@ import com.realestate.payment.service.PaymentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
 @RestController
+@Validated
 @RequestMapping("/api/payments")
 @RequiredArgsConstructor
 @Tag(name = "Payment Management")
@@ -44,6 +49,15 @@ public class PaymentController {
         return ResponseEntity.ok(ResponseWrapper.success(paymentService.getPaymentsByRental(rentalId, pageable)));
     }
 
+    @GetMapping("/rental/{rentalId}/scroll")
+    @Operation(summary = "Get payments for a rental, keyset-paginated (newest first, no total count)")
+    public ResponseEntity<ResponseWrapper<CursorPage<Payment>>> scrollPaymentsByRental(
+            @PathVariable Long rentalId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(ResponseWrapper.success(paymentService.scrollPaymentsByRental(rentalId, cursor, size)));
+    }
+
     @GetMapping("/payer/{payerId}")
     @Operation(summary = "Get payments by payer")
     public ResponseEntity<ResponseWrapper<org.springframework.data.domain.Page<Payment>>> getPaymentsByPayer(
@@ -53,4 +67,13 @@ public class PaymentController {
         org.springframework.data.domain.Pageable pageable = org.springframework.data.domain.PageRequest.of(page, size);
         return ResponseEntity.ok(ResponseWrapper.success(paymentService.getPaymentsByPayer(payerId, pageable)));
     }
+
+    @GetMapping("/payer/{payerId}/scroll")
+    @Operation(summary = "Get payments by payer, keyset-paginated (newest first, no total count)")
+    public ResponseEntity<ResponseWrapper<CursorPage<Payment>>> scrollPaymentsByPayer(
+            @PathVariable Long payerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(ResponseWrapper.success(paymentService.scrollPaymentsByPayer(payerId, cursor, size)));
+    }
 }
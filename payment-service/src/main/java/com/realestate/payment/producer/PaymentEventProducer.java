@@ -0,0 +1,30 @@
+package com.realestate.payment.producer;
+
+import com.realestate.common.dto.PaymentEvent;
+import com.realestate.common.outbox.OutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PaymentEventProducer {
+
+    @Value("${rabbitmq.exchange.name:realestate-exchange}")
+    private String exchange;
+
+    @Value("${rabbitmq.routing.key.payment:payment.processed}")
+    private String routingKey;
+
+    private final OutboxService outboxService;
+
+    /**
+     * Queue the event in the outbox; must be called inside the transaction that persists the payment
+     */
+    public void sendPaymentEvent(PaymentEvent event) {
+        log.info("Queueing payment event -> {}", event);
+        outboxService.enqueue(exchange, routingKey, event);
+    }
+}
@@ -1,6 +1,9 @@
 package com.realestate.payment.repository;
 
 import com.realestate.payment.entity.Payment;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -13,11 +16,15 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     org.springframework.data.domain.Page<Payment> findByRentalId(Long rentalId,
             org.springframework.data.domain.Pageable pageable);
 
+    Window<Payment> findByRentalIdOrderByCreatedAtDescIdDesc(Long rentalId, ScrollPosition position, Limit limit);
+
     List<Payment> findByPayerId(Long payerId);
 
     org.springframework.data.domain.Page<Payment> findByPayerId(Long payerId,
             org.springframework.data.domain.Pageable pageable);
 
+    Window<Payment> findByPayerIdOrderByCreatedAtDescIdDesc(Long payerId, ScrollPosition position, Limit limit);
+
     List<Payment> findByPayeeId(Long payeeId);
 
     org.springframework.data.domain.Page<Payment> findByPayeeId(Long payeeId,
@@ -2,12 +2,20 @@ package com.realestate.payment.service;
 
 import com.realestate.payment.client.BlockchainClient;
 import com.realestate.payment.dto.PaymentRequest;
+import com.realestate.common.dto.CursorPage;
+import com.realestate.common.dto.PaymentEvent;
 import com.realestate.common.dto.SmartContractRequest;
+import com.realestate.common.exception.ResourceNotFoundException;
+import com.realestate.common.util.CursorCodec;
 import com.realestate.payment.entity.Payment;
 import com.realestate.payment.entity.PaymentStatus;
+import com.realestate.payment.producer.PaymentEventProducer;
 import com.realestate.payment.repository.PaymentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +28,7 @@ public class PaymentService {
 
     private final PaymentRepository paymentRepository;
     private final BlockchainClient blockchainClient;
+    private final PaymentEventProducer paymentEventProducer;
 
     @Transactional
     public Payment processPayment(PaymentRequest request) {
@@ -53,7 +62,7 @@ public class PaymentService {
                     .status(PaymentStatus.FAILED)
                     .transactionHash("FAILED")
                     .build();
-            return paymentRepository.save(payment);
+            return saveAndAnnounce(payment);
         }
 
         // 2. Save Record
@@ -67,12 +76,30 @@ public class PaymentService {
                 .transactionHash(txHash)
                 .build();
 
-        return paymentRepository.save(payment);
+        return saveAndAnnounce(payment);
+    }
+
+    /**
+     * Persist the payment and queue its event in the same transaction
+     */
+    private Payment saveAndAnnounce(Payment payment) {
+        Payment saved = paymentRepository.save(payment);
+        paymentEventProducer.sendPaymentEvent(PaymentEvent.builder()
+                .paymentId(saved.getId())
+                .rentalId(saved.getRentalId())
+                .payerId(saved.getPayerId())
+                .payeeId(saved.getPayeeId())
+                .amount(saved.getAmount())
+                .currency(saved.getCurrency())
+                .status(saved.getStatus().name())
+                .transactionHash(saved.getTransactionHash())
+                .build());
+        return saved;
     }
 
     public Payment getPaymentById(Long id) {
         return paymentRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Payment not found with id: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Payment", "id", id));
     }
 
     public org.springframework.data.domain.Page<Payment> getPaymentsByRental(Long rentalId,
@@ -84,4 +111,33 @@ public class PaymentService {
             org.springframework.data.domain.Pageable pageable) {
         return paymentRepository.findByPayerId(payerId, pageable);
     }
+
+    public CursorPage<Payment> scrollPaymentsByRental(Long rentalId, String cursor, int size) {
+        return toCursorPage(paymentRepository.findByRentalIdOrderByCreatedAtDescIdDesc(
+                rentalId, scrollPosition(cursor), Limit.of(size)));
+    }
+
+    public CursorPage<Payment> scrollPaymentsByPayer(Long payerId, String cursor, int size) {
+        return toCursorPage(paymentRepository.findByPayerIdOrderByCreatedAtDescIdDesc(
+                payerId, scrollPosition(cursor), Limit.of(size)));
+    }
+
+    private static ScrollPosition scrollPosition(String cursor) {
+        return (cursor == null || cursor.isBlank())
+                ? ScrollPosition.keyset()
+                : ScrollPosition.forward(CursorCodec.decode(cursor));
+    }
+
+    private static CursorPage<Payment> toCursorPage(Window<Payment> window) {
+        List<Payment> rows = window.getContent();
+        Payment last = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+        return CursorPage.<Payment>builder()
+                .content(rows)
+                .size(rows.size())
+                .hasNext(window.hasNext())
+                .nextCursor(window.hasNext() && last != null
+                        ? CursorCodec.encode(last.getCreatedAt(), last.getId())
+                        : null)
+                .build();
+    }
 }
@@ -0,0 +1,2 @@
+-- Supports newest-first keyset scrolling of a rental's payments
+CREATE INDEX IF NOT EXISTS idx_payments_rental_created ON payments(rental_id, created_at DESC, id DESC);
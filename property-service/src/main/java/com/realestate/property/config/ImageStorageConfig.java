@@ -0,0 +1,47 @@
+package com.realestate.property.config;
+
+import com.realestate.property.storage.BlobStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Bounded pool for thumbnail generation. When the queue is full new work is rejected rather than
+ * piling up; a skipped thumbnail is generated again on its first request.
+ * <p>
+ * Also stops startup with a clear message when {@code property.storage.type} names a backend that does
+ * not exist, instead of an unsatisfied {@link BlobStore} dependency.
+ */
+@Configuration
+public class ImageStorageConfig {
+
+    @Value("${property.images.thumbnail-pool.core-size:2}")
+    private int corePoolSize;
+
+    @Value("${property.images.thumbnail-pool.max-size:4}")
+    private int maxPoolSize;
+
+    @Value("${property.images.thumbnail-pool.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Bean
+    public ThreadPoolTaskExecutor thumbnailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("thumbnail-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    @Bean
+    @ConditionalOnExpression("!'${property.storage.type:local}'.equals('local')")
+    public BlobStore unsupportedBlobStore(@Value("${property.storage.type}") String type) {
+        throw new IllegalStateException("Unsupported property.storage.type '" + type
+                + "'; the only available BlobStore is 'local'");
+    }
+}
@@ -0,0 +1,70 @@
+package com.realestate.property.config;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RabbitMQConfig {
+
+    @Value("${rabbitmq.exchange.property-cache:property-cache-invalidation}")
+    private String cacheInvalidationExchange;
+
+    @Value("${rabbitmq.exchange.name:realestate-exchange}")
+    private String exchange;
+
+    @Value("${rabbitmq.queue.property-availability:property-availability-queue}")
+    private String availabilityQueue;
+
+    @Value("${rabbitmq.routing.key.rental:rental.updated}")
+    private String rentalRoutingKey;
+
+    @Bean
+    public FanoutExchange propertyCacheInvalidationExchange() {
+        return new FanoutExchange(cacheInvalidationExchange);
+    }
+
+    /**
+     * One exclusive, auto-delete queue per replica so every instance receives every invalidation
+     */
+    @Bean
+    public Queue propertyCacheInvalidationQueue() {
+        return new AnonymousQueue();
+    }
+
+    @Bean
+    public Binding propertyCacheInvalidationBinding() {
+        return BindingBuilder.bind(propertyCacheInvalidationQueue()).to(propertyCacheInvalidationExchange());
+    }
+
+    @Bean
+    public TopicExchange exchange() {
+        return new TopicExchange(exchange);
+    }
+
+    /**
+     * Durable and shared by all replicas: each rental event only needs to be applied once
+     */
+    @Bean
+    public Queue propertyAvailabilityQueue() {
+        return new Queue(availabilityQueue);
+    }
+
+    @Bean
+    public Binding propertyAvailabilityBinding() {
+        return BindingBuilder.bind(propertyAvailabilityQueue()).to(exchange()).with(rentalRoutingKey);
+    }
+
+    @Bean
+    public MessageConverter converter() {
+        return new Jackson2JsonMessageConverter();
+    }
+}
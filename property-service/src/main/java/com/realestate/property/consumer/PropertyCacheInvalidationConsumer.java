@@ -0,0 +1,21 @@
+package com.realestate.property.consumer;
+
+import com.realestate.property.service.PropertyCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PropertyCacheInvalidationConsumer {
+
+    private final PropertyCache propertyCache;
+
+    @RabbitListener(queues = "#{propertyCacheInvalidationQueue.name}")
+    public void consume(Long propertyId) {
+        log.debug("Evicting cached property {}", propertyId);
+        propertyCache.evictLocal(propertyId);
+    }
+}
@@ -0,0 +1,22 @@
+package com.realestate.property.consumer;
+
+import com.realestate.common.dto.RentalEvent;
+import com.realestate.property.service.AvailabilityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RentalEventConsumer {
+
+    private final AvailabilityService availabilityService;
+
+    @RabbitListener(queues = "${rabbitmq.queue.property-availability:property-availability-queue}")
+    public void consume(RentalEvent event) {
+        log.debug("Applying rental event {}", event);
+        availabilityService.apply(event);
+    }
+}
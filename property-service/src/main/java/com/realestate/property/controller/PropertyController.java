@@ -1,28 +1,52 @@
 package com.realestate.property.controller;
 
+import com.realestate.common.dto.CursorPage;
 import com.realestate.common.dto.ResponseWrapper;
+import com.realestate.common.exception.BadRequestException;
+import com.realestate.property.dto.AvailabilityResponse;
+import com.realestate.property.dto.BulkImportResult;
+import com.realestate.property.dto.PropertyFacets;
 import com.realestate.property.dto.PropertyRequest;
 import com.realestate.property.dto.PropertyResponse;
 import com.realestate.property.entity.PropertyStatus;
+import com.realestate.property.service.AvailabilityService;
+import com.realestate.property.service.PropertyBulkService;
+import com.realestate.property.service.PropertyFacetService;
 import com.realestate.property.service.PropertyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
+@Validated
 @RequestMapping("/api/properties")
 @RequiredArgsConstructor
 @Tag(name = "Property Management")
 public class PropertyController {
 
     private final PropertyService propertyService;
+    private final PropertyFacetService propertyFacetService;
+    private final PropertyBulkService propertyBulkService;
+    private final AvailabilityService availabilityService;
+
+    private static final String TEXT_CSV = "text/csv";
 
     @PostMapping
     @Operation(summary = "Create property")
@@ -32,6 +56,33 @@ public class PropertyController {
         return ResponseEntity.status(HttpStatus.CREATED).body(ResponseWrapper.success("Property created", response));
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, TEXT_CSV})
+    @Operation(summary = "Bulk import properties from a JSON array or CSV with a header row")
+    public ResponseEntity<ResponseWrapper<BulkImportResult>> bulkImport(HttpServletRequest request)
+            throws IOException {
+        BulkImportResult result = MediaType.parseMediaType(TEXT_CSV)
+                .isCompatibleWith(MediaType.parseMediaType(request.getContentType()))
+                ? propertyBulkService.importCsv(request.getInputStream())
+                : propertyBulkService.importJson(request.getInputStream());
+        return ResponseEntity.ok(ResponseWrapper.success("Bulk import finished", result));
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Stream all properties as JSON or CSV")
+    public ResponseEntity<StreamingResponseBody> exportProperties(
+            @RequestParam(defaultValue = "json") String format) {
+        return switch (format.toLowerCase()) {
+            case "json" -> ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(propertyBulkService::exportJson);
+            case "csv" -> ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(TEXT_CSV))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=properties.csv")
+                    .body(propertyBulkService::exportCsv);
+            default -> throw new BadRequestException("format must be json or csv");
+        };
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ResponseWrapper<PropertyResponse>> getProperty(@PathVariable Long id) {
         return ResponseEntity.ok(ResponseWrapper.success(propertyService.getPropertyById(id)));
@@ -39,20 +90,97 @@ public class PropertyController {
 
     @GetMapping("/search")
     public ResponseEntity<ResponseWrapper<org.springframework.data.domain.Page<PropertyResponse>>> searchProperties(
+            @RequestParam(required = false) String q,
             @RequestParam(required = false) String city,
             @RequestParam(required = false) String country,
             @RequestParam(required = false) BigDecimal minPrice,
             @RequestParam(required = false) BigDecimal maxPrice,
             @RequestParam(required = false) Integer bedrooms,
             @RequestParam(required = false) PropertyStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableTo,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size) {
         org.springframework.data.domain.Pageable pageable = org.springframework.data.domain.PageRequest.of(page, size);
         org.springframework.data.domain.Page<PropertyResponse> properties = propertyService.searchProperties(
-                city, country, minPrice, maxPrice, bedrooms, status, pageable);
+                q, city, country, minPrice, maxPrice, bedrooms, status, availableFrom, availableTo, pageable);
         return ResponseEntity.ok(ResponseWrapper.success(properties));
     }
 
+    @GetMapping("/search/scroll")
+    @Operation(summary = "Search properties, keyset-paginated (newest first, no total count)")
+    public ResponseEntity<ResponseWrapper<CursorPage<PropertyResponse>>> scrollProperties(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String country,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Integer bedrooms,
+            @RequestParam(required = false) PropertyStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(ResponseWrapper.success(propertyService.scrollProperties(
+                q, city, country, minPrice, maxPrice, bedrooms, status, availableFrom, availableTo, cursor, size)));
+    }
+
+    @GetMapping("/search/facets")
+    @Operation(summary = "Facet counts (type, status, bedrooms, price band, city) for a search filter")
+    public ResponseEntity<ResponseWrapper<PropertyFacets>> getFacets(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String country,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Integer bedrooms,
+            @RequestParam(required = false) PropertyStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate availableTo) {
+        return ResponseEntity.ok(ResponseWrapper.success(propertyFacetService.getFacets(
+                q, city, country, minPrice, maxPrice, bedrooms, status, availableFrom, availableTo)));
+    }
+
+    @GetMapping("/nearby")
+    @Operation(summary = "Properties within radiusKm of a point, nearest first")
+    public ResponseEntity<ResponseWrapper<List<PropertyResponse>>> findNearby(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "5") double radiusKm,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Integer bedrooms,
+            @RequestParam(required = false) PropertyStatus status,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(ResponseWrapper.success(propertyService.findNearby(
+                lat, lng, radiusKm, minPrice, maxPrice, bedrooms, status, limit)));
+    }
+
+    @GetMapping("/nearby/box")
+    @Operation(summary = "Properties inside a bounding box, ordered by distance from its centre")
+    public ResponseEntity<ResponseWrapper<List<PropertyResponse>>> findInBox(
+            @RequestParam double minLat,
+            @RequestParam double minLng,
+            @RequestParam double maxLat,
+            @RequestParam double maxLng,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) Integer bedrooms,
+            @RequestParam(required = false) PropertyStatus status,
+            @RequestParam(defaultValue = "200") int limit) {
+        return ResponseEntity.ok(ResponseWrapper.success(propertyService.findInBox(
+                minLat, minLng, maxLat, maxLng, minPrice, maxPrice, bedrooms, status, limit)));
+    }
+
+    @GetMapping("/{id}/availability")
+    @Operation(summary = "Whether a property is free for [from, to), with any overlapping bookings")
+    public ResponseEntity<ResponseWrapper<AvailabilityResponse>> getAvailability(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(ResponseWrapper.success(availabilityService.getAvailability(id, from, to)));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ResponseWrapper<PropertyResponse>> updateProperty(
             @PathVariable Long id, @Valid @RequestBody PropertyRequest request) {
@@ -0,0 +1,69 @@
+package com.realestate.property.controller;
+
+import com.realestate.common.dto.ResponseWrapper;
+import com.realestate.property.dto.PropertyImageResponse;
+import com.realestate.property.service.PropertyImageService;
+import com.realestate.property.service.PropertyImageService.StoredImage;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.Duration;
+
+/**
+ * Image upload and delivery. Images are served by content hash, so a URL never changes meaning:
+ * responses carry a strong ETag and a long cache lifetime, and Range requests get 206 partial content.
+ */
+@RestController
+@RequestMapping("/api/properties")
+@RequiredArgsConstructor
+@Tag(name = "Property Images")
+public class PropertyImageController {
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic();
+
+    private final PropertyImageService propertyImageService;
+
+    @PostMapping(value = "/{id}/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(summary = "Upload an image for a property")
+    public ResponseEntity<ResponseWrapper<PropertyImageResponse>> uploadImage(
+            @PathVariable Long id,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(defaultValue = "false") boolean primary) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ResponseWrapper.success("Image uploaded", propertyImageService.upload(id, file, primary)));
+    }
+
+    @GetMapping("/images/{hash}")
+    @Operation(summary = "Download an image by content hash (supports Range and If-None-Match)")
+    public ResponseEntity<Resource> getImage(@PathVariable String hash, WebRequest request) {
+        return serve(propertyImageService.getOriginal(hash), request);
+    }
+
+    @GetMapping("/images/{hash}/thumbnail")
+    @Operation(summary = "Download an image thumbnail; falls back to the original while it is generated")
+    public ResponseEntity<Resource> getThumbnail(@PathVariable String hash, WebRequest request) {
+        return serve(propertyImageService.getThumbnail(hash), request);
+    }
+
+    private ResponseEntity<Resource> serve(StoredImage image, WebRequest request) {
+        String etag = "\"" + image.etag() + "\"";
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        // Spring turns a Resource body into 206 partial content when the request has a Range header
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(image.cacheable() ? IMMUTABLE : CacheControl.noCache())
+                .contentType(MediaType.parseMediaType(image.contentType()))
+                .body(image.resource());
+    }
+}
@@ -0,0 +1,34 @@
+package com.realestate.property.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailabilityResponse {
+
+    private Long propertyId;
+    private LocalDate from;
+    private LocalDate to;
+    private boolean available;
+
+    /** Bookings overlapping the requested range, each {@code [startDate, endDate)} */
+    private List<BookedPeriod> bookedPeriods;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BookedPeriod {
+        private Long rentalId;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private String status;
+    }
+}
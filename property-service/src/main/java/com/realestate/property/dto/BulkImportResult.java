@@ -0,0 +1,37 @@
+package com.realestate.property.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. Rows are numbered from 1 in the order they appear in the upload.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResult {
+
+    private long received;
+    private long imported;
+    private long failed;
+    private long durationMs;
+    private double rowsPerSecond;
+
+    /** Only the first {@code property.bulk.max-reported-errors} failures are listed */
+    @Builder.Default
+    private List<RowError> errors = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private long row;
+        private String message;
+    }
+}
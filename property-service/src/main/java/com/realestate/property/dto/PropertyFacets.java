@@ -0,0 +1,24 @@
+package com.realestate.property.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Result counts per facet value for one search filter
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyFacets {
+
+    private Map<String, Long> propertyTypes;
+    private Map<String, Long> statuses;
+    private Map<String, Long> bedrooms;
+    private Map<String, Long> priceBands;
+    private Map<String, Long> cities;
+}
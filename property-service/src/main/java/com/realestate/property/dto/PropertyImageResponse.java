@@ -0,0 +1,25 @@
+package com.realestate.property.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyImageResponse {
+
+    private Long id;
+    private Long propertyId;
+    private String url;
+    private String thumbnailUrl;
+    private String contentHash;
+    private String contentType;
+    private Long sizeBytes;
+    private Boolean primary;
+
+    /** True when identical bytes were already stored and only a new reference was added */
+    private boolean duplicate;
+}
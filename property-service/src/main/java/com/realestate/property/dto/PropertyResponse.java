@@ -1,5 +1,6 @@
 package com.realestate.property.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.realestate.property.entity.PropertyStatus;
 import com.realestate.property.entity.PropertyType;
 import lombok.AllArgsConstructor;
@@ -36,4 +37,10 @@ public class PropertyResponse {
     private List<String> imageUrls;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    /**
+     * Only set by the nearby searches
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double distanceKm;
 }
@@ -24,7 +24,8 @@ import java.util.List;
 public class Property {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "properties_id_seq")
+    @SequenceGenerator(name = "properties_id_seq", sequenceName = "properties_id_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false)
@@ -30,4 +30,13 @@ public class PropertyImage {
     @Column(nullable = false)
     @Builder.Default
     private Boolean isPrimary = false;
+
+    /** SHA-256 of the uploaded bytes; null for images registered by URL only */
+    @Column(length = 64)
+    private String contentHash;
+
+    @Column(length = 100)
+    private String contentType;
+
+    private Long sizeBytes;
 }
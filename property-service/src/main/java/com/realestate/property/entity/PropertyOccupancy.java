@@ -0,0 +1,47 @@
+package com.realestate.property.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * A rental's hold on a property for {@code [startDate, endDate)}, copied from rental events.
+ * Only {@link #BLOCKING_STATUSES} make the property unavailable.
+ */
+@Entity
+@Table(name = "property_occupancy")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertyOccupancy {
+
+    public static final List<String> BLOCKING_STATUSES = List.of("PENDING", "ACTIVE");
+
+    @Id
+    private Long rentalId;
+
+    @Column(nullable = false)
+    private Long propertyId;
+
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    @Column(nullable = false)
+    private LocalDate endDate;
+
+    @Column(nullable = false)
+    private String status;
+
+    @Column(nullable = false)
+    private LocalDateTime sourceUpdatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
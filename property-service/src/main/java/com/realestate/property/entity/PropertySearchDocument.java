@@ -0,0 +1,94 @@
+package com.realestate.property.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Flattened, read-only copy of a property for search. Rows are written with SQL upserts by
+ * {@link com.realestate.property.repository.PropertySearchDocumentRepository}, never through JPA.
+ */
+@Entity
+@Table(name = "property_search_documents")
+@Immutable
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PropertySearchDocument {
+
+    @Id
+    @Column(name = "property_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(nullable = false)
+    private String address;
+
+    @Column(nullable = false)
+    private String city;
+
+    @Column(nullable = false)
+    private String country;
+
+    private Double latitude;
+
+    private Double longitude;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal pricePerMonth;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal depositAmount;
+
+    @Column(nullable = false)
+    private Integer bedroomCount;
+
+    @Column(nullable = false)
+    private Integer bathroomCount;
+
+    @Column(nullable = false)
+    private Double squareMeters;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PropertyType propertyType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PropertyStatus status;
+
+    @Column(nullable = false)
+    private Long ownerId;
+
+    private String primaryImageUrl;
+
+    @Column(nullable = false)
+    private String cityLower;
+
+    @Column(nullable = false)
+    private String countryLower;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String searchText;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime indexedAt;
+}
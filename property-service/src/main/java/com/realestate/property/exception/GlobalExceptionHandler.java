@@ -0,0 +1,107 @@
+package com.realestate.property.exception;
+
+import com.realestate.common.dto.ErrorResponse;
+import com.realestate.common.exception.BadRequestException;
+import com.realestate.common.exception.ResourceNotFoundException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Global exception handler for property service
+ */
+@RestControllerAdvice
+@Slf4j
+public class GlobalExceptionHandler {
+
+        @ExceptionHandler(ResourceNotFoundException.class)
+        public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
+                        ResourceNotFoundException ex,
+                        HttpServletRequest request) {
+                log.error("Resource not found: {}", ex.getMessage());
+
+                ErrorResponse error = ErrorResponse.builder()
+                                .errorCode("RESOURCE_NOT_FOUND")
+                                .message(ex.getMessage())
+                                .timestamp(LocalDateTime.now())
+                                .path(request.getRequestURI())
+                                .status(HttpStatus.NOT_FOUND.value())
+                                .build();
+
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+        }
+
+        @ExceptionHandler(BadRequestException.class)
+        public ResponseEntity<ErrorResponse> handleBadRequestException(
+                        BadRequestException ex,
+                        HttpServletRequest request) {
+                log.error("Bad request: {}", ex.getMessage());
+
+                ErrorResponse error = ErrorResponse.builder()
+                                .errorCode("BAD_REQUEST")
+                                .message(ex.getMessage())
+                                .timestamp(LocalDateTime.now())
+                                .path(request.getRequestURI())
+                                .status(HttpStatus.BAD_REQUEST.value())
+                                .build();
+
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+
+        @ExceptionHandler(MethodArgumentNotValidException.class)
+        public ResponseEntity<ErrorResponse> handleValidationException(
+                        MethodArgumentNotValidException ex,
+                        HttpServletRequest request) {
+                log.error("Validation error: {}", ex.getMessage());
+
+                List<String> details = new ArrayList<>();
+                for (FieldError error : ex.getBindingResult().getFieldErrors()) {
+                        details.add(error.getField() + ": " + error.getDefaultMessage());
+                }
+
+                ErrorResponse error = ErrorResponse.builder()
+                                .errorCode("VALIDATION_ERROR")
+                                .message("Validation failed")
+                                .details(details)
+                                .timestamp(LocalDateTime.now())
+                                .path(request.getRequestURI())
+                                .status(HttpStatus.BAD_REQUEST.value())
+                                .build();
+
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+
+        @ExceptionHandler(ConstraintViolationException.class)
+        public ResponseEntity<ErrorResponse> handleConstraintViolationException(
+                        ConstraintViolationException ex,
+                        HttpServletRequest request) {
+                log.error("Validation error: {}", ex.getMessage());
+
+                List<String> details = new ArrayList<>();
+                for (ConstraintViolation<?> violation : ex.getConstraintViolations()) {
+                        details.add(violation.getPropertyPath() + ": " + violation.getMessage());
+                }
+
+                ErrorResponse error = ErrorResponse.builder()
+                                .errorCode("VALIDATION_ERROR")
+                                .message("Validation failed")
+                                .details(details)
+                                .timestamp(LocalDateTime.now())
+                                .path(request.getRequestURI())
+                                .status(HttpStatus.BAD_REQUEST.value())
+                                .build();
+
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+        }
+}
@@ -0,0 +1,35 @@
+package com.realestate.property.repository;
+
+import com.realestate.property.entity.PropertyStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Facet counts for a search filter, computed in one GROUPING SETS query over the same
+ * {@code property_search_documents} rows the search endpoints read
+ */
+public interface PropertyFacetRepository {
+
+    /**
+     * Bedroom counts at or above this value share one bucket
+     */
+    int MAX_BEDROOM_BUCKET = 4;
+
+    List<FacetCount> countFacets(FacetFilter filter, List<BigDecimal> priceBandBounds);
+
+    enum Facet {
+        PROPERTY_TYPE, STATUS, BEDROOMS, PRICE_BAND, CITY
+    }
+
+    /**
+     * {@code value} is the grouped column as text; for PRICE_BAND it is the band index
+     */
+    record FacetCount(Facet facet, String value, long count) {
+    }
+
+    record FacetFilter(String q, String city, String country, BigDecimal minPrice, BigDecimal maxPrice,
+            Integer bedrooms, PropertyStatus status, LocalDate availableFrom, LocalDate availableTo) {
+    }
+}
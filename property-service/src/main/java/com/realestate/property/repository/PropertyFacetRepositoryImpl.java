@@ -0,0 +1,107 @@
+package com.realestate.property.repository;
+
+import com.realestate.property.entity.PropertyOccupancy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.realestate.property.repository.PropertySearchDocumentSpecifications.containsPattern;
+import static com.realestate.property.repository.PropertySearchDocumentSpecifications.hasText;
+
+/**
+ * Native SQL for {@link PropertyFacetRepository}. The filtered rows are scanned once and grouped five ways;
+ * {@code GROUPING(...)} tells the sets apart since each row only has its own grouping column populated.
+ */
+public class PropertyFacetRepositoryImpl implements PropertyFacetRepository {
+
+    // GROUPING(property_type, status, bedroom_bucket, price_band, city): a bit is 1 when that column is not grouped
+    private static final Map<Integer, Facet> FACETS_BY_GROUPING = Map.of(
+            0b01111, Facet.PROPERTY_TYPE,
+            0b10111, Facet.STATUS,
+            0b11011, Facet.BEDROOMS,
+            0b11101, Facet.PRICE_BAND,
+            0b11110, Facet.CITY);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Select list order matches Facet ordinals, so row[facet.ordinal()] is the grouped value
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<FacetCount> countFacets(FacetFilter filter, List<BigDecimal> priceBandBounds) {
+        Map<String, Object> params = new HashMap<>();
+        StringBuilder priceBand = new StringBuilder("CASE");
+        for (int i = 0; i < priceBandBounds.size(); i++) {
+            priceBand.append(" WHEN p.price_per_month < :band").append(i).append(" THEN ").append(i);
+            params.put("band" + i, priceBandBounds.get(i));
+        }
+        priceBand.append(" ELSE ").append(priceBandBounds.size()).append(" END");
+
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT property_type, status, bedroom_bucket, price_band, city, ")
+                .append("GROUPING(property_type, status, bedroom_bucket, price_band, city) AS grp, COUNT(*) ")
+                .append("FROM (SELECT p.property_type, p.status, LEAST(p.bedroom_count, ")
+                .append(MAX_BEDROOM_BUCKET).append(") AS bedroom_bucket, ")
+                .append(priceBand).append(" AS price_band, p.city FROM property_search_documents p WHERE 1 = 1");
+        appendFilters(sql, filter, params);
+        sql.append(") f GROUP BY GROUPING SETS ((property_type), (status), (bedroom_bucket), (price_band), (city))");
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        params.forEach(query::setParameter);
+
+        List<FacetCount> counts = new ArrayList<>();
+        for (Object[] row : (List<Object[]>) query.getResultList()) {
+            Facet facet = FACETS_BY_GROUPING.get(((Number) row[5]).intValue());
+            if (facet != null) {
+                counts.add(new FacetCount(facet, String.valueOf(row[facet.ordinal()]), ((Number) row[6]).longValue()));
+            }
+        }
+        return counts;
+    }
+
+    // Same predicates as PropertySearchDocumentSpecifications, so counts describe the search results
+    private static void appendFilters(StringBuilder sql, FacetFilter filter, Map<String, Object> params) {
+        if (hasText(filter.q())) {
+            sql.append(" AND p.search_text LIKE :q ESCAPE '\\'");
+            params.put("q", containsPattern(filter.q()));
+        }
+        if (hasText(filter.city())) {
+            sql.append(" AND p.city_lower LIKE :city ESCAPE '\\'");
+            params.put("city", containsPattern(filter.city()));
+        }
+        if (hasText(filter.country())) {
+            sql.append(" AND p.country_lower LIKE :country ESCAPE '\\'");
+            params.put("country", containsPattern(filter.country()));
+        }
+        if (filter.minPrice() != null) {
+            sql.append(" AND p.price_per_month >= :minPrice");
+            params.put("minPrice", filter.minPrice());
+        }
+        if (filter.maxPrice() != null) {
+            sql.append(" AND p.price_per_month <= :maxPrice");
+            params.put("maxPrice", filter.maxPrice());
+        }
+        if (filter.bedrooms() != null) {
+            sql.append(" AND p.bedroom_count >= :bedrooms");
+            params.put("bedrooms", filter.bedrooms());
+        }
+        if (filter.status() != null) {
+            sql.append(" AND p.status = :status");
+            params.put("status", filter.status().name());
+        }
+        if (filter.availableFrom() != null && filter.availableTo() != null) {
+            sql.append(" AND NOT EXISTS (SELECT 1 FROM property_occupancy o WHERE o.property_id = p.property_id")
+                    .append(" AND o.status IN (:blockingStatuses)")
+                    .append(" AND o.start_date < :availableTo AND o.end_date > :availableFrom)");
+            params.put("blockingStatuses", PropertyOccupancy.BLOCKING_STATUSES);
+            params.put("availableFrom", filter.availableFrom());
+            params.put("availableTo", filter.availableTo());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.realestate.property.repository;
+
+import com.realestate.property.entity.PropertyStatus;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Spatial lookups served by the {@code earthdistance} GiST index on {@code ll_to_earth(latitude, longitude)}
+ */
+public interface PropertyGeoRepository {
+
+    /**
+     * Properties within {@code radiusMeters} of a point, nearest first
+     */
+    List<GeoMatch> findWithinRadius(double latitude, double longitude, double radiusMeters,
+            GeoFilter filter, int limit);
+
+    /**
+     * Properties inside a latitude/longitude box, ordered by distance from the box centre. A box whose
+     * {@code minLongitude} is greater than its {@code maxLongitude} crosses the antimeridian.
+     */
+    List<GeoMatch> findWithinBox(double minLatitude, double minLongitude, double maxLatitude,
+            double maxLongitude, GeoFilter filter, int limit);
+
+    record GeoMatch(Long propertyId, double distanceMeters) {
+    }
+
+    record GeoFilter(BigDecimal minPrice, BigDecimal maxPrice, Integer bedrooms, PropertyStatus status) {
+    }
+}
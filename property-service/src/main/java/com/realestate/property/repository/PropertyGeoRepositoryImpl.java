@@ -0,0 +1,93 @@
+package com.realestate.property.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Native SQL for {@link PropertyGeoRepository}. Only the filters that are set are added to the WHERE clause.
+ */
+public class PropertyGeoRepositoryImpl implements PropertyGeoRepository {
+
+    private static final String ORIGIN = "ll_to_earth(:lat, :lng)";
+    private static final String POSITION = "ll_to_earth(p.latitude, p.longitude)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<GeoMatch> findWithinRadius(double latitude, double longitude, double radiusMeters,
+            GeoFilter filter, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("lat", latitude);
+        params.put("lng", longitude);
+        params.put("radius", radiusMeters);
+
+        // earth_box is the index-assisted pre-filter; earth_distance trims the box corners
+        String where = "earth_box(" + ORIGIN + ", :radius) @> " + POSITION
+                + " AND earth_distance(" + ORIGIN + ", " + POSITION + ") <= :radius";
+        return query(where, filter, params, limit);
+    }
+
+    @Override
+    public List<GeoMatch> findWithinBox(double minLatitude, double minLongitude, double maxLatitude,
+            double maxLongitude, GeoFilter filter, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("lat", (minLatitude + maxLatitude) / 2);
+        params.put("minLat", minLatitude);
+        params.put("maxLat", maxLatitude);
+        params.put("minLng", minLongitude);
+        params.put("maxLng", maxLongitude);
+
+        String where = "p.latitude BETWEEN :minLat AND :maxLat AND ";
+        if (minLongitude <= maxLongitude) {
+            params.put("lng", (minLongitude + maxLongitude) / 2);
+            where += "p.longitude BETWEEN :minLng AND :maxLng";
+        } else {
+            // The box crosses the antimeridian: it is [minLng, 180] plus [-180, maxLng]
+            double centre = (minLongitude + maxLongitude + 360) / 2;
+            params.put("lng", centre > 180 ? centre - 360 : centre);
+            where += "(p.longitude >= :minLng OR p.longitude <= :maxLng)";
+        }
+        return query(where, filter, params, limit);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<GeoMatch> query(String spatialPredicate, GeoFilter filter, Map<String, Object> params, int limit) {
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT p.id, earth_distance(").append(ORIGIN).append(", ").append(POSITION)
+                .append(") AS distance FROM properties p ")
+                .append("WHERE p.latitude IS NOT NULL AND p.longitude IS NOT NULL AND ")
+                .append(spatialPredicate);
+
+        if (filter.minPrice() != null) {
+            sql.append(" AND p.price_per_month >= :minPrice");
+            params.put("minPrice", filter.minPrice());
+        }
+        if (filter.maxPrice() != null) {
+            sql.append(" AND p.price_per_month <= :maxPrice");
+            params.put("maxPrice", filter.maxPrice());
+        }
+        if (filter.bedrooms() != null) {
+            sql.append(" AND p.bedroom_count >= :bedrooms");
+            params.put("bedrooms", filter.bedrooms());
+        }
+        if (filter.status() != null) {
+            sql.append(" AND p.status = :status");
+            params.put("status", filter.status().name());
+        }
+        sql.append(" ORDER BY distance, p.id LIMIT :limit");
+        params.put("limit", limit);
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        params.forEach(query::setParameter);
+
+        return ((List<Object[]>) query.getResultList()).stream()
+                .map(row -> new GeoMatch(((Number) row[0]).longValue(), ((Number) row[1]).doubleValue()))
+                .toList();
+    }
+}
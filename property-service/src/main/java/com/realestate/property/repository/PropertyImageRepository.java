@@ -2,9 +2,14 @@ package com.realestate.property.repository;
 
 import com.realestate.property.entity.PropertyImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PropertyImageRepository extends JpaRepository<PropertyImage, Long> {
@@ -12,4 +17,23 @@ public interface PropertyImageRepository extends JpaRepository<PropertyImage, Lo
     List<PropertyImage> findByPropertyId(Long propertyId);
     
     void deleteByPropertyId(Long propertyId);
+
+    Optional<PropertyImage> findFirstByContentHash(String contentHash);
+
+    @Modifying
+    @Query("UPDATE PropertyImage i SET i.isPrimary = false WHERE i.property.id = :propertyId AND i.isPrimary = true")
+    int clearPrimary(@Param("propertyId") Long propertyId);
+
+    /**
+     * Image URLs for a whole result page in one query, instead of one lazy load per property
+     */
+    @Query("SELECT i.property.id AS propertyId, i.imageUrl AS imageUrl FROM PropertyImage i " +
+            "WHERE i.property.id IN :propertyIds ORDER BY i.id")
+    List<ImageUrlView> findImageUrlsByPropertyIds(@Param("propertyIds") Collection<Long> propertyIds);
+
+    interface ImageUrlView {
+        Long getPropertyId();
+
+        String getImageUrl();
+    }
 }
@@ -0,0 +1,44 @@
+package com.realestate.property.repository;
+
+import com.realestate.property.entity.PropertyOccupancy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PropertyOccupancyRepository extends JpaRepository<PropertyOccupancy, Long> {
+
+    /**
+     * Insert or update a rental's period unless a newer event for the same rental was already applied
+     *
+     * @return 0 when the event was stale
+     */
+    @Modifying
+    @Query(value = "INSERT INTO property_occupancy (rental_id, property_id, start_date, end_date, status, "
+            + "source_updated_at, updated_at) "
+            + "VALUES (:rentalId, :propertyId, :startDate, :endDate, :status, :sourceUpdatedAt, CURRENT_TIMESTAMP) "
+            + "ON CONFLICT (rental_id) DO UPDATE SET property_id = EXCLUDED.property_id, "
+            + "start_date = EXCLUDED.start_date, end_date = EXCLUDED.end_date, status = EXCLUDED.status, "
+            + "source_updated_at = EXCLUDED.source_updated_at, updated_at = CURRENT_TIMESTAMP "
+            + "WHERE property_occupancy.source_updated_at <= EXCLUDED.source_updated_at",
+            nativeQuery = true)
+    int upsertIfNewer(@Param("rentalId") Long rentalId, @Param("propertyId") Long propertyId,
+            @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate,
+            @Param("status") String status, @Param("sourceUpdatedAt") LocalDateTime sourceUpdatedAt);
+
+    /**
+     * Blocking periods of one property that overlap {@code [from, to)}
+     */
+    @Query("SELECT o FROM PropertyOccupancy o WHERE o.propertyId = :propertyId AND o.status IN :statuses "
+            + "AND o.startDate < :to AND o.endDate > :from ORDER BY o.startDate")
+    List<PropertyOccupancy> findOverlapping(@Param("propertyId") Long propertyId,
+            @Param("statuses") Collection<String> statuses,
+            @Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,55 @@
+package com.realestate.property.repository;
+
+import com.realestate.property.entity.PropertySearchDocument;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PropertySearchDocumentRepository extends JpaRepository<PropertySearchDocument, Long>,
+        JpaSpecificationExecutor<PropertySearchDocument> {
+
+    String UPSERT_FROM_PROPERTIES = "INSERT INTO property_search_documents (property_id, title, description, "
+            + "address, city, country, latitude, longitude, price_per_month, deposit_amount, bedroom_count, "
+            + "bathroom_count, square_meters, property_type, status, owner_id, primary_image_url, city_lower, "
+            + "country_lower, search_text, created_at, updated_at, indexed_at) "
+            + "SELECT p.id, p.title, p.description, p.address, p.city, p.country, p.latitude, p.longitude, "
+            + "p.price_per_month, p.deposit_amount, p.bedroom_count, p.bathroom_count, p.square_meters, "
+            + "p.property_type, p.status, p.owner_id, "
+            + "(SELECT i.image_url FROM property_images i WHERE i.property_id = p.id "
+            + "ORDER BY i.is_primary DESC, i.id LIMIT 1), "
+            + "LOWER(p.city), LOWER(p.country), LOWER(CONCAT_WS(' ', p.title, p.address, p.city, p.country)), "
+            + "p.created_at, p.updated_at, CURRENT_TIMESTAMP "
+            + "FROM properties p WHERE p.id IN (:propertyIds) "
+            + "ON CONFLICT (property_id) DO UPDATE SET title = EXCLUDED.title, description = EXCLUDED.description, "
+            + "address = EXCLUDED.address, city = EXCLUDED.city, country = EXCLUDED.country, "
+            + "latitude = EXCLUDED.latitude, longitude = EXCLUDED.longitude, "
+            + "price_per_month = EXCLUDED.price_per_month, deposit_amount = EXCLUDED.deposit_amount, "
+            + "bedroom_count = EXCLUDED.bedroom_count, bathroom_count = EXCLUDED.bathroom_count, "
+            + "square_meters = EXCLUDED.square_meters, property_type = EXCLUDED.property_type, "
+            + "status = EXCLUDED.status, owner_id = EXCLUDED.owner_id, "
+            + "primary_image_url = EXCLUDED.primary_image_url, city_lower = EXCLUDED.city_lower, "
+            + "country_lower = EXCLUDED.country_lower, search_text = EXCLUDED.search_text, "
+            + "created_at = EXCLUDED.created_at, updated_at = EXCLUDED.updated_at, indexed_at = EXCLUDED.indexed_at";
+
+    /**
+     * Rebuild the documents of the given properties from the source tables. Pending entity changes are
+     * flushed first so the statement sees them.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = UPSERT_FROM_PROPERTIES, nativeQuery = true)
+    int upsertFromProperties(@Param("propertyIds") Collection<Long> propertyIds);
+
+    /**
+     * Next page of property ids for a full rebuild
+     */
+    @Query(value = "SELECT p.id FROM properties p WHERE p.id > :afterId ORDER BY p.id LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findPropertyIdsAfter(@Param("afterId") long afterId, @Param("limit") int limit);
+}
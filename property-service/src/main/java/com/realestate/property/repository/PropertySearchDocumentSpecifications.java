@@ -0,0 +1,80 @@
+package com.realestate.property.repository;
+
+import com.realestate.property.entity.PropertyOccupancy;
+import com.realestate.property.entity.PropertySearchDocument;
+import com.realestate.property.entity.PropertyStatus;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Search predicates over {@code property_search_documents}, built only from the filters that are set so the
+ * planner sees a plain conjunction instead of {@code :x IS NULL OR ...} branches. Text filters are
+ * case-insensitive substring matches against the precomputed lowercase columns, so the trigram indexes apply
+ * without expression indexes; {@code q} covers title, address, city and country. When a date range is given,
+ * properties with a blocking booking overlapping {@code [availableFrom, availableTo)} are excluded.
+ */
+public final class PropertySearchDocumentSpecifications {
+
+    private PropertySearchDocumentSpecifications() {
+    }
+
+    public static Specification<PropertySearchDocument> search(String q, String city, String country,
+            BigDecimal minPrice, BigDecimal maxPrice, Integer bedrooms, PropertyStatus status,
+            LocalDate availableFrom, LocalDate availableTo) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (hasText(q)) {
+                predicates.add(cb.like(root.get("searchText"), containsPattern(q), '\\'));
+            }
+            if (hasText(city)) {
+                predicates.add(cb.like(root.get("cityLower"), containsPattern(city), '\\'));
+            }
+            if (hasText(country)) {
+                predicates.add(cb.like(root.get("countryLower"), containsPattern(country), '\\'));
+            }
+            if (minPrice != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("pricePerMonth"), minPrice));
+            }
+            if (maxPrice != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("pricePerMonth"), maxPrice));
+            }
+            if (bedrooms != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("bedroomCount"), bedrooms));
+            }
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (availableFrom != null && availableTo != null) {
+                Subquery<Long> booked = query.subquery(Long.class);
+                Root<PropertyOccupancy> occupancy = booked.from(PropertyOccupancy.class);
+                booked.select(occupancy.get("rentalId")).where(
+                        cb.equal(occupancy.get("propertyId"), root.get("id")),
+                        occupancy.get("status").in(PropertyOccupancy.BLOCKING_STATUSES),
+                        cb.lessThan(occupancy.get("startDate"), availableTo),
+                        cb.greaterThan(occupancy.get("endDate"), availableFrom));
+                predicates.add(cb.not(cb.exists(booked)));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    static boolean hasText(String value) {
+        return value != null && !value.isBlank();
+    }
+
+    static String containsPattern(String value) {
+        String escaped = value.trim().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+}
@@ -0,0 +1,76 @@
+package com.realestate.property.service;
+
+import com.realestate.common.dto.RentalEvent;
+import com.realestate.common.exception.BadRequestException;
+import com.realestate.common.exception.ResourceNotFoundException;
+import com.realestate.property.dto.AvailabilityResponse;
+import com.realestate.property.entity.PropertyOccupancy;
+import com.realestate.property.repository.PropertyOccupancyRepository;
+import com.realestate.property.repository.PropertyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Local occupancy calendar built from rental events, so availability is answered without calling
+ * rental-service. Ranges are half-open: a stay ending on a date leaves that date free for the next one.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class AvailabilityService {
+
+    private final PropertyOccupancyRepository occupancyRepository;
+    private final PropertyRepository propertyRepository;
+
+    public void apply(RentalEvent event) {
+        if (event.getRentalId() == null || event.getPropertyId() == null || event.getStartDate() == null
+                || event.getEndDate() == null || event.getStatus() == null || event.getUpdatedAt() == null) {
+            log.warn("Ignoring incomplete rental event {}", event);
+            return;
+        }
+        int applied = occupancyRepository.upsertIfNewer(event.getRentalId(), event.getPropertyId(),
+                event.getStartDate(), event.getEndDate(), event.getStatus(), event.getUpdatedAt());
+        if (applied == 0) {
+            log.debug("Skipped stale event for rental {}", event.getRentalId());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public AvailabilityResponse getAvailability(Long propertyId, LocalDate from, LocalDate to) {
+        validateRange(from, to);
+        if (!propertyRepository.existsById(propertyId)) {
+            throw new ResourceNotFoundException("Property", "id", propertyId);
+        }
+        List<AvailabilityResponse.BookedPeriod> booked = occupancyRepository
+                .findOverlapping(propertyId, PropertyOccupancy.BLOCKING_STATUSES, from, to).stream()
+                .map(o -> new AvailabilityResponse.BookedPeriod(o.getRentalId(), o.getStartDate(), o.getEndDate(),
+                        o.getStatus()))
+                .collect(Collectors.toList());
+        return AvailabilityResponse.builder()
+                .propertyId(propertyId)
+                .from(from)
+                .to(to)
+                .available(booked.isEmpty())
+                .bookedPeriods(booked)
+                .build();
+    }
+
+    /**
+     * Both ends must be given together, with {@code from} before {@code to}
+     */
+    static void validateRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new BadRequestException("Both ends of the date range are required");
+        }
+        if (!from.isBefore(to)) {
+            throw new BadRequestException("Date range start must be before its end");
+        }
+    }
+}
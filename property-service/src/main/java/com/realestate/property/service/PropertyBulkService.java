@@ -0,0 +1,296 @@
+package com.realestate.property.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.realestate.common.exception.BadRequestException;
+import com.realestate.property.dto.BulkImportResult;
+import com.realestate.property.dto.PropertyRequest;
+import com.realestate.property.dto.PropertyResponse;
+import com.realestate.property.entity.Property;
+import com.realestate.property.repository.PropertyRepository;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import and export of listings.
+ * <p>
+ * Imports read the body one row at a time and insert every {@code chunk-size} valid rows in their own
+ * transaction, so Hibernate sends them as JDBC batches. A chunk that fails is retried row by row; rows
+ * that are invalid or rejected by the database are reported and the rest of the upload continues.
+ * Exports page through the table by primary key and write each page before reading the next.
+ */
+@Service
+@Slf4j
+public class PropertyBulkService {
+
+    private static final List<String> CSV_COLUMNS = List.of(
+            "id", "title", "description", "address", "city", "country", "latitude", "longitude",
+            "pricePerMonth", "depositAmount", "bedroomCount", "bathroomCount", "squareMeters",
+            "propertyType", "status", "ownerId", "createdAt", "updatedAt");
+
+    private final PropertyRepository propertyRepository;
+    private final PropertyService propertyService;
+    private final PropertySearchIndexer searchIndexer;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter exportWriter;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    @Value("${property.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${property.bulk.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    @Value("${property.bulk.export-page-size:1000}")
+    private int exportPageSize;
+
+    public PropertyBulkService(PropertyRepository propertyRepository, PropertyService propertyService,
+            PropertySearchIndexer searchIndexer, ObjectMapper objectMapper, Validator validator,
+            PlatformTransactionManager transactionManager) {
+        this.propertyRepository = propertyRepository;
+        this.propertyService = propertyService;
+        this.searchIndexer = searchIndexer;
+        this.objectMapper = objectMapper;
+        // Flush once per page rather than once per row
+        this.exportWriter = objectMapper.writerFor(PropertyResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Import a JSON array of {@link PropertyRequest} objects
+     */
+    public BulkImportResult importJson(InputStream body) throws IOException {
+        ImportRun run = new ImportRun();
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new BadRequestException("Expected a JSON array of properties");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.END_ARRAY) {
+                JsonNode node = objectMapper.readTree(parser);
+                run.accept(() -> {
+                    if (!node.isObject()) {
+                        throw new IllegalArgumentException("Expected a JSON object");
+                    }
+                    return objectMapper.treeToValue(node, PropertyRequest.class);
+                });
+            }
+        } catch (JsonProcessingException e) {
+            // Nothing after a syntax error can be trusted; keep what was already imported
+            run.fail(run.row + 1, "Malformed JSON: " + e.getOriginalMessage());
+        }
+        return run.finish();
+    }
+
+    /**
+     * Import CSV with a header row naming {@link PropertyRequest} fields; unknown columns are ignored
+     */
+    public BulkImportResult importCsv(InputStream body) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        List<String> header = PropertyCsv.readRecord(reader);
+        if (header == null || PropertyCsv.isBlank(header)) {
+            throw new BadRequestException("CSV header row is required");
+        }
+
+        ImportRun run = new ImportRun();
+        List<String> record;
+        while ((record = PropertyCsv.readRecord(reader)) != null) {
+            if (PropertyCsv.isBlank(record)) {
+                continue;
+            }
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < Math.min(header.size(), record.size()); i++) {
+                if (!record.get(i).isBlank()) {
+                    values.put(header.get(i).trim(), record.get(i).trim());
+                }
+            }
+            run.accept(() -> objectMapper.convertValue(values, PropertyRequest.class));
+        }
+        return run.finish();
+    }
+
+    public void exportJson(OutputStream out) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+        generator.writeStartArray();
+        long afterId = 0;
+        List<PropertyResponse> page;
+        do {
+            page = nextExportPage(afterId);
+            for (PropertyResponse property : page) {
+                exportWriter.writeValue(generator, property);
+                afterId = property.getId();
+            }
+            generator.flush();
+        } while (page.size() == exportPageSize);
+        generator.writeEndArray();
+        generator.flush();
+    }
+
+    public void exportCsv(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        PropertyCsv.writeRecord(writer, CSV_COLUMNS);
+        long afterId = 0;
+        List<PropertyResponse> page;
+        do {
+            page = nextExportPage(afterId);
+            for (PropertyResponse property : page) {
+                PropertyCsv.writeRecord(writer, csvValues(property));
+                afterId = property.getId();
+            }
+            writer.flush();
+        } while (page.size() == exportPageSize);
+    }
+
+    private List<PropertyResponse> nextExportPage(long afterId) {
+        return readOnlyTransactionTemplate.execute(status -> propertyService.toResponses(
+                propertyRepository.findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(exportPageSize))));
+    }
+
+    private static List<Object> csvValues(PropertyResponse property) {
+        return Arrays.asList(
+                property.getId(), property.getTitle(), property.getDescription(), property.getAddress(),
+                property.getCity(), property.getCountry(), property.getLatitude(), property.getLongitude(),
+                property.getPricePerMonth(), property.getDepositAmount(), property.getBedroomCount(),
+                property.getBathroomCount(), property.getSquareMeters(), property.getPropertyType(),
+                property.getStatus(), property.getOwnerId(), property.getCreatedAt(), property.getUpdatedAt());
+    }
+
+    @FunctionalInterface
+    private interface RowReader {
+        PropertyRequest read() throws JsonProcessingException;
+    }
+
+    private record PendingRow(long row, PropertyRequest request) {
+    }
+
+    /**
+     * State of one import: the current chunk of valid rows and the running totals
+     */
+    private final class ImportRun {
+
+        private final long startedAt = System.nanoTime();
+        private final BulkImportResult result = BulkImportResult.builder().build();
+        private final List<PendingRow> pending = new ArrayList<>();
+        private long row;
+
+        void accept(RowReader reader) {
+            row++;
+            PropertyRequest request;
+            try {
+                request = reader.read();
+            } catch (JsonProcessingException e) {
+                fail(row, "Invalid value: " + e.getOriginalMessage());
+                return;
+            } catch (IllegalArgumentException e) {
+                fail(row, e.getCause() instanceof JsonProcessingException cause
+                        ? "Invalid value: " + cause.getOriginalMessage()
+                        : e.getMessage());
+                return;
+            }
+
+            String violations = validator.validate(request).stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            if (!violations.isEmpty()) {
+                fail(row, violations);
+                return;
+            }
+
+            pending.add(new PendingRow(row, request));
+            if (pending.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void fail(long failedRow, String message) {
+            result.setFailed(result.getFailed() + 1);
+            if (result.getErrors().size() < maxReportedErrors) {
+                result.getErrors().add(new BulkImportResult.RowError(failedRow, message));
+            }
+        }
+
+        BulkImportResult finish() {
+            flush();
+            long elapsedNanos = System.nanoTime() - startedAt;
+            result.setReceived(row);
+            result.setDurationMs(elapsedNanos / 1_000_000);
+            result.setRowsPerSecond(elapsedNanos == 0 ? 0 : result.getImported() * 1e9 / elapsedNanos);
+            log.info("Bulk import: {} rows received, {} imported, {} failed in {} ms ({} rows/s)",
+                    result.getReceived(), result.getImported(), result.getFailed(), result.getDurationMs(),
+                    Math.round(result.getRowsPerSecond()));
+            return result;
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<PendingRow> chunk = List.copyOf(pending);
+            pending.clear();
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    List<Property> entities = chunk.stream()
+                            .map(r -> PropertyService.toEntity(r.request()))
+                            .toList();
+                    List<Long> ids = propertyRepository.saveAllAndFlush(entities).stream()
+                            .map(Property::getId)
+                            .toList();
+                    searchIndexer.refresh(ids);
+                });
+                result.setImported(result.getImported() + chunk.size());
+                return;
+            } catch (DataAccessException e) {
+                log.warn("Bulk chunk of {} rows failed, retrying row by row: {}", chunk.size(),
+                        e.getMostSpecificCause().getMessage());
+            }
+
+            for (PendingRow pendingRow : chunk) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        Property entity = PropertyService.toEntity(pendingRow.request());
+                        searchIndexer.refresh(propertyRepository.saveAndFlush(entity).getId());
+                    });
+                    result.setImported(result.getImported() + 1);
+                } catch (DataAccessException e) {
+                    fail(pendingRow.row(), e.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+}
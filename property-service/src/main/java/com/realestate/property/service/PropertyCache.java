@@ -0,0 +1,85 @@
+package com.realestate.property.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.realestate.property.dto.PropertyResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of property detail responses, keyed by id.
+ * <p>
+ * Writes evict the entry locally right away and again after commit, then broadcast the id on a fanout
+ * exchange so every other replica drops it too. Hit ratio and load time are published as
+ * {@code cache.*} metrics tagged {@code cache=property.detail}.
+ */
+@Component
+@Slf4j
+public class PropertyCache {
+
+    private final Cache<Long, PropertyResponse> cache;
+    private final RabbitTemplate rabbitTemplate;
+    private final FanoutExchange invalidationExchange;
+
+    public PropertyCache(RabbitTemplate rabbitTemplate, FanoutExchange propertyCacheInvalidationExchange,
+            MeterRegistry meterRegistry,
+            @Value("${property.cache.max-size:10000}") long maxSize,
+            @Value("${property.cache.ttl:10m}") Duration ttl) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.invalidationExchange = propertyCacheInvalidationExchange;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "property.detail");
+    }
+
+    public PropertyResponse get(Long id, Function<Long, PropertyResponse> loader) {
+        return cache.get(id, loader);
+    }
+
+    /**
+     * Evict the property here and on all replicas once the current transaction commits
+     */
+    public void invalidate(Long id) {
+        cache.invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(id);
+                    broadcast(id);
+                }
+            });
+        } else {
+            broadcast(id);
+        }
+    }
+
+    /**
+     * Evict without broadcasting; used for invalidations received from other replicas
+     */
+    public void evictLocal(Long id) {
+        cache.invalidate(id);
+    }
+
+    private void broadcast(Long id) {
+        try {
+            rabbitTemplate.convertAndSend(invalidationExchange.getName(), "", id);
+        } catch (Exception e) {
+            // Other replicas fall back to the TTL for this entry
+            log.warn("Failed to broadcast cache invalidation for property {}: {}", id, e.getMessage());
+        }
+    }
+}
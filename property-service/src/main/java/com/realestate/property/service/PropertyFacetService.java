@@ -0,0 +1,129 @@
+package com.realestate.property.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.realestate.property.dto.PropertyFacets;
+import com.realestate.property.entity.PropertyStatus;
+import com.realestate.property.repository.PropertyFacetRepository;
+import com.realestate.property.repository.PropertyFacetRepository.Facet;
+import com.realestate.property.repository.PropertyFacetRepository.FacetCount;
+import com.realestate.property.repository.PropertyFacetRepository.FacetFilter;
+import com.realestate.property.repository.PropertyRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Facet counts next to search results. Each filter combination is computed in one query and kept in a
+ * short-lived cache, so popular combinations cost nothing until the TTL expires.
+ */
+@Service
+public class PropertyFacetService {
+
+    private final PropertyRepository propertyRepository;
+    private final List<BigDecimal> priceBands;
+    private final int maxCities;
+    private final Cache<FacetFilter, PropertyFacets> cache;
+
+    public PropertyFacetService(PropertyRepository propertyRepository, MeterRegistry meterRegistry,
+            @Value("${property.facets.price-bands:500,1000,2000,5000}") List<BigDecimal> priceBands,
+            @Value("${property.facets.max-cities:20}") int maxCities,
+            @Value("${property.facets.cache.max-size:1000}") long cacheMaxSize,
+            @Value("${property.facets.cache.ttl:30s}") Duration cacheTtl) {
+        this.propertyRepository = propertyRepository;
+        this.priceBands = priceBands.stream().sorted().toList();
+        this.maxCities = maxCities;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterWrite(cacheTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "property.facets");
+    }
+
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public PropertyFacets getFacets(String q, String city, String country, BigDecimal minPrice,
+            BigDecimal maxPrice, Integer bedrooms, PropertyStatus status, LocalDate availableFrom,
+            LocalDate availableTo) {
+        if (availableFrom != null || availableTo != null) {
+            AvailabilityService.validateRange(availableFrom, availableTo);
+        }
+        FacetFilter filter = new FacetFilter(normalize(q), normalize(city), normalize(country), minPrice, maxPrice,
+                bedrooms, status, availableFrom, availableTo);
+        return cache.get(filter, this::compute);
+    }
+
+    private PropertyFacets compute(FacetFilter filter) {
+        Map<Facet, List<FacetCount>> byFacet = propertyRepository.countFacets(filter, priceBands).stream()
+                .collect(Collectors.groupingBy(FacetCount::facet));
+
+        return PropertyFacets.builder()
+                .propertyTypes(toMap(byFacet.get(Facet.PROPERTY_TYPE), Comparator.comparing(FacetCount::value)))
+                .statuses(toMap(byFacet.get(Facet.STATUS), Comparator.comparing(FacetCount::value)))
+                .bedrooms(relabel(byFacet.get(Facet.BEDROOMS), this::bedroomLabel))
+                .priceBands(relabel(byFacet.get(Facet.PRICE_BAND), this::priceBandLabel))
+                .cities(byFacet.getOrDefault(Facet.CITY, List.of()).stream()
+                        .sorted(Comparator.comparingLong(FacetCount::count).reversed())
+                        .limit(maxCities)
+                        .collect(Collectors.toMap(FacetCount::value, FacetCount::count,
+                                (a, b) -> a, LinkedHashMap::new)))
+                .build();
+    }
+
+    private static Map<String, Long> toMap(List<FacetCount> counts, Comparator<FacetCount> order) {
+        if (counts == null) {
+            return Map.of();
+        }
+        return counts.stream()
+                .sorted(order)
+                .collect(Collectors.toMap(FacetCount::value, FacetCount::count, (a, b) -> a, LinkedHashMap::new));
+    }
+
+    /**
+     * Order numeric buckets by index and replace the index with a readable label
+     */
+    private static Map<String, Long> relabel(List<FacetCount> counts, IntFunction<String> label) {
+        if (counts == null) {
+            return Map.of();
+        }
+        return counts.stream()
+                .sorted(Comparator.comparingInt(count -> Integer.parseInt(count.value())))
+                .collect(Collectors.toMap(count -> label.apply(Integer.parseInt(count.value())), FacetCount::count,
+                        (a, b) -> a, LinkedHashMap::new));
+    }
+
+    private String bedroomLabel(int bucket) {
+        return bucket >= PropertyFacetRepository.MAX_BEDROOM_BUCKET ? bucket + "+" : String.valueOf(bucket);
+    }
+
+    private String priceBandLabel(int band) {
+        if (priceBands.isEmpty()) {
+            return "all";
+        }
+        if (band == 0) {
+            return "<" + priceBands.get(0).toPlainString();
+        }
+        if (band >= priceBands.size()) {
+            return priceBands.get(priceBands.size() - 1).toPlainString() + "+";
+        }
+        return priceBands.get(band - 1).toPlainString() + "-" + priceBands.get(band).toPlainString();
+    }
+
+    private static String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,235 @@
+package com.realestate.property.service;
+
+import com.realestate.common.exception.BadRequestException;
+import com.realestate.common.exception.ResourceNotFoundException;
+import com.realestate.property.dto.PropertyImageResponse;
+import com.realestate.property.entity.PropertyImage;
+import com.realestate.property.repository.PropertyImageRepository;
+import com.realestate.property.repository.PropertyRepository;
+import com.realestate.property.storage.BlobStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Image uploads backed by a content-addressed {@link BlobStore}.
+ * <p>
+ * The upload is streamed once into a staging file from the store while its SHA-256 is computed and its
+ * format is sniffed from the first bytes, then moved under that hash unless identical bytes are already
+ * there. Only the row insert runs in a transaction, so no database
+ * connection is held while bytes are copied. Thumbnails are generated in the background.
+ */
+@Service
+@Slf4j
+public class PropertyImageService {
+
+    private static final String IMAGE_PATH = "/api/properties/images/";
+    private static final Pattern CONTENT_HASH = Pattern.compile("[0-9a-f]{64}");
+
+    private final PropertyRepository propertyRepository;
+    private final PropertyImageRepository propertyImageRepository;
+    private final BlobStore blobStore;
+    private final ThumbnailService thumbnailService;
+    private final PropertyCache propertyCache;
+    private final PropertySearchIndexer searchIndexer;
+    private final TransactionTemplate transactionTemplate;
+
+    public PropertyImageService(PropertyRepository propertyRepository,
+            PropertyImageRepository propertyImageRepository, BlobStore blobStore,
+            ThumbnailService thumbnailService, PropertyCache propertyCache, PropertySearchIndexer searchIndexer,
+            PlatformTransactionManager transactionManager) {
+        this.propertyRepository = propertyRepository;
+        this.propertyImageRepository = propertyImageRepository;
+        this.blobStore = blobStore;
+        this.thumbnailService = thumbnailService;
+        this.propertyCache = propertyCache;
+        this.searchIndexer = searchIndexer;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public PropertyImageResponse upload(Long propertyId, MultipartFile file, boolean primary) {
+        if (file == null || file.isEmpty()) {
+            throw new BadRequestException("Image file is required");
+        }
+        if (!propertyRepository.existsById(propertyId)) {
+            throw new ResourceNotFoundException("Property", "id", propertyId);
+        }
+
+        Path staged = null;
+        try {
+            MessageDigest digest = sha256();
+            String contentType;
+            long size;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                byte[] header = in.readNBytes(12);
+                contentType = detectContentType(header);
+                staged = blobStore.stagingFile();
+                try (OutputStream out = Files.newOutputStream(staged)) {
+                    out.write(header);
+                    size = header.length + in.transferTo(out);
+                }
+            }
+            String contentHash = HexFormat.of().formatHex(digest.digest());
+            String key = originalKey(contentHash);
+
+            boolean duplicate = blobStore.exists(key);
+            if (!duplicate) {
+                blobStore.putFile(key, staged, contentType);
+            }
+
+            PropertyImage image = transactionTemplate.execute(status -> {
+                if (primary) {
+                    propertyImageRepository.clearPrimary(propertyId);
+                }
+                PropertyImage saved = propertyImageRepository.save(PropertyImage.builder()
+                        .property(propertyRepository.getReferenceById(propertyId))
+                        .imageUrl(IMAGE_PATH + contentHash)
+                        .isPrimary(primary)
+                        .contentHash(contentHash)
+                        .contentType(contentType)
+                        .sizeBytes(size)
+                        .build());
+                searchIndexer.refresh(propertyId);
+                propertyCache.invalidate(propertyId);
+                return saved;
+            });
+
+            if (thumbnailService.canGenerate(contentHash, contentType)
+                    && !blobStore.exists(thumbnailService.thumbnailKey(contentHash))) {
+                thumbnailService.submit(contentHash, key);
+            }
+            log.info("Stored image {} ({} bytes, duplicate={}) for property {}", contentHash, size, duplicate,
+                    propertyId);
+            return toResponse(image, duplicate);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store image for property " + propertyId, e);
+        } finally {
+            deleteQuietly(staged);
+        }
+    }
+
+    public StoredImage getOriginal(String contentHash) {
+        return original(findByHash(contentHash), true);
+    }
+
+    /**
+     * The thumbnail when it is ready; otherwise the original, marked as not final, while one is generated.
+     * Images that cannot be thumbnailed get the original as the final answer.
+     */
+    public StoredImage getThumbnail(String contentHash) {
+        PropertyImage image = findByHash(contentHash);
+        if (!thumbnailService.canGenerate(contentHash, image.getContentType())) {
+            return original(image, true);
+        }
+        Optional<Resource> thumbnail = open(thumbnailService.thumbnailKey(contentHash));
+        if (thumbnail.isPresent()) {
+            return new StoredImage(thumbnail.get(), ThumbnailService.CONTENT_TYPE,
+                    thumbnailService.etag(contentHash), true);
+        }
+        thumbnailService.submit(contentHash, originalKey(contentHash));
+        return original(image, false);
+    }
+
+    private StoredImage original(PropertyImage image, boolean cacheable) {
+        String contentHash = image.getContentHash();
+        Resource resource = open(originalKey(contentHash))
+                .orElseThrow(() -> new ResourceNotFoundException("Image", "hash", contentHash));
+        return new StoredImage(resource, image.getContentType(), contentHash, cacheable);
+    }
+
+    private PropertyImage findByHash(String contentHash) {
+        if (contentHash == null || !CONTENT_HASH.matcher(contentHash).matches()) {
+            throw new ResourceNotFoundException("Image", "hash", contentHash);
+        }
+        return propertyImageRepository.findFirstByContentHash(contentHash)
+                .orElseThrow(() -> new ResourceNotFoundException("Image", "hash", contentHash));
+    }
+
+    private Optional<Resource> open(String key) {
+        try {
+            return blobStore.get(key);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read blob " + key, e);
+        }
+    }
+
+    private static String originalKey(String contentHash) {
+        return "originals/" + contentHash.substring(0, 2) + "/" + contentHash;
+    }
+
+    /**
+     * Trust the bytes rather than the client's Content-Type
+     */
+    private static String detectContentType(byte[] header) {
+        int read = header.length;
+        if (read >= 3 && (header[0] & 0xFF) == 0xFF && (header[1] & 0xFF) == 0xD8 && (header[2] & 0xFF) == 0xFF) {
+            return "image/jpeg";
+        }
+        if (read >= 8 && (header[0] & 0xFF) == 0x89 && header[1] == 'P' && header[2] == 'N' && header[3] == 'G') {
+            return "image/png";
+        }
+        if (read >= 6 && header[0] == 'G' && header[1] == 'I' && header[2] == 'F' && header[3] == '8') {
+            return "image/gif";
+        }
+        if (read >= 12 && header[0] == 'R' && header[1] == 'I' && header[2] == 'F' && header[3] == 'F'
+                && header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P') {
+            return "image/webp";
+        }
+        throw new BadRequestException("Unsupported image format; use JPEG, PNG, GIF or WebP");
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.debug("Could not delete staged upload {}: {}", path, e.getMessage());
+        }
+    }
+
+    private static PropertyImageResponse toResponse(PropertyImage image, boolean duplicate) {
+        return PropertyImageResponse.builder()
+                .id(image.getId())
+                .propertyId(image.getProperty().getId())
+                .url(image.getImageUrl())
+                .thumbnailUrl(image.getImageUrl() + "/thumbnail")
+                .contentHash(image.getContentHash())
+                .contentType(image.getContentType())
+                .sizeBytes(image.getSizeBytes())
+                .primary(image.getIsPrimary())
+                .duplicate(duplicate)
+                .build();
+    }
+
+    /**
+     * A readable image plus what is needed to serve it; {@code cacheable} is false for stand-ins
+     */
+    public record StoredImage(Resource resource, String contentType, String etag, boolean cacheable) {
+    }
+}
@@ -0,0 +1,91 @@
+package com.realestate.property.service;
+
+import com.realestate.property.repository.PropertySearchDocumentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps {@code property_search_documents} in step with {@code properties}.
+ * <p>
+ * Writers call {@link #refresh} inside their own transaction, so a document never disagrees with a
+ * committed property. Deletes cascade through the foreign key. {@link #rebuild} re-derives every
+ * document in id-ordered batches, one transaction each, for backfills and after manual data fixes.
+ */
+@Service
+@Slf4j
+public class PropertySearchIndexer {
+
+    private final PropertySearchDocumentRepository documentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    @Value("${property.search-documents.rebuild-batch-size:1000}")
+    private int rebuildBatchSize;
+
+    public PropertySearchIndexer(PropertySearchDocumentRepository documentRepository,
+            PlatformTransactionManager transactionManager) {
+        this.documentRepository = documentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refresh(Long propertyId) {
+        documentRepository.upsertFromProperties(List.of(propertyId));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refresh(Collection<Long> propertyIds) {
+        if (!propertyIds.isEmpty()) {
+            documentRepository.upsertFromProperties(propertyIds);
+        }
+    }
+
+    /**
+     * Disabled unless {@code property.search-documents.rebuild-cron} is set
+     */
+    @Scheduled(cron = "${property.search-documents.rebuild-cron:-}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * @return number of documents written, or -1 if a rebuild was already running
+     */
+    public long rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            log.info("Search document rebuild already running");
+            return -1;
+        }
+        try {
+            long started = System.currentTimeMillis();
+            long written = 0;
+            long afterId = 0;
+            List<Long> ids;
+            do {
+                ids = documentRepository.findPropertyIdsAfter(afterId, rebuildBatchSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                List<Long> batch = ids;
+                Integer upserted = transactionTemplate.execute(status -> documentRepository.upsertFromProperties(batch));
+                written += upserted == null ? 0 : upserted;
+                afterId = ids.get(ids.size() - 1);
+            } while (ids.size() == rebuildBatchSize);
+
+            log.info("Rebuilt {} search documents in {} ms", written, System.currentTimeMillis() - started);
+            return written;
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+}
@@ -1,18 +1,34 @@
 package com.realestate.property.service;
 
+import com.realestate.common.dto.CursorPage;
+import com.realestate.common.exception.BadRequestException;
 import com.realestate.common.exception.ResourceNotFoundException;
+import com.realestate.common.util.CursorCodec;
 import com.realestate.property.dto.PropertyRequest;
 import com.realestate.property.dto.PropertyResponse;
 import com.realestate.property.entity.Property;
+import com.realestate.property.entity.PropertySearchDocument;
 import com.realestate.property.entity.PropertyStatus;
+import com.realestate.property.repository.PropertyGeoRepository.GeoFilter;
+import com.realestate.property.repository.PropertyGeoRepository.GeoMatch;
+import com.realestate.property.repository.PropertyImageRepository;
 import com.realestate.property.repository.PropertyRepository;
+import com.realestate.property.repository.PropertySearchDocumentRepository;
+import com.realestate.property.repository.PropertySearchDocumentSpecifications;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -21,50 +37,112 @@ import java.util.stream.Collectors;
 @Transactional
 public class PropertyService {
 
+    private static final double MAX_RADIUS_KM = 100;
+    private static final int MAX_GEO_RESULTS = 500;
+
+    private static final Sort SCROLL_SORT = Sort.by(
+            Sort.Order.desc(CursorCodec.CREATED_AT), Sort.Order.desc(CursorCodec.ID));
+
     private final PropertyRepository propertyRepository;
+    private final PropertyImageRepository propertyImageRepository;
+    private final PropertyCache propertyCache;
+    private final PropertySearchDocumentRepository searchDocumentRepository;
+    private final PropertySearchIndexer searchIndexer;
 
     public PropertyResponse createProperty(PropertyRequest request) {
-        Property property = Property.builder()
-                .title(request.getTitle())
-                .description(request.getDescription())
-                .address(request.getAddress())
-                .city(request.getCity())
-                .country(request.getCountry())
-                .latitude(request.getLatitude())
-                .longitude(request.getLongitude())
-                .pricePerMonth(request.getPricePerMonth())
-                .depositAmount(request.getDepositAmount())
-                .bedroomCount(request.getBedroomCount())
-                .bathroomCount(request.getBathroomCount())
-                .squareMeters(request.getSquareMeters())
-                .propertyType(request.getPropertyType())
-                .ownerId(request.getOwnerId())
-                .build();
-
-        Property saved = propertyRepository.save(property);
+        Property saved = propertyRepository.save(toEntity(request));
+        searchIndexer.refresh(saved.getId());
         return toResponse(saved);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Served from {@link PropertyCache}; no transaction is opened on a hit
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public PropertyResponse getPropertyById(Long id) {
+        return propertyCache.get(id, this::loadProperty);
+    }
+
+    private PropertyResponse loadProperty(Long id) {
         Property property = propertyRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Property", "id", id));
-        return toResponse(property);
+        return toResponse(property, loadImageUrls(List.of(property)).getOrDefault(id, List.of()));
+    }
+
+    /**
+     * Searches read only {@code property_search_documents}; results carry the primary image only
+     */
+    @Transactional(readOnly = true)
+    public List<PropertyResponse> searchProperties(String q, String city, String country,
+            BigDecimal minPrice, BigDecimal maxPrice, Integer bedrooms, PropertyStatus status,
+            LocalDate availableFrom, LocalDate availableTo) {
+        validateAvailability(availableFrom, availableTo);
+        return searchDocumentRepository.findAll(PropertySearchDocumentSpecifications.search(
+                        q, city, country, minPrice, maxPrice, bedrooms, status, availableFrom, availableTo)).stream()
+                .map(PropertyService::toResponse)
+                .collect(Collectors.toList());
     }
 
     @Transactional(readOnly = true)
-    public List<PropertyResponse> searchProperties(String city, String country,
-            BigDecimal minPrice, BigDecimal maxPrice, Integer bedrooms, PropertyStatus status) {
-        return propertyRepository.searchProperties(city, country, minPrice, maxPrice, bedrooms, status)
-                .stream().map(this::toResponse).collect(Collectors.toList());
+    public org.springframework.data.domain.Page<PropertyResponse> searchProperties(String q, String city,
+            String country, BigDecimal minPrice, BigDecimal maxPrice, Integer bedrooms, PropertyStatus status,
+            LocalDate availableFrom, LocalDate availableTo, org.springframework.data.domain.Pageable pageable) {
+        validateAvailability(availableFrom, availableTo);
+        return searchDocumentRepository.findAll(PropertySearchDocumentSpecifications.search(
+                        q, city, country, minPrice, maxPrice, bedrooms, status, availableFrom, availableTo), pageable)
+                .map(PropertyService::toResponse);
     }
 
+    /**
+     * Keyset-paginated search, newest first. Skips the count query and stays fast on deep pages.
+     */
     @Transactional(readOnly = true)
-    public org.springframework.data.domain.Page<PropertyResponse> searchProperties(String city, String country,
+    public CursorPage<PropertyResponse> scrollProperties(String q, String city, String country,
             BigDecimal minPrice, BigDecimal maxPrice, Integer bedrooms, PropertyStatus status,
-            org.springframework.data.domain.Pageable pageable) {
-        return propertyRepository.searchProperties(city, country, minPrice, maxPrice, bedrooms, status, pageable)
-                .map(this::toResponse);
+            LocalDate availableFrom, LocalDate availableTo, String cursor, int size) {
+        validateAvailability(availableFrom, availableTo);
+        ScrollPosition position = (cursor == null || cursor.isBlank())
+                ? ScrollPosition.keyset()
+                : ScrollPosition.forward(CursorCodec.decode(cursor));
+        Window<PropertySearchDocument> window = searchDocumentRepository.findBy(
+                PropertySearchDocumentSpecifications.search(q, city, country, minPrice, maxPrice, bedrooms, status,
+                        availableFrom, availableTo),
+                query -> query.sortBy(SCROLL_SORT).limit(size).scroll(position));
+
+        List<PropertySearchDocument> rows = window.getContent();
+        PropertySearchDocument last = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+        return CursorPage.<PropertyResponse>builder()
+                .content(rows.stream().map(PropertyService::toResponse).collect(Collectors.toList()))
+                .size(rows.size())
+                .hasNext(window.hasNext())
+                .nextCursor(window.hasNext() && last != null
+                        ? CursorCodec.encode(last.getCreatedAt(), last.getId())
+                        : null)
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public List<PropertyResponse> findNearby(double latitude, double longitude, double radiusKm,
+            BigDecimal minPrice, BigDecimal maxPrice, Integer bedrooms, PropertyStatus status, int limit) {
+        validateCoordinates(latitude, longitude);
+        if (radiusKm <= 0 || radiusKm > MAX_RADIUS_KM) {
+            throw new BadRequestException("radiusKm must be between 0 and " + MAX_RADIUS_KM);
+        }
+        return toGeoResponses(propertyRepository.findWithinRadius(latitude, longitude, radiusKm * 1000,
+                new GeoFilter(minPrice, maxPrice, bedrooms, status), clampLimit(limit)));
+    }
+
+    @Transactional(readOnly = true)
+    public List<PropertyResponse> findInBox(double minLatitude, double minLongitude, double maxLatitude,
+            double maxLongitude, BigDecimal minPrice, BigDecimal maxPrice, Integer bedrooms,
+            PropertyStatus status, int limit) {
+        validateCoordinates(minLatitude, minLongitude);
+        validateCoordinates(maxLatitude, maxLongitude);
+        if (minLatitude > maxLatitude) {
+            throw new BadRequestException("minLat must not exceed maxLat");
+        }
+        return toGeoResponses(propertyRepository.findWithinBox(minLatitude, minLongitude, maxLatitude,
+                maxLongitude, new GeoFilter(minPrice, maxPrice, bedrooms, status), clampLimit(limit)));
     }
 
     public PropertyResponse updateProperty(Long id, PropertyRequest request) {
@@ -82,7 +160,10 @@ public class PropertyService {
         property.setBathroomCount(request.getBathroomCount());
         property.setSquareMeters(request.getSquareMeters());
 
-        return toResponse(propertyRepository.save(property));
+        Property saved = propertyRepository.save(property);
+        searchIndexer.refresh(id);
+        propertyCache.invalidate(id);
+        return toResponse(saved);
     }
 
     public void deleteProperty(Long id) {
@@ -90,16 +171,131 @@ public class PropertyService {
             throw new ResourceNotFoundException("Property", "id", id);
         }
         propertyRepository.deleteById(id);
+        propertyCache.invalidate(id);
     }
 
     public PropertyResponse updateStatus(Long id, PropertyStatus status) {
         Property property = propertyRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Property", "id", id));
         property.setStatus(status);
-        return toResponse(propertyRepository.save(property));
+        Property saved = propertyRepository.save(property);
+        searchIndexer.refresh(id);
+        propertyCache.invalidate(id);
+        return toResponse(saved);
+    }
+
+    /**
+     * Load the matched properties in one query and keep the distance order from the spatial query
+     */
+    private List<PropertyResponse> toGeoResponses(List<GeoMatch> matches) {
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Property> byId = propertyRepository.findAllById(
+                        matches.stream().map(GeoMatch::propertyId).collect(Collectors.toList()))
+                .stream().collect(Collectors.toMap(Property::getId, Function.identity()));
+        Map<Long, List<String>> imageUrls = loadImageUrls(List.copyOf(byId.values()));
+
+        return matches.stream()
+                .filter(match -> byId.containsKey(match.propertyId()))
+                .map(match -> {
+                    Property property = byId.get(match.propertyId());
+                    PropertyResponse response = toResponse(property,
+                            imageUrls.getOrDefault(property.getId(), List.of()));
+                    response.setDistanceKm(match.distanceMeters() / 1000);
+                    return response;
+                })
+                .collect(Collectors.toList());
+    }
+
+    private static void validateCoordinates(double latitude, double longitude) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new BadRequestException("Latitude must be within [-90, 90] and longitude within [-180, 180]");
+        }
+    }
+
+    private static void validateAvailability(LocalDate availableFrom, LocalDate availableTo) {
+        if (availableFrom != null || availableTo != null) {
+            AvailabilityService.validateRange(availableFrom, availableTo);
+        }
+    }
+
+    private static int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_GEO_RESULTS));
+    }
+
+    static Property toEntity(PropertyRequest request) {
+        return Property.builder()
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .address(request.getAddress())
+                .city(request.getCity())
+                .country(request.getCountry())
+                .latitude(request.getLatitude())
+                .longitude(request.getLongitude())
+                .pricePerMonth(request.getPricePerMonth())
+                .depositAmount(request.getDepositAmount())
+                .bedroomCount(request.getBedroomCount())
+                .bathroomCount(request.getBathroomCount())
+                .squareMeters(request.getSquareMeters())
+                .propertyType(request.getPropertyType())
+                .ownerId(request.getOwnerId())
+                .build();
+    }
+
+    /**
+     * Map a chunk of properties, loading their image URLs in one query
+     */
+    List<PropertyResponse> toResponses(List<Property> properties) {
+        Map<Long, List<String>> imageUrls = loadImageUrls(properties);
+        return properties.stream()
+                .map(property -> toResponse(property, imageUrls.getOrDefault(property.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Batch-load image URLs for a result list, grouped by property id
+     */
+    private Map<Long, List<String>> loadImageUrls(List<Property> properties) {
+        if (properties.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = properties.stream().map(Property::getId).collect(Collectors.toList());
+        return propertyImageRepository.findImageUrlsByPropertyIds(ids).stream()
+                .collect(Collectors.groupingBy(PropertyImageRepository.ImageUrlView::getPropertyId,
+                        Collectors.mapping(PropertyImageRepository.ImageUrlView::getImageUrl, Collectors.toList())));
     }
 
     private PropertyResponse toResponse(Property property) {
+        return toResponse(property,
+                property.getImages().stream().map(img -> img.getImageUrl()).collect(Collectors.toList()));
+    }
+
+    private static PropertyResponse toResponse(PropertySearchDocument document) {
+        return PropertyResponse.builder()
+                .id(document.getId())
+                .title(document.getTitle())
+                .description(document.getDescription())
+                .address(document.getAddress())
+                .city(document.getCity())
+                .country(document.getCountry())
+                .latitude(document.getLatitude())
+                .longitude(document.getLongitude())
+                .pricePerMonth(document.getPricePerMonth())
+                .depositAmount(document.getDepositAmount())
+                .bedroomCount(document.getBedroomCount())
+                .bathroomCount(document.getBathroomCount())
+                .squareMeters(document.getSquareMeters())
+                .propertyType(document.getPropertyType())
+                .status(document.getStatus())
+                .ownerId(document.getOwnerId())
+                .imageUrls(document.getPrimaryImageUrl() == null ? List.of() : List.of(document.getPrimaryImageUrl()))
+                .createdAt(document.getCreatedAt())
+                .updatedAt(document.getUpdatedAt())
+                .build();
+    }
+
+    private PropertyResponse toResponse(Property property, List<String> imageUrls) {
         return PropertyResponse.builder()
                 .id(property.getId())
                 .title(property.getTitle())
@@ -117,7 +313,7 @@ public class PropertyService {
                 .propertyType(property.getPropertyType())
                 .status(property.getStatus())
                 .ownerId(property.getOwnerId())
-                .imageUrls(property.getImages().stream().map(img -> img.getImageUrl()).collect(Collectors.toList()))
+                .imageUrls(imageUrls)
                 .createdAt(property.getCreatedAt())
                 .updatedAt(property.getUpdatedAt())
                 .build();
@@ -0,0 +1,144 @@
+package com.realestate.property.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.realestate.property.storage.BlobStore;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOException;
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Generates JPEG thumbnails for stored images on the bounded {@code thumbnailExecutor}.
+ * Thumbnails are keyed by the original's content hash, so each distinct image is resized once.
+ * Formats ImageIO cannot decode (WebP without a plugin, corrupt files) get no thumbnail; callers check
+ * {@link #canGenerate} and serve the original instead of resubmitting on every request.
+ */
+@Service
+@Slf4j
+public class ThumbnailService {
+
+    public static final String CONTENT_TYPE = "image/jpeg";
+
+    private final BlobStore blobStore;
+    private final ThreadPoolTaskExecutor thumbnailExecutor;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private final Cache<String, Boolean> undecodable = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
+
+    @Value("${property.images.thumbnail-width:320}")
+    private int thumbnailWidth;
+
+    public ThumbnailService(BlobStore blobStore, ThreadPoolTaskExecutor thumbnailExecutor) {
+        this.blobStore = blobStore;
+        this.thumbnailExecutor = thumbnailExecutor;
+    }
+
+    public String thumbnailKey(String contentHash) {
+        return "thumbnails/" + thumbnailWidth + "/" + contentHash.substring(0, 2) + "/" + contentHash + ".jpg";
+    }
+
+    public String etag(String contentHash) {
+        return contentHash + "-w" + thumbnailWidth;
+    }
+
+    /**
+     * False when ImageIO has no reader for the type or an earlier attempt could not decode these bytes
+     */
+    public boolean canGenerate(String contentHash, String contentType) {
+        return ImageIO.getImageReadersByMIMEType(contentType).hasNext()
+                && undecodable.getIfPresent(contentHash) == null;
+    }
+
+    /**
+     * Queue generation unless it is already queued; a full queue drops the request
+     */
+    public void submit(String contentHash, String originalKey) {
+        if (!inFlight.add(contentHash)) {
+            return;
+        }
+        try {
+            thumbnailExecutor.execute(() -> {
+                try {
+                    generate(contentHash, originalKey);
+                } finally {
+                    inFlight.remove(contentHash);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            inFlight.remove(contentHash);
+            log.warn("Thumbnail queue full, skipping {} until it is requested", contentHash);
+        }
+    }
+
+    private void generate(String contentHash, String originalKey) {
+        String key = thumbnailKey(contentHash);
+        Path temp = null;
+        try {
+            Optional<Resource> original = blobStore.get(originalKey);
+            if (blobStore.exists(key) || original.isEmpty()) {
+                return;
+            }
+            BufferedImage source;
+            try (InputStream in = original.get().getInputStream()) {
+                source = ImageIO.read(in);
+            } catch (IIOException e) {
+                source = null;
+            }
+            if (source == null) {
+                undecodable.put(contentHash, Boolean.TRUE);
+                log.info("No thumbnail for {}: format not readable", contentHash);
+                return;
+            }
+
+            temp = blobStore.stagingFile();
+            ImageIO.write(scale(source, thumbnailWidth), "jpg", temp.toFile());
+            blobStore.putFile(key, temp, CONTENT_TYPE);
+            log.debug("Generated thumbnail for {}", contentHash);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Thumbnail generation failed for {}: {}", contentHash, e.getMessage());
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                    // Temp directory is cleaned by the OS
+                }
+            }
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage source, int maxWidth) {
+        int width = Math.min(maxWidth, source.getWidth());
+        int height = Math.max(1, (int) Math.round(source.getHeight() * (width / (double) source.getWidth())));
+        // JPEG has no alpha channel, so transparent areas are painted white
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,50 @@
+package com.realestate.property.storage;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Object storage for image bytes, shaped after the S3 object API (put, head, get, delete by key) so an
+ * S3-compatible backend such as MinIO can be dropped in behind {@code property.storage.type}.
+ * Callers choose the keys; content type and size are kept in the database, not in the store.
+ */
+public interface BlobStore {
+
+    /**
+     * Store the stream under {@code key}, replacing any existing object. The stream is consumed but not closed.
+     */
+    void put(String key, InputStream content, long contentLength, String contentType) throws IOException;
+
+    /**
+     * A new empty file to write content into before {@link #putFile}. Backends that keep objects on local
+     * disk create it where it can be moved into place without another copy.
+     */
+    default Path stagingFile() throws IOException {
+        return Files.createTempFile("blob-", ".staged");
+    }
+
+    /**
+     * Store a staged file under {@code key}. The file may be moved away; callers delete it afterwards
+     * only if it is still there.
+     */
+    default void putFile(String key, Path file, String contentType) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            put(key, in, Files.size(file), contentType);
+        }
+    }
+
+    boolean exists(String key) throws IOException;
+
+    /**
+     * Open an object for reading. Backends should return a resource that supports cheap positioned reads,
+     * since byte-range requests are served from it.
+     */
+    Optional<Resource> get(String key) throws IOException;
+
+    void delete(String key) throws IOException;
+}
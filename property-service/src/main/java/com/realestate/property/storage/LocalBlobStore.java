@@ -0,0 +1,91 @@
+package com.realestate.property.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * Default {@link BlobStore}: one file per key under {@code file.upload.dir}. Writes land in a temp file
+ * in the target directory and are moved into place, so readers never see a partial object. Staging files
+ * live under the same root, so {@link #putFile} is a rename rather than a copy.
+ */
+@Component
+@ConditionalOnProperty(name = "property.storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalBlobStore implements BlobStore {
+
+    private static final String STAGING_DIR = ".staging";
+
+    private final Path root;
+    private final Path staging;
+
+    public LocalBlobStore(@Value("${file.upload.dir:./uploads/properties}") String rootDir) throws IOException {
+        this.root = Paths.get(rootDir).toAbsolutePath().normalize();
+        this.staging = root.resolve(STAGING_DIR);
+        Files.createDirectories(staging);
+    }
+
+    @Override
+    public void put(String key, InputStream content, long contentLength, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".upload-", ".tmp");
+        try {
+            Files.copy(content, temp, StandardCopyOption.REPLACE_EXISTING);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    @Override
+    public Path stagingFile() throws IOException {
+        return Files.createTempFile(staging, "blob-", ".staged");
+    }
+
+    @Override
+    public void putFile(String key, Path file, String contentType) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(file, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            // Staged on another file system; fall back to copy-then-rename
+            BlobStore.super.putFile(key, file, contentType);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public Optional<Resource> get(String key) {
+        Path path = resolve(key);
+        return Files.isRegularFile(path) ? Optional.of(new FileSystemResource(path)) : Optional.empty();
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Files.deleteIfExists(resolve(key));
+    }
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root) || path.startsWith(staging)) {
+            throw new IllegalArgumentException("Invalid blob key: " + key);
+        }
+        return path;
+    }
+}
@@ -0,0 +1,8 @@
+-- Trigram indexes let case-insensitive substring search on city/country use an index
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_properties_city_trgm ON properties USING GIN (LOWER(city) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_properties_country_trgm ON properties USING GIN (LOWER(country) gin_trgm_ops);
+
+-- Most searches filter on status and a price range
+CREATE INDEX IF NOT EXISTS idx_properties_status_price ON properties(status, price_per_month);
@@ -0,0 +1,2 @@
+-- Supports newest-first keyset scrolling: ORDER BY created_at DESC, id DESC
+CREATE INDEX IF NOT EXISTS idx_properties_created_at_id ON properties(created_at DESC, id DESC);
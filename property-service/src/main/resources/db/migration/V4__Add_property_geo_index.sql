@@ -0,0 +1,11 @@
+-- Great-circle distance support; earthdistance builds on the cube extension
+CREATE EXTENSION IF NOT EXISTS cube;
+CREATE EXTENSION IF NOT EXISTS earthdistance;
+
+-- Radius search: earth_box(...) @> ll_to_earth(latitude, longitude)
+CREATE INDEX IF NOT EXISTS idx_properties_earth ON properties USING GIST (ll_to_earth(latitude, longitude))
+    WHERE latitude IS NOT NULL AND longitude IS NOT NULL;
+
+-- Bounding-box search on raw coordinates
+CREATE INDEX IF NOT EXISTS idx_properties_lat_lng ON properties(latitude, longitude)
+    WHERE latitude IS NOT NULL AND longitude IS NOT NULL;
@@ -0,0 +1,3 @@
+-- Bulk imports allocate ids in blocks of 50 so Hibernate can batch inserts;
+-- must match allocationSize on Property.id
+ALTER SEQUENCE properties_id_seq INCREMENT BY 50;
@@ -0,0 +1,7 @@
+-- Uploaded images are stored once per SHA-256 of their content; rows created before uploads keep only image_url
+ALTER TABLE property_images ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+ALTER TABLE property_images ADD COLUMN IF NOT EXISTS content_type VARCHAR(100);
+ALTER TABLE property_images ADD COLUMN IF NOT EXISTS size_bytes BIGINT;
+
+CREATE INDEX IF NOT EXISTS idx_property_images_content_hash ON property_images(content_hash)
+    WHERE content_hash IS NOT NULL;
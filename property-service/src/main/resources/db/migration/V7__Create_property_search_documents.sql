@@ -0,0 +1,50 @@
+-- One flattened row per property for the search endpoints, kept in step with writes
+CREATE TABLE IF NOT EXISTS property_search_documents (
+    property_id BIGINT PRIMARY KEY REFERENCES properties(id) ON DELETE CASCADE,
+    title VARCHAR(255) NOT NULL,
+    description TEXT,
+    address VARCHAR(500) NOT NULL,
+    city VARCHAR(100) NOT NULL,
+    country VARCHAR(100) NOT NULL,
+    latitude DOUBLE PRECISION,
+    longitude DOUBLE PRECISION,
+    price_per_month DECIMAL(10, 2) NOT NULL,
+    deposit_amount DECIMAL(10, 2) NOT NULL,
+    bedroom_count INTEGER NOT NULL,
+    bathroom_count INTEGER NOT NULL,
+    square_meters DOUBLE PRECISION NOT NULL,
+    property_type VARCHAR(50) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    owner_id BIGINT NOT NULL,
+    primary_image_url VARCHAR(500),
+    city_lower VARCHAR(100) NOT NULL,
+    country_lower VARCHAR(100) NOT NULL,
+    -- lower(title, address, city, country) for free-text matching
+    search_text TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    indexed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_search_documents_city_trgm
+    ON property_search_documents USING GIN (city_lower gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_search_documents_country_trgm
+    ON property_search_documents USING GIN (country_lower gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_search_documents_text_trgm
+    ON property_search_documents USING GIN (search_text gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_search_documents_status_price
+    ON property_search_documents(status, price_per_month);
+CREATE INDEX IF NOT EXISTS idx_search_documents_created_at_id
+    ON property_search_documents(created_at DESC, property_id DESC);
+
+-- Backfill existing listings; later changes are applied by the service
+INSERT INTO property_search_documents (property_id, title, description, address, city, country, latitude,
+    longitude, price_per_month, deposit_amount, bedroom_count, bathroom_count, square_meters, property_type,
+    status, owner_id, primary_image_url, city_lower, country_lower, search_text, created_at, updated_at)
+SELECT p.id, p.title, p.description, p.address, p.city, p.country, p.latitude, p.longitude, p.price_per_month,
+    p.deposit_amount, p.bedroom_count, p.bathroom_count, p.square_meters, p.property_type, p.status, p.owner_id,
+    (SELECT i.image_url FROM property_images i WHERE i.property_id = p.id ORDER BY i.is_primary DESC, i.id LIMIT 1),
+    LOWER(p.city), LOWER(p.country), LOWER(CONCAT_WS(' ', p.title, p.address, p.city, p.country)),
+    p.created_at, p.updated_at
+FROM properties p
+ON CONFLICT (property_id) DO NOTHING;
@@ -0,0 +1,16 @@
+-- Booked periods per property, fed by rental events. Dates are half-open: [start_date, end_date)
+CREATE TABLE IF NOT EXISTS property_occupancy (
+    rental_id BIGINT PRIMARY KEY,
+    property_id BIGINT NOT NULL,
+    start_date DATE NOT NULL,
+    end_date DATE NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    -- Rental's own updatedAt; older events for the same rental are ignored
+    source_updated_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Availability filters probe one property at a time for an overlapping booking.
+-- No exclusion constraint: rental-service owns the agreements and overlaps it accepted must still be recorded.
+CREATE INDEX IF NOT EXISTS idx_property_occupancy_property_dates
+    ON property_occupancy(property_id, start_date, end_date);
@@ -0,0 +1,35 @@
+package com.realestate.property;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Wall-clock percentiles for the opt-in benchmarks ({@code -Dbenchmark=true})
+ */
+public record LatencyStats(String name, long[] sortedNanos) {
+
+    public static LatencyStats measure(String name, int warmup, int iterations, Supplier<?> call) {
+        for (int i = 0; i < warmup; i++) {
+            call.get();
+        }
+        long[] nanos = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long started = System.nanoTime();
+            call.get();
+            nanos[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(nanos);
+        return new LatencyStats(name, nanos);
+    }
+
+    public double percentileMillis(double percentile) {
+        int index = (int) Math.ceil(percentile / 100 * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, index)] / 1e6;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-48s p50 %7.2f ms  p95 %7.2f ms  p99 %7.2f ms", name, percentileMillis(50),
+                percentileMillis(95), percentileMillis(99));
+    }
+}
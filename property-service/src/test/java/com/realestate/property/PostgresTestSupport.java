@@ -0,0 +1,121 @@
+package com.realestate.property;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Base for tests that need the production schema: Postgres in a container with the Flyway migrations
+ * applied, so pg_trgm, GROUPING SETS and the migration indexes behave as they do in production. Skipped
+ * when Docker is not available.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ContextConfiguration(classes = PostgresTestSupport.TestConfig.class)
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresTestSupport {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    /**
+     * Insert {@code count} listings with two images each, plus their search documents. Eight cities, a
+     * 300-5200 price spread, one in ten RENTED and titles starting with one of Sunny, Quiet, Modern or Cosy.
+     */
+    protected static void seedProperties(JdbcTemplate jdbc, int count) {
+        seedProperties(jdbc, count, true);
+    }
+
+    /**
+     * As {@link #seedProperties(JdbcTemplate, int)}; large seeds that only query documents can skip the images
+     */
+    protected static void seedProperties(JdbcTemplate jdbc, int count, boolean withImages) {
+        jdbc.update("""
+                INSERT INTO properties (id, title, address, city, country, latitude, longitude, price_per_month,
+                    deposit_amount, bedroom_count, bathroom_count, square_meters, property_type, status, owner_id,
+                    created_at, updated_at)
+                SELECT g,
+                    (ARRAY['Sunny', 'Quiet', 'Modern', 'Cosy'])[1 + g % 4] || ' flat ' || g,
+                    g || ' Main Street',
+                    (ARRAY['Lisbon', 'Porto', 'Madrid', 'Seville', 'Paris', 'Lyon', 'Berlin', 'Munich'])[1 + g % 8],
+                    (ARRAY['Portugal', 'Portugal', 'Spain', 'Spain', 'France', 'France', 'Germany', 'Germany'])[1 + g % 8],
+                    38 + (g % 1000) / 100.0, -9 + (g % 2000) / 100.0,
+                    300 + (g % 50) * 100, 1000, 1 + g % 5, 1 + g % 2, 40 + g % 100,
+                    (ARRAY['APARTMENT', 'HOUSE', 'STUDIO', 'VILLA'])[1 + g % 4],
+                    CASE WHEN g % 10 = 0 THEN 'RENTED' ELSE 'AVAILABLE' END,
+                    1 + g % 1000,
+                    TIMESTAMP '2025-01-01' + g * INTERVAL '1 minute',
+                    TIMESTAMP '2025-01-01' + g * INTERVAL '1 minute'
+                FROM generate_series(1, ?) AS g
+                """, count);
+        if (withImages) {
+            jdbc.update("""
+                    INSERT INTO property_images (property_id, image_url, is_primary)
+                    SELECT p.id, '/images/' || p.id || '/' || i || '.jpg', i = 1
+                    FROM properties p CROSS JOIN generate_series(1, 2) AS i
+                    """);
+        }
+        // Same statement as the V7 backfill
+        jdbc.update("""
+                INSERT INTO property_search_documents (property_id, title, description, address, city, country,
+                    latitude, longitude, price_per_month, deposit_amount, bedroom_count, bathroom_count,
+                    square_meters, property_type, status, owner_id, primary_image_url, city_lower, country_lower,
+                    search_text, created_at, updated_at)
+                SELECT p.id, p.title, p.description, p.address, p.city, p.country, p.latitude, p.longitude,
+                    p.price_per_month, p.deposit_amount, p.bedroom_count, p.bathroom_count, p.square_meters,
+                    p.property_type, p.status, p.owner_id,
+                    (SELECT i.image_url FROM property_images i WHERE i.property_id = p.id
+                        ORDER BY i.is_primary DESC, i.id LIMIT 1),
+                    LOWER(p.city), LOWER(p.country), LOWER(CONCAT_WS(' ', p.title, p.address, p.city, p.country)),
+                    p.created_at, p.updated_at
+                FROM properties p
+                ON CONFLICT (property_id) DO NOTHING
+                """);
+        jdbc.execute("ANALYZE");
+    }
+
+    /**
+     * Book every third listing for summer 2026 (ACTIVE), every third plus one for early 2026 (PENDING), and
+     * add CANCELLED summer bookings, which must not block, on every seventh
+     */
+    protected static void seedOccupancy(JdbcTemplate jdbc) {
+        jdbc.update("""
+                INSERT INTO property_occupancy (rental_id, property_id, start_date, end_date, status,
+                    source_updated_at)
+                SELECT p.id, p.id, DATE '2026-06-01', DATE '2026-09-01', 'ACTIVE', NOW()
+                FROM properties p WHERE p.id % 3 = 0
+                UNION ALL
+                SELECT 10000000 + p.id, p.id, DATE '2026-01-01', DATE '2026-03-01', 'PENDING', NOW()
+                FROM properties p WHERE p.id % 3 = 1
+                UNION ALL
+                SELECT 20000000 + p.id, p.id, DATE '2026-06-15', DATE '2026-07-15', 'CANCELLED', NOW()
+                FROM properties p WHERE p.id % 7 = 0
+                """);
+        jdbc.execute("ANALYZE property_occupancy");
+    }
+
+    /**
+     * Only the JPA slice; the application class also enables Feign clients and scheduling
+     */
+    @SpringBootConfiguration
+    @AutoConfigurationPackage(basePackageClasses = PropertyServiceApplication.class)
+    @EnableJpaAuditing
+    static class TestConfig {
+    }
+}
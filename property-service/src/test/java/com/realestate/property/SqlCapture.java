@@ -0,0 +1,38 @@
+package com.realestate.property;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records the SQL Hibernate prepares. Enabled per test with
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector=com.realestate.property.SqlCapture}.
+ */
+public class SqlCapture implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    public static String last() {
+        return STATEMENTS.get(STATEMENTS.size() - 1);
+    }
+
+    /**
+     * Everything after the first {@code where}, lowercased
+     */
+    public static String lastWhereClause() {
+        String sql = last().toLowerCase();
+        int where = sql.indexOf(" where ");
+        return where < 0 ? "" : sql.substring(where + " where ".length());
+    }
+}
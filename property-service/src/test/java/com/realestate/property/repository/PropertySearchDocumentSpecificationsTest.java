@@ -0,0 +1,106 @@
+package com.realestate.property.repository;
+
+import com.realestate.property.PropertyServiceApplication;
+import com.realestate.property.SqlCapture;
+import com.realestate.property.entity.PropertyStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * The generated WHERE clause holds a predicate for each filter that is set and nothing for the rest, so
+ * Postgres plans a plain conjunction. Runs on H2; {@link PropertySearchPlanTest} checks the plans.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.realestate.property.SqlCapture"
+})
+class PropertySearchDocumentSpecificationsTest {
+
+    private static final List<String> FILTER_COLUMNS = List.of("search_text", "city_lower", "country_lower",
+            "price_per_month", "bedroom_count", "status", "property_occupancy");
+
+    @Autowired
+    private PropertySearchDocumentRepository searchDocumentRepository;
+
+    @BeforeEach
+    void clear() {
+        SqlCapture.clear();
+    }
+
+    @Test
+    void noFiltersMeansNoPredicates() {
+        count(null, null, null, null, null, null, null, null, null);
+
+        assertFilters(Set.of());
+    }
+
+    @Test
+    void onlySetFiltersArePresent() {
+        count(null, "lis", null, null, null, null, null, null, null);
+        assertFilters(Set.of("city_lower"));
+
+        count("sunny", null, "portugal", null, null, null, null, null, null);
+        assertFilters(Set.of("search_text", "country_lower"));
+
+        count(null, null, null, BigDecimal.valueOf(1000), BigDecimal.valueOf(2000), null, PropertyStatus.AVAILABLE,
+                null, null);
+        assertFilters(Set.of("price_per_month", "status"));
+
+        count(null, null, null, null, null, 3, null, null, null);
+        assertFilters(Set.of("bedroom_count"));
+    }
+
+    @Test
+    void dateRangeAddsOccupancySubquery() {
+        count(null, null, null, null, null, null, null, LocalDate.of(2026, 7, 1), LocalDate.of(2026, 7, 8));
+
+        // The subquery filters occupancy rows by their own status column
+        assertFilters(Set.of("property_occupancy", "status"));
+    }
+
+    @Test
+    void blankTextFiltersAreIgnored() {
+        count(" ", "", null, null, null, null, null, null, null);
+
+        assertFilters(Set.of());
+    }
+
+    private void count(String q, String city, String country, BigDecimal minPrice, BigDecimal maxPrice,
+            Integer bedrooms, PropertyStatus status, LocalDate availableFrom, LocalDate availableTo) {
+        searchDocumentRepository.count(PropertySearchDocumentSpecifications.search(q, city, country, minPrice,
+                maxPrice, bedrooms, status, availableFrom, availableTo));
+    }
+
+    private static void assertFilters(Set<String> expected) {
+        String where = SqlCapture.lastWhereClause();
+        for (String column : FILTER_COLUMNS) {
+            assertEquals(expected.contains(column), where.contains(column), column + " in: " + where);
+        }
+        assertFalse(where.contains("is null"), where);
+        assertFalse(where.contains(" or "), where);
+    }
+
+    /**
+     * Only the JPA slice; the application class also enables Feign clients, which this test does not need
+     */
+    @SpringBootConfiguration
+    @AutoConfigurationPackage(basePackageClasses = PropertyServiceApplication.class)
+    @EnableJpaAuditing
+    static class TestConfig {
+    }
+}
@@ -0,0 +1,102 @@
+package com.realestate.property.repository;
+
+import com.realestate.property.PostgresTestSupport;
+import com.realestate.property.SqlCapture;
+import com.realestate.property.entity.PropertySearchDocument;
+import com.realestate.property.entity.PropertyStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * EXPLAIN regression test: on a large seed, selective search filters must be served by the trigram and
+ * (status, price) indexes from the migrations rather than a sequential scan. Criteria values are inlined so
+ * the captured statement can be explained as is. The seed defaults to 1M listings; lower it with
+ * {@code -Dexplain.properties=...} for a quicker local run.
+ */
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.realestate.property.SqlCapture",
+        "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PropertySearchPlanTest extends PostgresTestSupport {
+
+    private static final int PROPERTIES = Integer.getInteger("explain.properties", 1_000_000);
+    private static boolean seeded;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PropertySearchDocumentRepository searchDocumentRepository;
+
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void seed() {
+        jdbc = new JdbcTemplate(dataSource);
+        if (seeded) {
+            return;
+        }
+        seedProperties(jdbc, PROPERTIES, false);
+        // A rare city and status so the selective filters have something selective to find
+        jdbc.update("""
+                UPDATE property_search_documents
+                SET city = 'Reykjavik', city_lower = 'reykjavik', country = 'Iceland', country_lower = 'iceland'
+                WHERE property_id % 20000 = 7
+                """);
+        jdbc.update("UPDATE property_search_documents SET status = 'MAINTENANCE' WHERE property_id % 5000 = 3");
+        jdbc.execute("ANALYZE property_search_documents");
+        seeded = true;
+    }
+
+    @Test
+    void cityUsesTrigramIndex() {
+        assertPlanUses("idx_search_documents_city_trgm",
+                PropertySearchDocumentSpecifications.search(null, "reykj", null, null, null, null, null, null, null));
+    }
+
+    @Test
+    void countryUsesTrigramIndex() {
+        assertPlanUses("idx_search_documents_country_trgm",
+                PropertySearchDocumentSpecifications.search(null, null, "icela", null, null, null, null, null, null));
+    }
+
+    @Test
+    void freeTextUsesTrigramIndex() {
+        assertPlanUses("idx_search_documents_text_trgm",
+                PropertySearchDocumentSpecifications.search("flat 123457", null, null, null, null, null, null,
+                        null, null));
+    }
+
+    @Test
+    void statusAndPriceUseCompositeIndex() {
+        assertPlanUses("idx_search_documents_status_price",
+                PropertySearchDocumentSpecifications.search(null, null, null, BigDecimal.valueOf(1000),
+                        BigDecimal.valueOf(2000), null, PropertyStatus.MAINTENANCE, null, null));
+    }
+
+    private void assertPlanUses(String index, Specification<PropertySearchDocument> spec) {
+        SqlCapture.clear();
+        searchDocumentRepository.count(spec);
+        String sql = SqlCapture.last();
+        assertFalse(sql.contains("?"), "criteria values should be inlined: " + sql);
+
+        List<String> plan = jdbc.queryForList("EXPLAIN " + sql, String.class);
+        String text = String.join("\n", plan);
+        assertTrue(text.contains(index), "expected " + index + " in plan for " + sql + "\n" + text);
+        assertFalse(text.contains("Seq Scan on property_search_documents"), text);
+    }
+}
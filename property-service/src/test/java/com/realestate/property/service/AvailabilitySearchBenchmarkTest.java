@@ -0,0 +1,93 @@
+package com.realestate.property.service;
+
+import com.realestate.property.LatencyStats;
+import com.realestate.property.PostgresTestSupport;
+import com.realestate.property.entity.PropertyStatus;
+import com.realestate.property.repository.PropertyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Search and facet latency with and without an availability window, over listings where a third hold a
+ * booking in the window. Opt-in, since seeding takes a while:
+ * {@code mvn -pl property-service test -Dtest=AvailabilitySearchBenchmarkTest -Dbenchmark=true
+ * [-Dbenchmark.properties=100000]}
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@Import(PropertyService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AvailabilitySearchBenchmarkTest extends PostgresTestSupport {
+
+    private static final int PROPERTIES = Integer.getInteger("benchmark.properties", 100_000);
+    private static final LocalDate FROM = LocalDate.of(2026, 7, 1);
+    private static final LocalDate TO = LocalDate.of(2026, 7, 15);
+    private static boolean seeded;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PropertyService propertyService;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @MockBean
+    private PropertyCache propertyCache;
+
+    @MockBean
+    private PropertySearchIndexer searchIndexer;
+
+    @BeforeEach
+    void seed() {
+        if (!seeded) {
+            JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+            seedProperties(jdbc, PROPERTIES);
+            seedOccupancy(jdbc);
+            seeded = true;
+        }
+    }
+
+    @Test
+    void measureDateFilteredSearch() {
+        // No cache, so every call runs the facet query
+        PropertyFacetService facets = new PropertyFacetService(propertyRepository, new SimpleMeterRegistry(),
+                List.of(BigDecimal.valueOf(1000), BigDecimal.valueOf(2000)), 20, 0, Duration.ofSeconds(1));
+        assertTrue(propertyService.searchProperties(null, null, null, null, null, null, null, FROM, TO,
+                PageRequest.of(0, 20)).getTotalElements() < PROPERTIES);
+
+        System.out.printf("Availability search over %d properties%n", PROPERTIES);
+        List<LatencyStats> results = List.of(
+                LatencyStats.measure("search, no dates", 20, 200, () -> propertyService.searchProperties(
+                        null, null, null, null, null, null, null, null, null, PageRequest.of(0, 20))),
+                LatencyStats.measure("search, dates", 20, 200, () -> propertyService.searchProperties(
+                        null, null, null, null, null, null, null, FROM, TO, PageRequest.of(0, 20))),
+                LatencyStats.measure("search, dates + city=lis + AVAILABLE", 20, 200,
+                        () -> propertyService.searchProperties(null, "lis", null, null, null, null,
+                                PropertyStatus.AVAILABLE, FROM, TO, PageRequest.of(0, 20))),
+                LatencyStats.measure("scroll, dates", 20, 200, () -> propertyService.scrollProperties(
+                        null, null, null, null, null, null, null, FROM, TO, null, 20)),
+                LatencyStats.measure("facets, no dates", 5, 50, () -> facets.getFacets(
+                        null, null, null, null, null, null, null, null, null)),
+                LatencyStats.measure("facets, dates", 5, 50, () -> facets.getFacets(
+                        null, null, null, null, null, null, null, FROM, TO)));
+        results.forEach(System.out::println);
+    }
+}
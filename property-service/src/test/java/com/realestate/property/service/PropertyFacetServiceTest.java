@@ -0,0 +1,117 @@
+package com.realestate.property.service;
+
+import com.realestate.common.exception.BadRequestException;
+import com.realestate.property.PostgresTestSupport;
+import com.realestate.property.dto.PropertyFacets;
+import com.realestate.property.entity.PropertyStatus;
+import com.realestate.property.repository.PropertyRepository;
+import com.realestate.property.repository.PropertySearchDocumentRepository;
+import com.realestate.property.repository.PropertySearchDocumentSpecifications;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Facet counts must describe the search they sit next to: for any filter, every facet adds up to the
+ * number of documents the search specification matches.
+ */
+class PropertyFacetServiceTest extends PostgresTestSupport {
+
+    private static final int PROPERTIES = 400;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private PropertySearchDocumentRepository searchDocumentRepository;
+
+    private PropertyFacetService facetService;
+
+    @BeforeEach
+    void seed() {
+        seedProperties(new JdbcTemplate(dataSource), PROPERTIES);
+        facetService = new PropertyFacetService(propertyRepository, new SimpleMeterRegistry(),
+                List.of(BigDecimal.valueOf(1000), BigDecimal.valueOf(2000)), 20, 100, Duration.ofSeconds(30));
+    }
+
+    @Test
+    void unfilteredFacetsCoverEveryListing() {
+        PropertyFacets facets = facetService.getFacets(null, null, null, null, null, null, null, null, null);
+
+        assertEveryFacetSumsTo(PROPERTIES, facets);
+        assertEquals(Map.of("AVAILABLE", 360L, "RENTED", 40L), facets.getStatuses());
+    }
+
+    @Test
+    void freeTextNarrowsFacetsLikeSearch() {
+        PropertyFacets facets = facetService.getFacets("sunny", null, null, null, null, null, null, null, null);
+
+        long matching = searchDocumentRepository.count(PropertySearchDocumentSpecifications.search(
+                "sunny", null, null, null, null, null, null, null, null));
+        assertEquals(PROPERTIES / 4, matching);
+        assertEveryFacetSumsTo(matching, facets);
+    }
+
+    @Test
+    void combinedFiltersMatchSearchCount() {
+        PropertyFacets facets = facetService.getFacets("main street", "lis", "portugal",
+                BigDecimal.valueOf(800), BigDecimal.valueOf(3000), 2, PropertyStatus.AVAILABLE, null, null);
+
+        long matching = searchDocumentRepository.count(PropertySearchDocumentSpecifications.search(
+                "main street", "lis", "portugal", BigDecimal.valueOf(800), BigDecimal.valueOf(3000), 2,
+                PropertyStatus.AVAILABLE, null, null));
+        assertTrue(matching > 0);
+        assertEveryFacetSumsTo(matching, facets);
+        assertEquals(Map.of("Lisbon", matching), facets.getCities());
+    }
+
+    @Test
+    void dateRangeExcludesBookedListingsFromFacets() {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        seedOccupancy(jdbc);
+        LocalDate from = LocalDate.of(2026, 7, 1);
+        LocalDate to = LocalDate.of(2026, 7, 8);
+
+        PropertyFacets facets = facetService.getFacets(null, null, null, null, null, null, null, from, to);
+
+        long matching = searchDocumentRepository.count(PropertySearchDocumentSpecifications.search(
+                null, null, null, null, null, null, null, from, to));
+        // Every third listing holds an ACTIVE summer booking; PENDING early-year and CANCELLED ones do not block
+        assertEquals(PROPERTIES - PROPERTIES / 3, matching);
+        assertEveryFacetSumsTo(matching, facets);
+    }
+
+    @Test
+    void dateRangeNeedsBothEnds() {
+        assertThrows(BadRequestException.class, () -> facetService.getFacets(null, null, null, null, null, null,
+                null, LocalDate.of(2026, 7, 1), null));
+    }
+
+    private static void assertEveryFacetSumsTo(long expected, PropertyFacets facets) {
+        assertEquals(expected, sum(facets.getPropertyTypes()), "property types");
+        assertEquals(expected, sum(facets.getStatuses()), "statuses");
+        assertEquals(expected, sum(facets.getBedrooms()), "bedrooms");
+        assertEquals(expected, sum(facets.getPriceBands()), "price bands");
+        assertEquals(expected, sum(facets.getCities()), "cities");
+    }
+
+    private static long sum(Map<String, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
@@ -0,0 +1,136 @@
+package com.realestate.property.service;
+
+import com.realestate.property.LatencyStats;
+import com.realestate.property.PostgresTestSupport;
+import com.realestate.property.entity.PropertyStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Latency of {@code /api/properties/search} reading {@code property_search_documents}, next to the previous
+ * path: filter {@code properties} with {@code LOWER(...) LIKE}, count, then load the images of the page.
+ * Opt-in, since seeding takes a while:
+ * {@code mvn -pl property-service test -Dtest=PropertySearchBenchmarkTest -Dbenchmark=true
+ * [-Dbenchmark.properties=100000]}
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@Import(PropertyService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PropertySearchBenchmarkTest extends PostgresTestSupport {
+
+    private static final int PROPERTIES = Integer.getInteger("benchmark.properties", 100_000);
+    private static final int PAGE_SIZE = 20;
+    private static boolean seeded;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PropertyService propertyService;
+
+    @MockBean
+    private PropertyCache propertyCache;
+
+    @MockBean
+    private PropertySearchIndexer searchIndexer;
+
+    private JdbcTemplate jdbc;
+
+    @BeforeEach
+    void seed() {
+        jdbc = new JdbcTemplate(dataSource);
+        if (!seeded) {
+            seedProperties(jdbc, PROPERTIES);
+            seeded = true;
+        }
+    }
+
+    @Test
+    void compareSearchLatency() {
+        List<Scenario> scenarios = List.of(
+                new Scenario("no filters", null, null, null, null),
+                new Scenario("city=lis", "lis", null, null, null),
+                new Scenario("status=AVAILABLE, 1000..2000", null, PropertyStatus.AVAILABLE,
+                        BigDecimal.valueOf(1000), BigDecimal.valueOf(2000)),
+                new Scenario("city=par, status=AVAILABLE, 1000..2000", "par", PropertyStatus.AVAILABLE,
+                        BigDecimal.valueOf(1000), BigDecimal.valueOf(2000)));
+
+        System.out.printf("Search latency over %d properties, page size %d%n", PROPERTIES, PAGE_SIZE);
+        for (Scenario scenario : scenarios) {
+            assertEquals(legacySearch(scenario).size(), documentSearch(scenario).getNumberOfElements(),
+                    scenario.name());
+            System.out.println(LatencyStats.measure("properties + images: " + scenario.name(), 20, 200,
+                    () -> legacySearch(scenario)));
+            System.out.println(LatencyStats.measure("search documents:    " + scenario.name(), 20, 200,
+                    () -> documentSearch(scenario)));
+        }
+        System.out.println(LatencyStats.measure("search documents:    q=sunny", 20, 200,
+                () -> propertyService.searchProperties("sunny", null, null, null, null, null, null, null, null,
+                        PageRequest.of(0, PAGE_SIZE))));
+    }
+
+    private Page<?> documentSearch(Scenario scenario) {
+        return propertyService.searchProperties(null, scenario.city(), null, scenario.minPrice(),
+                scenario.maxPrice(), null, scenario.status(), null, null, PageRequest.of(0, PAGE_SIZE));
+    }
+
+    /**
+     * The statements the search issued before it moved to the document table
+     */
+    private Map<Long, List<String>> legacySearch(Scenario scenario) {
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (scenario.city() != null) {
+            where.append(" AND LOWER(p.city) LIKE ?");
+            args.add("%" + scenario.city() + "%");
+        }
+        if (scenario.status() != null) {
+            where.append(" AND p.status = ?");
+            args.add(scenario.status().name());
+        }
+        if (scenario.minPrice() != null) {
+            where.append(" AND p.price_per_month >= ?");
+            args.add(scenario.minPrice());
+        }
+        if (scenario.maxPrice() != null) {
+            where.append(" AND p.price_per_month <= ?");
+            args.add(scenario.maxPrice());
+        }
+
+        List<Long> ids = jdbc.queryForList("SELECT p.* FROM properties p" + where
+                        + " ORDER BY p.id LIMIT " + PAGE_SIZE, args.toArray()).stream()
+                .map(row -> ((Number) row.get("id")).longValue())
+                .toList();
+        jdbc.queryForObject("SELECT COUNT(*) FROM properties p" + where, Long.class, args.toArray());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        String placeholders = ids.stream().map(id -> "?").collect(Collectors.joining(", "));
+        return jdbc.queryForList("SELECT i.property_id, i.image_url FROM property_images i WHERE i.property_id IN ("
+                        + placeholders + ")", ids.toArray()).stream()
+                .collect(Collectors.groupingBy(row -> ((Number) row.get("property_id")).longValue(),
+                        Collectors.mapping(row -> (String) row.get("image_url"), Collectors.toList())));
+    }
+
+    private record Scenario(String name, String city, PropertyStatus status, BigDecimal minPrice,
+            BigDecimal maxPrice) {
+    }
+}
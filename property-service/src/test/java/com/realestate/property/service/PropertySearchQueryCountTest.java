@@ -0,0 +1,171 @@
+package com.realestate.property.service;
+
+import com.realestate.property.PropertyServiceApplication;
+import com.realestate.property.entity.Property;
+import com.realestate.property.entity.PropertyImage;
+import com.realestate.property.entity.PropertySearchDocument;
+import com.realestate.property.entity.PropertyStatus;
+import com.realestate.property.entity.PropertyType;
+import com.realestate.property.repository.PropertyRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Guards against N+1 regressions: the statements needed for a page of results must not grow with the
+ * page size. Runs against H2 with the schema generated from the entities, so Postgres-only features
+ * (Flyway migrations, earthdistance) are not exercised here.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(PropertyService.class)
+class PropertySearchQueryCountTest {
+
+    private static final int PROPERTIES = 30;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PropertyRepository propertyRepository;
+
+    @Autowired
+    private PropertyService propertyService;
+
+    @MockBean
+    private PropertyCache propertyCache;
+
+    @MockBean
+    private PropertySearchIndexer searchIndexer;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seed() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < PROPERTIES; i++) {
+            Property property = entityManager.persist(property(i));
+            entityManager.persist(PropertyImage.builder()
+                    .property(property)
+                    .imageUrl("/images/" + i + "/a.jpg")
+                    .isPrimary(true)
+                    .build());
+            entityManager.persist(PropertyImage.builder()
+                    .property(property)
+                    .imageUrl("/images/" + i + "/b.jpg")
+                    .build());
+            entityManager.persist(document(property, now.minusMinutes(i)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void searchPageUsesSameStatementsForAnySize() {
+        assertEquals(2, searchStatements(5), "page select and count");
+        assertEquals(2, searchStatements(20), "page select and count");
+    }
+
+    @Test
+    void mappingPropertiesLoadsImagesInOneStatement() {
+        assertEquals(1, mappingStatements(5));
+        assertEquals(1, mappingStatements(20));
+    }
+
+    private long searchStatements(int size) {
+        entityManager.clear();
+        statistics.clear();
+        Page<?> page = propertyService.searchProperties(null, null, null, null, null, null, null, null, null,
+                PageRequest.of(0, size));
+        assertEquals(size, page.getNumberOfElements());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private long mappingStatements(int size) {
+        entityManager.clear();
+        List<Property> properties = propertyRepository.findAll(PageRequest.of(0, size, Sort.by("id")))
+                .getContent();
+        statistics.clear();
+        propertyService.toResponses(properties)
+                .forEach(response -> assertEquals(2, response.getImageUrls().size()));
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static Property property(int i) {
+        return Property.builder()
+                .title("Flat " + i)
+                .address(i + " Main Street")
+                .city("Lisbon")
+                .country("Portugal")
+                .pricePerMonth(BigDecimal.valueOf(1000 + i))
+                .depositAmount(BigDecimal.valueOf(2000))
+                .bedroomCount(2)
+                .bathroomCount(1)
+                .squareMeters(70.0)
+                .propertyType(PropertyType.APARTMENT)
+                .ownerId(1L)
+                .build();
+    }
+
+    private static PropertySearchDocument document(Property property, LocalDateTime createdAt) {
+        return PropertySearchDocument.builder()
+                .id(property.getId())
+                .title(property.getTitle())
+                .address(property.getAddress())
+                .city(property.getCity())
+                .country(property.getCountry())
+                .pricePerMonth(property.getPricePerMonth())
+                .depositAmount(property.getDepositAmount())
+                .bedroomCount(property.getBedroomCount())
+                .bathroomCount(property.getBathroomCount())
+                .squareMeters(property.getSquareMeters())
+                .propertyType(property.getPropertyType())
+                .status(PropertyStatus.AVAILABLE)
+                .ownerId(property.getOwnerId())
+                .primaryImageUrl("/images/" + property.getId())
+                .cityLower("lisbon")
+                .countryLower("portugal")
+                .searchText(property.getTitle().toLowerCase())
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .indexedAt(createdAt)
+                .build();
+    }
+
+    /**
+     * Only the JPA slice; the application class also enables Feign clients, which this test does not need
+     */
+    @SpringBootConfiguration
+    @AutoConfigurationPackage(basePackageClasses = PropertyServiceApplication.class)
+    @EnableJpaAuditing
+    static class TestConfig {
+    }
+}
@@ -1,15 +1,19 @@
 package com.realestate.rental;
 
+import com.realestate.common.outbox.EnableOutbox;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableDiscoveryClient
 @EnableFeignClients
 @EnableJpaAuditing
+@EnableScheduling
+@EnableOutbox
 public class RentalServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(RentalServiceApplication.class, args);
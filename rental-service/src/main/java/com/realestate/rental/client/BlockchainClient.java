@@ -16,6 +16,9 @@ public interface BlockchainClient {
     @PostMapping("/api/blockchain/transaction")
     ResponseWrapper<Map<String, Object>> executeTransaction(@RequestBody SmartContractRequest request);
 
+    @PostMapping("/api/blockchain/transaction/submit")
+    ResponseWrapper<Map<String, Object>> submitTransaction(@RequestBody SmartContractRequest request);
+
     @GetMapping("/api/blockchain/contract/{address}")
     ResponseWrapper<Map<String, Object>> getContractState(@PathVariable("address") String address);
 }
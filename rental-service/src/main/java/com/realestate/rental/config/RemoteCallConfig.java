@@ -0,0 +1,62 @@
+package com.realestate.rental.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Bounded pool for fanning out Feign calls off the request thread.
+ * When the pool and queue are full the caller runs the call itself instead of failing.
+ * <p>
+ * The deadline on a user lookup only completes its future; the Feign call itself runs on until Feign
+ * times out. The user-service Feign timeouts must therefore fit inside the lookup deadline, or abandoned
+ * lookups would pile up on this pool.
+ */
+@Configuration
+public class RemoteCallConfig {
+
+    @Value("${rental.remote-calls.core-pool-size:16}")
+    private int corePoolSize;
+
+    @Value("${rental.remote-calls.max-pool-size:64}")
+    private int maxPoolSize;
+
+    @Value("${rental.remote-calls.queue-capacity:256}")
+    private int queueCapacity;
+
+    @Value("${rental.remote-calls.user-lookup-timeout:2s}")
+    private Duration userLookupTimeout;
+
+    // Feign's own defaults apply when neither the client nor the default config sets a value
+    @Value("${spring.cloud.openfeign.client.config.user-service.connect-timeout:"
+            + "${spring.cloud.openfeign.client.config.default.connect-timeout:10000}}")
+    private long userServiceConnectTimeoutMs;
+
+    @Value("${spring.cloud.openfeign.client.config.user-service.read-timeout:"
+            + "${spring.cloud.openfeign.client.config.default.read-timeout:60000}}")
+    private long userServiceReadTimeoutMs;
+
+    @Bean
+    public ThreadPoolTaskExecutor remoteCallExecutor() {
+        long feignTimeoutMs = userServiceConnectTimeoutMs + userServiceReadTimeoutMs;
+        if (feignTimeoutMs > userLookupTimeout.toMillis()) {
+            throw new IllegalStateException("user-service Feign timeouts (" + feignTimeoutMs
+                    + " ms connect + read) exceed rental.remote-calls.user-lookup-timeout (" + userLookupTimeout
+                    + ")");
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("remote-call-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+}
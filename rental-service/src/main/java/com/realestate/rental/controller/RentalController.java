@@ -1,5 +1,6 @@
 package com.realestate.rental.controller;
 
+import com.realestate.common.dto.CursorPage;
 import com.realestate.common.dto.ResponseWrapper;
 import com.realestate.rental.dto.RentalRequest;
 import com.realestate.rental.dto.RentalResponse;
@@ -8,14 +9,18 @@ import com.realestate.rental.service.RentalService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
 @RestController
+@Validated
 @RequestMapping("/api/rentals")
 @RequiredArgsConstructor
 @Tag(name = "Rental Management", description = "APIs for rental agreements")
@@ -46,6 +51,14 @@ public class RentalController {
         return ResponseEntity.ok(ResponseWrapper.success(rentalService.getAllRentals(pageable)));
     }
 
+    @GetMapping("/scroll")
+    @Operation(summary = "Get all rentals, keyset-paginated (newest first, no total count)")
+    public ResponseEntity<ResponseWrapper<CursorPage<RentalResponse>>> scrollAllRentals(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(ResponseWrapper.success(rentalService.scrollAllRentals(cursor, size)));
+    }
+
     @GetMapping("/tenant/{tenantId}")
     @Operation(summary = "Get rentals by tenant")
     public ResponseEntity<ResponseWrapper<org.springframework.data.domain.Page<RentalResponse>>> getRentalsByTenant(
@@ -56,6 +69,15 @@ public class RentalController {
         return ResponseEntity.ok(ResponseWrapper.success(rentalService.getRentalsByTenant(tenantId, pageable)));
     }
 
+    @GetMapping("/tenant/{tenantId}/scroll")
+    @Operation(summary = "Get rentals by tenant, keyset-paginated (newest first, no total count)")
+    public ResponseEntity<ResponseWrapper<CursorPage<RentalResponse>>> scrollRentalsByTenant(
+            @PathVariable Long tenantId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(ResponseWrapper.success(rentalService.scrollRentalsByTenant(tenantId, cursor, size)));
+    }
+
     @GetMapping("/owner/{ownerId}")
     @Operation(summary = "Get rentals by owner")
     public ResponseEntity<ResponseWrapper<org.springframework.data.domain.Page<RentalResponse>>> getRentalsByOwner(
@@ -66,6 +88,15 @@ public class RentalController {
         return ResponseEntity.ok(ResponseWrapper.success(rentalService.getRentalsByOwner(ownerId, pageable)));
     }
 
+    @GetMapping("/owner/{ownerId}/scroll")
+    @Operation(summary = "Get rentals by owner, keyset-paginated (newest first, no total count)")
+    public ResponseEntity<ResponseWrapper<CursorPage<RentalResponse>>> scrollRentalsByOwner(
+            @PathVariable Long ownerId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
+        return ResponseEntity.ok(ResponseWrapper.success(rentalService.scrollRentalsByOwner(ownerId, cursor, size)));
+    }
+
     @PatchMapping("/{id}/status")
     @Operation(summary = "Update rental status")
     public ResponseEntity<ResponseWrapper<RentalResponse>> updateStatus(
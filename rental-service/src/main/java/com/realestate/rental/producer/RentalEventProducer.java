@@ -1,9 +1,10 @@
 package com.realestate.rental.producer;
 
 import com.realestate.common.dto.NotificationEvent;
+import com.realestate.common.dto.RentalEvent;
+import com.realestate.common.outbox.OutboxService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -18,10 +19,24 @@ public class RentalEventProducer {
     @Value("${rabbitmq.routing.key.notification:notification.key}")
     private String routingKey;
 
-    private final RabbitTemplate rabbitTemplate;
+    @Value("${rabbitmq.routing.key.rental:rental.updated}")
+    private String rentalRoutingKey;
 
+    private final OutboxService outboxService;
+
+    /**
+     * Queue the event in the outbox; must be called inside the transaction that persists the change
+     */
     public void sendNotificationEvent(NotificationEvent event) {
-        log.info(String.format("Sending notification event -> %s", event.toString()));
-        rabbitTemplate.convertAndSend(exchange, routingKey, event);
+        log.info(String.format("Queueing notification event -> %s", event.toString()));
+        outboxService.enqueue(exchange, routingKey, event);
+    }
+
+    /**
+     * Queue a rental lifecycle event in the outbox; must be called inside the transaction that persists the change
+     */
+    public void sendRentalEvent(RentalEvent event) {
+        log.info("Queueing rental event -> {}", event);
+        outboxService.enqueue(exchange, rentalRoutingKey, event);
     }
 }
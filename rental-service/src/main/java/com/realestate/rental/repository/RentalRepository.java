@@ -1,6 +1,9 @@
 package com.realestate.rental.repository;
 
 import com.realestate.rental.entity.RentalAgreement;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -18,6 +21,14 @@ public interface RentalRepository extends JpaRepository<RentalAgreement, Long> {
     org.springframework.data.domain.Page<RentalAgreement> findByOwnerId(Long ownerId,
             org.springframework.data.domain.Pageable pageable);
 
+    Window<RentalAgreement> findByTenantIdOrderByCreatedAtDescIdDesc(Long tenantId, ScrollPosition position,
+            Limit limit);
+
+    Window<RentalAgreement> findByOwnerIdOrderByCreatedAtDescIdDesc(Long ownerId, ScrollPosition position,
+            Limit limit);
+
+    Window<RentalAgreement> findAllByOrderByCreatedAtDescIdDesc(ScrollPosition position, Limit limit);
+
     List<RentalAgreement> findByPropertyId(Long propertyId);
 
     org.springframework.data.domain.Page<RentalAgreement> findByPropertyId(Long propertyId,
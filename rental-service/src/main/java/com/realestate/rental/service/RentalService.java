@@ -1,8 +1,14 @@
 package com.realestate.rental.service;
 
+import com.realestate.common.dto.CursorPage;
 import com.realestate.common.dto.NotificationEvent;
+import com.realestate.common.dto.RentalEvent;
 import com.realestate.common.dto.Role;
 import com.realestate.common.dto.UserResponse;
+import com.realestate.common.exception.ResourceNotFoundException;
+import com.realestate.common.security.CurrentUserResolver;
+import com.realestate.common.security.UserPrincipal;
+import com.realestate.common.util.CursorCodec;
 import com.realestate.rental.dto.RentalRequest;
 import com.realestate.rental.dto.RentalResponse;
 import com.realestate.rental.entity.RentalAgreement;
@@ -11,11 +17,20 @@ import com.realestate.rental.producer.RentalEventProducer;
 import com.realestate.rental.repository.RentalRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,25 +42,26 @@ public class RentalService {
     private final RentalEventProducer rentalEventProducer;
     private final com.realestate.rental.client.BlockchainClient blockchainClient;
     private final com.realestate.rental.client.UserClient userClient;
+    private final ThreadPoolTaskExecutor remoteCallExecutor;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    @Value("${rental.remote-calls.user-lookup-timeout:2s}")
+    private Duration userLookupTimeout;
+
+    /**
+     * Not transactional on purpose: the user lookups run before and the blockchain submission after the
+     * insert transaction, so no DB connection is held while waiting on another service. The notification
+     * is written to the outbox inside that transaction and only published once it commits.
+     */
     public RentalResponse createRental(RentalRequest request) {
         log.info("Creating rental agreement for property: {}", request.getPropertyId());
 
-        // Fetch user data for extra information
-        com.realestate.common.dto.UserResponse tenant = null;
-        com.realestate.common.dto.UserResponse owner = null;
-        try {
-            var tenantResp = userClient.getUserById(request.getTenantId());
-            if (tenantResp != null)
-                tenant = tenantResp.getData();
-
-            var ownerResp = userClient.getUserById(request.getOwnerId());
-            if (ownerResp != null)
-                owner = ownerResp.getData();
-        } catch (Exception e) {
-            log.warn("Could not fetch user data for rental creation: {}", e.getMessage());
-        }
+        // Identity forwarded by the gateway covers the caller; only the other party needs a lookup
+        UserPrincipal caller = CurrentUserResolver.current().orElse(null);
+        CompletableFuture<UserResponse> tenantLookup = resolveUserAsync(request.getTenantId(), caller);
+        CompletableFuture<UserResponse> ownerLookup = resolveUserAsync(request.getOwnerId(), caller);
+        UserResponse tenant = tenantLookup.join();
+        UserResponse owner = ownerLookup.join();
 
         RentalAgreement agreement = RentalAgreement.builder()
                 .propertyId(request.getPropertyId())
@@ -58,7 +74,20 @@ public class RentalService {
                 .status(RentalStatus.PENDING)
                 .build();
 
-        RentalAgreement savedAgreement = rentalRepository.save(agreement);
+        String tenantEmail = (tenant != null) ? tenant.getEmail() : "tenant@example.com";
+        RentalAgreement savedAgreement = transactionTemplate.execute(status -> {
+            RentalAgreement saved = rentalRepository.save(agreement);
+            rentalEventProducer.sendNotificationEvent(NotificationEvent.builder()
+                    .recipientId(saved.getTenantId())
+                    .recipientEmail(tenantEmail)
+                    .subject("Rental Agreement Created")
+                    .message("Your rental agreement for property " + saved.getPropertyId()
+                            + " has been created.")
+                    .type("RENTAL_CREATED")
+                    .build());
+            rentalEventProducer.sendRentalEvent(toEvent(saved));
+            return saved;
+        });
 
         // Record agreement on blockchain
         try {
@@ -75,37 +104,44 @@ public class RentalService {
                     "rentAmount", agreement.getMonthlyRent(),
                     "deposit", agreement.getDepositAmount()));
 
-            var response = blockchainClient.executeTransaction(blockchainRequest);
+            var response = blockchainClient.submitTransaction(blockchainRequest);
             if (response != null && response.getData() != null) {
-                log.info("Blockchain transaction successful. Hash: {}", response.getData().get("transactionHash"));
+                log.info("Blockchain transaction broadcast. Hash: {}", response.getData().get("transactionHash"));
             }
         } catch (Exception e) {
             log.error("Failed to record agreement on blockchain", e);
         }
 
-        // Send notification event
-        try {
-            String tenantEmail = (tenant != null) ? tenant.getEmail() : "tenant@example.com";
+        return mapToResponse(savedAgreement);
+    }
 
-            NotificationEvent event = NotificationEvent.builder()
-                    .recipientId(savedAgreement.getTenantId())
-                    .recipientEmail(tenantEmail)
-                    .subject("Rental Agreement Created")
-                    .message("Your rental agreement for property " + savedAgreement.getPropertyId()
-                            + " has been created.")
-                    .type("RENTAL_CREATED")
-                    .build();
-            rentalEventProducer.sendNotificationEvent(event);
-        } catch (Exception e) {
-            log.error("Failed to send notification event", e);
+    /**
+     * Resolve a party of the rental, falling back to {@code null} when the lookup fails or exceeds its deadline
+     */
+    private CompletableFuture<UserResponse> resolveUserAsync(Long userId, UserPrincipal caller) {
+        if (caller != null && caller.isUser(userId)) {
+            return CompletableFuture.completedFuture(UserResponse.builder()
+                    .id(caller.getUserId())
+                    .email(caller.getEmail())
+                    .role(caller.getRole())
+                    .walletAddress(caller.getWalletAddress())
+                    .build());
         }
 
-        return mapToResponse(savedAgreement);
+        return CompletableFuture.supplyAsync(() -> {
+                    var response = userClient.getUserById(userId);
+                    return response != null ? response.getData() : null;
+                }, remoteCallExecutor)
+                .orTimeout(userLookupTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    log.warn("Could not fetch user {} for rental creation: {}", userId, e.getMessage());
+                    return null;
+                });
     }
 
     public RentalResponse getRentalById(Long id) {
         RentalAgreement agreement = rentalRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Rental agreement not found with id: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Rental agreement", "id", id));
         return mapToResponse(agreement);
     }
 
@@ -139,16 +175,63 @@ public class RentalService {
                 .map(this::mapToResponse);
     }
 
+    public CursorPage<RentalResponse> scrollRentalsByTenant(Long tenantId, String cursor, int size) {
+        return toCursorPage(rentalRepository.findByTenantIdOrderByCreatedAtDescIdDesc(
+                tenantId, scrollPosition(cursor), Limit.of(size)));
+    }
+
+    public CursorPage<RentalResponse> scrollRentalsByOwner(Long ownerId, String cursor, int size) {
+        return toCursorPage(rentalRepository.findByOwnerIdOrderByCreatedAtDescIdDesc(
+                ownerId, scrollPosition(cursor), Limit.of(size)));
+    }
+
+    public CursorPage<RentalResponse> scrollAllRentals(String cursor, int size) {
+        return toCursorPage(rentalRepository.findAllByOrderByCreatedAtDescIdDesc(
+                scrollPosition(cursor), Limit.of(size)));
+    }
+
     @Transactional
     public RentalResponse updateStatus(Long id, RentalStatus status) {
         RentalAgreement agreement = rentalRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Rental agreement not found with id: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Rental agreement", "id", id));
 
         agreement.setStatus(status);
-        RentalAgreement updated = rentalRepository.save(agreement);
+        // Flush so updatedAt is current before it is used to order the event
+        RentalAgreement updated = rentalRepository.saveAndFlush(agreement);
+        rentalEventProducer.sendRentalEvent(toEvent(updated));
         return mapToResponse(updated);
     }
 
+    private static ScrollPosition scrollPosition(String cursor) {
+        return (cursor == null || cursor.isBlank())
+                ? ScrollPosition.keyset()
+                : ScrollPosition.forward(CursorCodec.decode(cursor));
+    }
+
+    private CursorPage<RentalResponse> toCursorPage(Window<RentalAgreement> window) {
+        List<RentalAgreement> rows = window.getContent();
+        RentalAgreement last = rows.isEmpty() ? null : rows.get(rows.size() - 1);
+        return CursorPage.<RentalResponse>builder()
+                .content(rows.stream().map(this::mapToResponse).collect(Collectors.toList()))
+                .size(rows.size())
+                .hasNext(window.hasNext())
+                .nextCursor(window.hasNext() && last != null
+                        ? CursorCodec.encode(last.getCreatedAt(), last.getId())
+                        : null)
+                .build();
+    }
+
+    private static RentalEvent toEvent(RentalAgreement agreement) {
+        return RentalEvent.builder()
+                .rentalId(agreement.getId())
+                .propertyId(agreement.getPropertyId())
+                .status(agreement.getStatus().name())
+                .startDate(agreement.getStartDate())
+                .endDate(agreement.getEndDate())
+                .updatedAt(agreement.getUpdatedAt())
+                .build();
+    }
+
     private RentalResponse mapToResponse(RentalAgreement agreement) {
         return RentalResponse.builder()
                 .id(agreement.getId())
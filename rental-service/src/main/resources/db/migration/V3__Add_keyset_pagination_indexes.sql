@@ -0,0 +1,4 @@
+-- Supports newest-first keyset scrolling per tenant, per owner and overall
+CREATE INDEX IF NOT EXISTS idx_rental_agreements_tenant_created ON rental_agreements(tenant_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_rental_agreements_owner_created ON rental_agreements(owner_id, created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_rental_agreements_created_id ON rental_agreements(created_at DESC, id DESC);
@@ -0,0 +1,19 @@
+-- Backfill property-service's property_occupancy calendar. It is only fed by rental events, and rentals
+-- created before it existed never produced one. The tables live in different databases, so instead of
+-- copying rows this queues one RentalEvent per PENDING/ACTIVE agreement in the outbox; the relay publishes
+-- them like any other event. property-service upserts by rental id and ignores older updatedAt values,
+-- so replaying an event it already applied is harmless.
+INSERT INTO outbox_events (exchange, routing_key, payload_type, payload)
+SELECT '${rental_exchange}',
+       '${rental_routing_key}',
+       'com.realestate.common.dto.RentalEvent',
+       json_build_object(
+           'rentalId', id,
+           'propertyId', property_id,
+           'status', status,
+           'startDate', start_date,
+           'endDate', end_date,
+           'updatedAt', updated_at)::text
+FROM rental_agreements
+WHERE status IN ('PENDING', 'ACTIVE')
+ORDER BY id;
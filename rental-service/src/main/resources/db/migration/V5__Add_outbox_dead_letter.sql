@@ -0,0 +1,8 @@
+-- Rows that ran out of publish attempts; kept for inspection and no longer picked up by the relay
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS dead_lettered_at TIMESTAMP;
+
+DROP INDEX IF EXISTS idx_outbox_events_unpublished;
+CREATE INDEX IF NOT EXISTS idx_outbox_events_unpublished
+    ON outbox_events(id) WHERE published_at IS NULL AND dead_lettered_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_outbox_events_dead_lettered
+    ON outbox_events(id) WHERE dead_lettered_at IS NOT NULL;
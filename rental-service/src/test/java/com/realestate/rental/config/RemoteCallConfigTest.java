@@ -0,0 +1,33 @@
+package com.realestate.rental.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RemoteCallConfigTest {
+
+    @Test
+    void acceptsFeignTimeoutsWithinLookupDeadline() {
+        assertNotNull(config(Duration.ofSeconds(2), 500, 1500).remoteCallExecutor());
+    }
+
+    @Test
+    void rejectsFeignTimeoutsLongerThanLookupDeadline() {
+        assertThrows(IllegalStateException.class, () -> config(Duration.ofSeconds(2), 2000, 5000).remoteCallExecutor());
+    }
+
+    private static RemoteCallConfig config(Duration lookupTimeout, long connectMs, long readMs) {
+        RemoteCallConfig config = new RemoteCallConfig();
+        ReflectionTestUtils.setField(config, "corePoolSize", 2);
+        ReflectionTestUtils.setField(config, "maxPoolSize", 2);
+        ReflectionTestUtils.setField(config, "queueCapacity", 10);
+        ReflectionTestUtils.setField(config, "userLookupTimeout", lookupTimeout);
+        ReflectionTestUtils.setField(config, "userServiceConnectTimeoutMs", connectMs);
+        ReflectionTestUtils.setField(config, "userServiceReadTimeoutMs", readMs);
+        return config;
+    }
+}
@@ -0,0 +1,258 @@
+package com.realestate.rental.service;
+
+import com.realestate.common.dto.NotificationEvent;
+import com.realestate.rental.client.BlockchainClient;
+import com.realestate.rental.client.UserClient;
+import com.realestate.rental.config.RemoteCallConfig;
+import com.realestate.rental.dto.RentalRequest;
+import com.realestate.rental.entity.RentalAgreement;
+import com.realestate.rental.producer.RentalEventProducer;
+import com.realestate.rental.repository.RentalRepository;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.cloud.openfeign.FeignAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@code createRental} against stub user-service and blockchain endpoints reached through the real Feign
+ * clients: the two user lookups run in parallel, a slow or failing lookup is cut at its deadline without
+ * failing the rental, and the Feign timeouts free the pool thread of an abandoned lookup.
+ */
+@SpringBootTest(classes = RentalServiceRemoteCallTest.TestConfig.class, properties = {
+        "rental.remote-calls.user-lookup-timeout=1s",
+        "spring.cloud.openfeign.client.config.user-service.connect-timeout=200",
+        "spring.cloud.openfeign.client.config.user-service.read-timeout=800"
+})
+class RentalServiceRemoteCallTest {
+
+    private static final long TENANT_ID = 1;
+    private static final long OWNER_ID = 2;
+
+    private static final HttpServer STUB = startStub();
+    // Per user id: response delay in ms, or a negative value to answer 500
+    private static final Map<Long, Long> USER_DELAYS = new ConcurrentHashMap<>();
+    private static final AtomicInteger USER_CALLS_IN_FLIGHT = new AtomicInteger();
+    private static final AtomicInteger MAX_USER_CALLS_IN_FLIGHT = new AtomicInteger();
+    private static final AtomicLong RENTAL_IDS = new AtomicLong();
+
+    @Autowired
+    private RentalService rentalService;
+
+    @Autowired
+    private ThreadPoolTaskExecutor remoteCallExecutor;
+
+    @MockBean
+    private RentalRepository rentalRepository;
+
+    @MockBean
+    private RentalEventProducer rentalEventProducer;
+
+    @DynamicPropertySource
+    static void stubUrls(DynamicPropertyRegistry registry) {
+        String url = "http://127.0.0.1:" + STUB.getAddress().getPort();
+        registry.add("spring.cloud.openfeign.client.config.user-service.url", () -> url);
+        registry.add("spring.cloud.openfeign.client.config.blockchain-integration-service.url", () -> url);
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.stop(0);
+    }
+
+    @BeforeEach
+    void setUp() {
+        USER_DELAYS.clear();
+        MAX_USER_CALLS_IN_FLIGHT.set(0);
+        when(rentalRepository.save(any(RentalAgreement.class))).thenAnswer(invocation -> {
+            RentalAgreement agreement = invocation.getArgument(0);
+            agreement.setId(RENTAL_IDS.incrementAndGet());
+            return agreement;
+        });
+        // First call pays for Feign client setup
+        rentalService.createRental(request());
+    }
+
+    @Test
+    void looksUpBothPartiesInParallel() {
+        USER_DELAYS.put(TENANT_ID, 300L);
+        USER_DELAYS.put(OWNER_ID, 300L);
+        MAX_USER_CALLS_IN_FLIGHT.set(0);
+
+        long elapsed = timeMillis(() -> rentalService.createRental(request()));
+
+        assertEquals(2, MAX_USER_CALLS_IN_FLIGHT.get(), "tenant and owner lookups overlap");
+        assertTrue(elapsed < 550, "two 300 ms lookups took " + elapsed + " ms");
+    }
+
+    @Test
+    void slowLookupIsCutAtDeadlineAndReleasesItsThread() throws InterruptedException {
+        USER_DELAYS.put(TENANT_ID, 3000L);
+
+        long elapsed = timeMillis(() -> assertNotNull(rentalService.createRental(request()).getId()));
+
+        assertTrue(elapsed < 1400, "1 s lookup deadline, took " + elapsed + " ms");
+        assertEquals("tenant@example.com", lastNotification().getRecipientEmail());
+
+        // Feign gives up after connect + read timeout, well before the stub would answer
+        long deadline = System.currentTimeMillis() + 1500;
+        while (remoteCallExecutor.getActiveCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(0, remoteCallExecutor.getActiveCount(), "abandoned lookup still holds a pool thread");
+    }
+
+    @Test
+    void failingLookupFallsBackWithoutFailingTheRental() {
+        USER_DELAYS.put(TENANT_ID, -1L);
+
+        long elapsed = timeMillis(() -> assertNotNull(rentalService.createRental(request()).getId()));
+
+        assertTrue(elapsed < 500, "failed lookup took " + elapsed + " ms");
+        assertEquals("tenant@example.com", lastNotification().getRecipientEmail());
+    }
+
+    @Test
+    void tracksCreateRentalTailLatency() {
+        USER_DELAYS.put(TENANT_ID, 20L);
+        USER_DELAYS.put(OWNER_ID, 20L);
+        int calls = 200;
+
+        long[] millis = new long[calls];
+        for (int i = 0; i < calls; i++) {
+            millis[i] = timeMillis(() -> rentalService.createRental(request()));
+        }
+        Arrays.sort(millis);
+        long p50 = millis[calls / 2 - 1];
+        long p99 = millis[(int) Math.ceil(calls * 0.99) - 1];
+        System.out.printf("createRental with 20 ms user lookups: p50 %d ms, p99 %d ms, max %d ms%n", p50, p99,
+                millis[calls - 1]);
+
+        // Parallel lookups: one lookup's latency plus local work, far below two sequential ones
+        assertTrue(p99 < 200, "p99 " + p99 + " ms");
+    }
+
+    private NotificationEvent lastNotification() {
+        ArgumentCaptor<NotificationEvent> events = ArgumentCaptor.forClass(NotificationEvent.class);
+        verify(rentalEventProducer, atLeastOnce()).sendNotificationEvent(events.capture());
+        return events.getValue();
+    }
+
+    private static RentalRequest request() {
+        RentalRequest request = new RentalRequest();
+        request.setPropertyId(10L);
+        request.setTenantId(TENANT_ID);
+        request.setOwnerId(OWNER_ID);
+        request.setStartDate(LocalDate.now().plusDays(7));
+        request.setEndDate(LocalDate.now().plusMonths(12));
+        request.setMonthlyRent(BigDecimal.valueOf(1200));
+        request.setDepositAmount(BigDecimal.valueOf(2400));
+        return request;
+    }
+
+    private static long timeMillis(Runnable call) {
+        long started = System.nanoTime();
+        call.run();
+        return Duration.ofNanos(System.nanoTime() - started).toMillis();
+    }
+
+    private static HttpServer startStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/api/users/profile/", RentalServiceRemoteCallTest::user);
+            server.createContext("/api/blockchain/transaction/submit", exchange ->
+                    reply(exchange, 200, "{\"status\":200,\"data\":{\"transactionHash\":\"0xabc\"}}"));
+            server.setExecutor(Executors.newCachedThreadPool());
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void user(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        long id = Long.parseLong(path.substring(path.lastIndexOf('/') + 1));
+        long delay = USER_DELAYS.getOrDefault(id, 0L);
+        int inFlight = USER_CALLS_IN_FLIGHT.incrementAndGet();
+        MAX_USER_CALLS_IN_FLIGHT.accumulateAndGet(inFlight, Math::max);
+        try {
+            if (delay < 0) {
+                reply(exchange, 500, "{\"status\":500,\"message\":\"boom\"}");
+                return;
+            }
+            Thread.sleep(delay);
+            reply(exchange, 200, "{\"status\":200,\"data\":{\"id\":" + id + ",\"email\":\"user" + id
+                    + "@example.com\"}}");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // The client gave up first
+        } finally {
+            USER_CALLS_IN_FLIGHT.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private static void reply(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Configuration
+    @ImportAutoConfiguration({JacksonAutoConfiguration.class, HttpMessageConvertersAutoConfiguration.class,
+            FeignAutoConfiguration.class})
+    @EnableFeignClients(clients = {UserClient.class, BlockchainClient.class})
+    @Import({RentalService.class, RemoteCallConfig.class})
+    static class TestConfig {
+
+        @Bean
+        TransactionTemplate transactionTemplate() {
+            return new TransactionTemplate(mock(PlatformTransactionManager.class));
+        }
+    }
+}
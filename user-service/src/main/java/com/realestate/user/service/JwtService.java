@@ -32,6 +32,9 @@ public class JwtService {
         claims.put("userId", user.getId());
         claims.put("role", user.getRole().name());
         claims.put("email", user.getEmail());
+        if (user.getWalletAddress() != null) {
+            claims.put("walletAddress", user.getWalletAddress());
+        }
 
         return Jwts.builder()
                 .claims(claims)